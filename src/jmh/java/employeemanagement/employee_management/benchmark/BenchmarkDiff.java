@@ -0,0 +1,102 @@
+package employeemanagement.employee_management.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files benchmark by benchmark (same name and parameters)
+ * A change counts as a regression when it is worse by more than 5% and by more than the
+ * combined error of both runs. Usable on its own: BenchmarkDiff baseline.json current.json [diff.json]
+ */
+public final class BenchmarkDiff {
+
+    private static final double THRESHOLD = 0.05;
+
+    private BenchmarkDiff() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkDiff <baseline.json> <current.json> [diff.json]");
+            System.exit(2);
+        }
+        Path current = Path.of(args[1]);
+        compare(Path.of(args[0]), current, args.length > 2 ? Path.of(args[2]) : current.resolveSibling("jmh-diff.json"));
+    }
+
+    /**
+     * @return number of regressions
+     */
+    public static int compare(Path baselineFile, Path currentFile, Path diffFile) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        Map<String, JsonNode> baseline = index(objectMapper.readTree(baselineFile.toFile()));
+        Map<String, JsonNode> current = index(objectMapper.readTree(currentFile.toFile()));
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        int regressions = 0;
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            if (before == null) {
+                continue;
+            }
+            JsonNode after = entry.getValue();
+            String mode = after.path("mode").asText();
+            double oldScore = before.path("primaryMetric").path("score").asDouble();
+            double newScore = after.path("primaryMetric").path("score").asDouble();
+            double error = finite(before.path("primaryMetric").path("scoreError").asDouble())
+                    + finite(after.path("primaryMetric").path("scoreError").asDouble());
+            double change = oldScore == 0 ? 0 : (newScore - oldScore) / oldScore;
+            // Throughput: higher is better; time-based modes: lower is better
+            double worse = "thrpt".equals(mode) ? -change : change;
+            boolean regression = worse > THRESHOLD && Math.abs(newScore - oldScore) > error;
+            if (regression) {
+                regressions++;
+            }
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("benchmark", entry.getKey());
+            row.put("mode", mode);
+            row.put("unit", after.path("primaryMetric").path("scoreUnit").asText());
+            row.put("baseline", oldScore);
+            row.put("current", newScore);
+            row.put("changePercent", Math.round(change * 10000) / 100.0);
+            row.put("regression", regression);
+            rows.add(row);
+            System.out.printf("%-90s %14.3f -> %14.3f %-8s %+8.2f%%%s%n", entry.getKey(), oldScore, newScore,
+                    row.get("unit"), change * 100, regression ? "  REGRESSION" : "");
+        }
+        objectMapper.writeValue(diffFile.toFile(), rows);
+        System.out.println(regressions + " regression(s), comparison written to " + diffFile);
+        return regressions;
+    }
+
+    private static Map<String, JsonNode> index(JsonNode results) {
+        Map<String, JsonNode> byKey = new TreeMap<>();
+        for (JsonNode result : results) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText())
+                    .append(" [").append(result.path("mode").asText()).append(", ")
+                    .append(result.path("threads").asInt()).append(" thread(s)]");
+            JsonNode params = result.path("params");
+            if (params.isObject()) {
+                Map<String, String> sorted = new TreeMap<>();
+                params.fields().forEachRemaining(param -> sorted.put(param.getKey(), param.getValue().asText()));
+                sorted.forEach((name, value) -> key.append(' ').append(name).append('=').append(value));
+            }
+            byKey.put(key.toString(), result);
+        }
+        return byKey;
+    }
+
+    private static double finite(double value) {
+        return Double.isFinite(value) ? value : 0;
+    }
+}
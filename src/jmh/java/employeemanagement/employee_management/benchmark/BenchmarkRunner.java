@@ -0,0 +1,42 @@
+package employeemanagement.employee_management.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Runs the JMH benchmarks and writes the results as JSON so runs can be diffed between releases
+ * Arguments are standard JMH command line options (include regex, -p, -prof gc, -f, -wi, -i ...)
+ * System properties:
+ * benchmark.output   - result file, default target/benchmarks/jmh-result.json
+ * benchmark.baseline - result file of an earlier run; a comparison is written next to the output
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        Path output = Path.of(System.getProperty("benchmark.output", "target/benchmarks/jmh-result.json"));
+        Files.createDirectories(output.toAbsolutePath().getParent());
+
+        Options options = new OptionsBuilder()
+                .parent(commandLine)
+                .resultFormat(ResultFormatType.JSON)
+                .result(output.toString())
+                .build();
+        new Runner(options).run();
+
+        String baseline = System.getProperty("benchmark.baseline");
+        if (baseline != null && !baseline.isBlank()) {
+            Path diff = output.resolveSibling("jmh-diff.json");
+            BenchmarkDiff.compare(Path.of(baseline), output, diff);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package employeemanagement.employee_management.benchmark;
+
+import employeemanagement.employee_management.dto.EmployeeDTO;
+import employeemanagement.employee_management.mapper.DtoMapper;
+import employeemanagement.employee_management.model.Department;
+import employeemanagement.employee_management.model.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping of employee lists, as done by GET /api/employees
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DtoMapperBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private final DtoMapper dtoMapper = new DtoMapper();
+    private List<Employee> employees;
+
+    @Setup
+    public void setUp() {
+        employees = Fixtures.employees(size);
+    }
+
+    @Benchmark
+    public List<EmployeeDTO> toEmployeeDTOList() {
+        return dtoMapper.toEmployeeDTOList(employees);
+    }
+
+    /**
+     * In-memory entities and DTOs shared by the mapping and serialization benchmarks
+     */
+    static final class Fixtures {
+
+        private Fixtures() {
+        }
+
+        static List<Employee> employees(int size) {
+            Department[] departments = new Department[5];
+            for (int i = 0; i < departments.length; i++) {
+                Department department = new Department();
+                department.setId((long) i + 1);
+                department.setName("Department " + (i + 1));
+                department.setDescription("Benchmark department " + (i + 1));
+                department.setVersion(0L);
+                departments[i] = department;
+            }
+            List<Employee> employees = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                Employee employee = new Employee();
+                employee.setId(EmbeddedApplication.ID_PREFIX + String.format("%08d", i));
+                employee.setName("Nguyễn Văn " + i);
+                employee.setEmail("bench" + i + "@example.com");
+                employee.setPhone("(098) 765-" + String.format("%04d", i % 10000));
+                employee.setPosition("Developer");
+                employee.setDepartment(departments[i % departments.length]);
+                employee.setVersion(0L);
+                employees.add(employee);
+            }
+            return employees;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package employeemanagement.employee_management.benchmark;
+
+import employeemanagement.employee_management.EmployeeManagementApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Starts the application against an in-memory H2 database and seeds it with synthetic employees
+ * Shared by the repository benchmark and the load driver
+ */
+final class EmbeddedApplication {
+
+    static final String ID_PREFIX = "EMP-BENCH-";
+
+    private static final String[] FAMILY_NAMES = {"Nguyễn", "Trần", "Lê", "Phạm", "Hoàng", "Huỳnh", "Phan", "Vũ", "Smith", "Johnson"};
+    private static final String[] GIVEN_NAMES = {"Văn An", "Thị Bình", "Minh Châu", "Đức Dũng", "Thu Hà", "Quốc Huy", "John", "Mary"};
+    private static final String[] POSITIONS = {"Developer", "Senior Developer", "Tester", "Manager", "Analyst"};
+
+    private EmbeddedApplication() {
+    }
+
+    /**
+     * @param database   name of the in-memory database, one per application instance
+     * @param profiles   extra Spring profiles (e.g. virtual)
+     * @param properties extra properties as key=value
+     */
+    static ConfigurableApplicationContext start(String database, List<String> profiles, String... properties) {
+        List<String> all = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "spring.jpa.show-sql=false",
+                "spring.jpa.properties.hibernate.format_sql=false",
+                "spring.jpa.properties.hibernate.use_sql_comments=false",
+                "logging.level.root=WARN",
+                "logging.level.org.hibernate.SQL=WARN",
+                "spring.main.banner-mode=off"));
+        all.addAll(List.of(properties));
+
+        List<String> activeProfiles = new ArrayList<>(List.of("dev"));
+        activeProfiles.addAll(profiles);
+        return new SpringApplicationBuilder(EmployeeManagementApplication.class)
+                .profiles(activeProfiles.toArray(String[]::new))
+                // As command line arguments so they override the profile's own datasource settings
+                .run(all.stream().map(property -> "--" + property).toArray(String[]::new));
+    }
+
+    /**
+     * Insert synthetic employees spread over the existing departments
+     *
+     * @return the generated employee IDs
+     */
+    static List<String> seedEmployees(JdbcTemplate jdbcTemplate, int rows) {
+        List<Long> departments = jdbcTemplate.queryForList("SELECT id FROM departments", Long.class);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        List<String> ids = new ArrayList<>(rows);
+        List<Object[]> batch = new ArrayList<>(1000);
+        for (int i = 0; i < rows; i++) {
+            String id = ID_PREFIX + String.format("%08d", i);
+            ids.add(id);
+            batch.add(new Object[]{
+                    id,
+                    FAMILY_NAMES[random.nextInt(FAMILY_NAMES.length)] + " " + GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)],
+                    "bench" + i + "@example.com",
+                    String.format("09%08d", random.nextInt(100_000_000)),
+                    departments.isEmpty() ? null : departments.get(i % departments.size()),
+                    POSITIONS[random.nextInt(POSITIONS.length)],
+                    now,
+                    now});
+            if (batch.size() == 1000 || i == rows - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO employees (id, name, email, phone, department_id, position, version, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+        return ids;
+    }
+}
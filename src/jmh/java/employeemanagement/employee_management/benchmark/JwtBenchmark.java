@@ -0,0 +1,95 @@
+package employeemanagement.employee_management.benchmark;
+
+import employeemanagement.employee_management.security.JwtAuthenticationFilter;
+import employeemanagement.employee_management.security.JwtTokenProvider;
+import employeemanagement.employee_management.security.TokenRevocationService;
+import employeemanagement.employee_management.security.UserDetailsCache;
+import employeemanagement.employee_management.security.UserPrincipal;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and verification, with and without the verified-token cache,
+ * and the full per-request authentication path of the JWT filter
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JwtBenchmark {
+
+    private static final String SECRET = "mySecretKeyForJWTTokenGenerationAndValidation1234567890";
+    private static final long EXPIRATION = 86_400_000L;
+
+    private JwtTokenProvider cachedProvider;
+    private JwtTokenProvider uncachedProvider;
+    private JwtAuthenticationFilter filter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachedProvider = new JwtTokenProvider(SECRET, EXPIRATION, 10_000);
+        uncachedProvider = new JwtTokenProvider(SECRET, EXPIRATION, 0);
+        token = cachedProvider.generateToken("admin", List.of("ROLE_ADMIN"), 0L);
+        // The account is cached for longer than the run and nothing is revoked, so the filter
+        // authenticates from the token and the cached account without touching the database
+        UserDetailsCache userDetailsCache = new UserDetailsCache(null, TimeUnit.DAYS.toMillis(1), 10_000);
+        userDetailsCache.put(new UserPrincipal("admin", "", true,
+                List.of(new SimpleGrantedAuthority("ROLE_ADMIN")), 0L));
+        filter = new JwtAuthenticationFilter(cachedProvider, userDetailsCache,
+                new TokenRevocationService(null, userDetailsCache, EXPIRATION, 60_000L));
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachedProvider.generateToken("admin", List.of("ROLE_ADMIN"), 0L);
+    }
+
+    @Benchmark
+    public Optional<Claims> parseTokenCached() {
+        return cachedProvider.parseToken(token);
+    }
+
+    @Benchmark
+    public Optional<Claims> parseTokenUncached() {
+        return uncachedProvider.parseToken(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return cachedProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Authentication authenticateRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employees/EMP-001");
+        request.addHeader("Authorization", "Bearer " + token);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package employeemanagement.employee_management.benchmark;
+
+import employeemanagement.employee_management.config.SloProperties;
+import employeemanagement.employee_management.observability.RouteLatencyRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost LatencyFilter adds to every request: recording one latency into the route registry,
+ * alone and with eight threads recording into the same route
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LatencyRecordingBenchmark {
+
+    private RouteLatencyRegistry registry;
+
+    @Setup
+    public void setUp() {
+        registry = new RouteLatencyRegistry(new SloProperties(), new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public void record() {
+        registry.record("GET", "/api/employees/{id}", 200, latency());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void recordContended() {
+        registry.record("GET", "/api/employees/{id}", 200, latency());
+    }
+
+    private static long latency() {
+        return ThreadLocalRandom.current().nextLong(100_000, 50_000_000);
+    }
+}
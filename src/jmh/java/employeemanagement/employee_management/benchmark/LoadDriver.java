@@ -0,0 +1,218 @@
+package employeemanagement.employee_management.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closed-loop HTTP load against the running application
+ * <p>
+ * Two scenarios per run: interactive lookups alone (GET /api/employees/{id}), then the same
+ * lookups while bulk clients pull the full employee list and statistics. Comparing the
+ * interactive p99 of the two shows how well the bulkheads and priorities isolate bulk work;
+ * running once per profile (e.g. load.profiles=virtual) compares thread models.
+ * <p>
+ * Settings (system properties): load.profiles, load.rows, load.warmup-seconds,
+ * load.duration-seconds, load.interactive-threads, load.bulk-threads, load.output
+ */
+public final class LoadDriver {
+
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final String baseUrl;
+    private final String authorization;
+    private final List<String> ids;
+
+    private LoadDriver(String baseUrl, String authorization, List<String> ids) {
+        this.baseUrl = baseUrl;
+        this.authorization = authorization;
+        this.ids = ids;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String profiles = System.getProperty("load.profiles", "");
+        int rows = Integer.getInteger("load.rows", 5000);
+        int warmupSeconds = Integer.getInteger("load.warmup-seconds", 5);
+        int durationSeconds = Integer.getInteger("load.duration-seconds", 30);
+        int interactiveThreads = Integer.getInteger("load.interactive-threads", 32);
+        int bulkThreads = Integer.getInteger("load.bulk-threads", 4);
+        String label = profiles.isBlank() ? "platform" : profiles.replace(',', '-');
+        Path output = Path.of(System.getProperty("load.output", "target/benchmarks/load-" + label + ".json"));
+
+        List<String> activeProfiles = profiles.isBlank() ? List.of() : Arrays.asList(profiles.split(","));
+        try (ConfigurableApplicationContext context = EmbeddedApplication.start("load_" + label, activeProfiles,
+                "rate-limit.enabled=false")) {
+            List<String> ids = EmbeddedApplication.seedEmployees(context.getBean(JdbcTemplate.class), rows);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port;
+            LoadDriver driver = new LoadDriver(baseUrl, "Bearer " + login(baseUrl), ids);
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("profile", label);
+            report.put("javaVersion", Runtime.version().toString());
+            report.put("rows", rows);
+            report.put("durationSeconds", durationSeconds);
+            report.put("interactiveThreads", interactiveThreads);
+            report.put("bulkThreads", bulkThreads);
+
+            driver.run(interactiveThreads, bulkThreads, warmupSeconds);
+            Map<String, Object> scenarios = new LinkedHashMap<>();
+            scenarios.put("interactive", driver.run(interactiveThreads, 0, durationSeconds));
+            scenarios.put("interactive+bulk", driver.run(interactiveThreads, bulkThreads, durationSeconds));
+            report.put("scenarios", scenarios);
+
+            Files.createDirectories(output.toAbsolutePath().getParent());
+            JSON.writeValue(output.toFile(), report);
+            System.out.println(JSON.writeValueAsString(scenarios));
+            System.out.println("Load results written to " + output.toAbsolutePath());
+        }
+    }
+
+    private static String login(String baseUrl) throws Exception {
+        HttpResponse<String> response = HttpClient.newHttpClient().send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"admin\",\"password\":\"admin123\"}"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        JsonNode body = JSON.readTree(response.body());
+        if (response.statusCode() != 200 || !body.hasNonNull("token")) {
+            throw new IllegalStateException("Login failed: " + response.statusCode() + " " + response.body());
+        }
+        return body.get("token").asText();
+    }
+
+    private Map<String, Object> run(int interactiveThreads, int bulkThreads, int seconds) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService workers = Executors.newFixedThreadPool(interactiveThreads + bulkThreads);
+        try {
+            List<Future<Recorder>> interactive = new ArrayList<>();
+            List<Future<Recorder>> bulk = new ArrayList<>();
+            for (int i = 0; i < interactiveThreads; i++) {
+                interactive.add(workers.submit(() -> loop(deadline, false)));
+            }
+            for (int i = 0; i < bulkThreads; i++) {
+                bulk.add(workers.submit(() -> loop(deadline, true)));
+            }
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("interactive", Recorder.merge(interactive).summary(seconds));
+            if (bulkThreads > 0) {
+                result.put("bulk", Recorder.merge(bulk).summary(seconds));
+            }
+            return result;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private Recorder loop(long deadline, boolean bulk) {
+        Recorder recorder = new Recorder();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            String path = bulk
+                    ? (random.nextInt(4) == 0 ? "/api/employees/statistics" : "/api/employees")
+                    : "/api/employees/" + ids.get(random.nextInt(ids.size()));
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Authorization", authorization)
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                recorder.record(System.nanoTime() - start, response.statusCode());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception ex) {
+                recorder.record(System.nanoTime() - start, -1);
+            }
+        }
+        return recorder;
+    }
+
+    /**
+     * Per-thread latency samples, merged once the scenario finishes
+     */
+    private static final class Recorder {
+        private long[] latencies = new long[1024];
+        private int size;
+        private long rejected;
+        private long errors;
+
+        void record(long nanos, int status) {
+            if (status == 200) {
+                if (size == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, size * 2);
+                }
+                latencies[size++] = nanos;
+            } else if (status == 503 || status == 429) {
+                rejected++;
+            } else {
+                errors++;
+            }
+        }
+
+        static Recorder merge(List<Future<Recorder>> futures) throws Exception {
+            Recorder merged = new Recorder();
+            for (Future<Recorder> future : futures) {
+                Recorder recorder = future.get();
+                merged.latencies = Arrays.copyOf(merged.latencies, Math.max(merged.latencies.length, merged.size + recorder.size));
+                System.arraycopy(recorder.latencies, 0, merged.latencies, merged.size, recorder.size);
+                merged.size += recorder.size;
+                merged.rejected += recorder.rejected;
+                merged.errors += recorder.errors;
+            }
+            Arrays.sort(merged.latencies, 0, merged.size);
+            return merged;
+        }
+
+        Map<String, Object> summary(int seconds) {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("requests", size);
+            summary.put("throughputPerSecond", Math.round(size * 10.0 / seconds) / 10.0);
+            summary.put("p50Ms", percentile(0.50));
+            summary.put("p99Ms", percentile(0.99));
+            summary.put("maxMs", size == 0 ? 0.0 : millis(latencies[size - 1]));
+            summary.put("rejected", rejected);
+            summary.put("errors", errors);
+            return summary;
+        }
+
+        private double percentile(double quantile) {
+            if (size == 0) {
+                return 0.0;
+            }
+            return millis(latencies[(int) Math.min(size - 1, Math.ceil(quantile * size) - 1)]);
+        }
+
+        private static double millis(long nanos) {
+            return Math.round(nanos / 10_000.0) / 100.0;
+        }
+    }
+}
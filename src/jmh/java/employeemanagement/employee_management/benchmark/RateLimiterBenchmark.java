@@ -0,0 +1,59 @@
+package employeemanagement.employee_management.benchmark;
+
+import employeemanagement.employee_management.config.RateLimitProperties;
+import employeemanagement.employee_management.security.RateLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Token bucket admission under contention: every thread hitting the same user's bucket
+ * versus each thread owning its own bucket
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+public class RateLimiterBenchmark {
+
+    private static final String PATH = "/api/employees/EMP-001";
+
+    private RateLimiter rateLimiter;
+
+    @Setup
+    public void setUp() {
+        rateLimiter = new RateLimiter(new RateLimitProperties());
+    }
+
+    @State(Scope.Thread)
+    public static class Caller {
+        private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+        private final String username = "user-" + SEQUENCE.incrementAndGet();
+        private final String clientIp = "10.0.0." + (SEQUENCE.get() % 250 + 1);
+    }
+
+    @Benchmark
+    public RateLimiter.Decision sameUser() {
+        return rateLimiter.acquire(PATH, "admin", "10.0.0.1");
+    }
+
+    @Benchmark
+    public RateLimiter.Decision distinctUsers(Caller caller) {
+        return rateLimiter.acquire(PATH, caller.username, caller.clientIp);
+    }
+}
@@ -0,0 +1,86 @@
+package employeemanagement.employee_management.benchmark;
+
+import employeemanagement.employee_management.model.Employee;
+import employeemanagement.employee_management.repository.DepartmentRepository;
+import employeemanagement.employee_management.repository.EmployeeRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spring Data repository queries through the full application stack (routing data source,
+ * Hikari, Hibernate) against an embedded H2 database seeded with {@code rows} employees
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RepositoryBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeRepository employeeRepository;
+    private List<String> ids;
+    private Long departmentId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = EmbeddedApplication.start("repository_bench_" + rows, List.of(),
+                "rate-limit.enabled=false",
+                "spring.main.web-application-type=none");
+        employeeRepository = context.getBean(EmployeeRepository.class);
+        ids = EmbeddedApplication.seedEmployees(context.getBean(JdbcTemplate.class), rows);
+        departmentId = context.getBean(DepartmentRepository.class).findAll().get(0).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Employee> findById() {
+        return employeeRepository.findById(ids.get(ThreadLocalRandom.current().nextInt(ids.size())));
+    }
+
+    @Benchmark
+    public List<Employee> findByNameContainingIgnoreCase() {
+        return employeeRepository.findByNameContainingIgnoreCase("minh châu");
+    }
+
+    @Benchmark
+    public List<Employee> findByDepartmentId() {
+        return employeeRepository.findByDepartmentId(departmentId);
+    }
+
+    @Benchmark
+    public long count() {
+        return employeeRepository.count();
+    }
+
+    @Benchmark
+    public boolean existsByEmail() {
+        return employeeRepository.existsByEmail("bench" + ThreadLocalRandom.current().nextInt(rows) + "@example.com");
+    }
+}
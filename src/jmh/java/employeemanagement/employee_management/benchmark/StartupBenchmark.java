@@ -0,0 +1,207 @@
+package employeemanagement.employee_management.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Time to first request of the packaged application, one fresh JVM per run
+ * <p>
+ * Variants, from the plain fat jar to the full fast-startup build (./mvnw -Pfast-startup package first):
+ * fat-jar      - java -jar target/&lt;jar&gt;, seeding before readiness (the "before")
+ * extracted    - exploded jar from target/fast-startup with the fast-startup profile
+ * aot          - as extracted, plus -Dspring.aot.enabled=true
+ * fast-startup - as aot, plus the CDS archive from the training run (the "after")
+ * <p>
+ * firstRequestMs is the time from launching the JVM until /actuator/health/readiness answers 200;
+ * firstLoginMs until POST /api/auth/login succeeds, which includes the sample users being seeded.
+ * <p>
+ * Settings (system properties): startup.variants, startup.runs, startup.profiles, startup.timeout-seconds,
+ * startup.output
+ */
+public final class StartupBenchmark {
+
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final List<String> DATABASE_ARGS = List.of(
+            "--spring.datasource.url=jdbc:h2:mem:startup",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+            "--spring.jpa.hibernate.ddl-auto=create-drop",
+            "--rate-limit.enabled=false");
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+    private final Path target = Path.of("target");
+    private final Path fastStartup = target.resolve("fast-startup");
+    private final Path logs = target.resolve("benchmarks").resolve("startup-logs");
+    private final String profiles;
+    private final long timeoutNanos;
+
+    private StartupBenchmark(String profiles, int timeoutSeconds) {
+        this.profiles = profiles;
+        this.timeoutNanos = TimeUnit.SECONDS.toNanos(timeoutSeconds);
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> variants = Arrays.asList(System.getProperty("startup.variants", "fat-jar,extracted,aot,fast-startup").split(","));
+        int runs = Integer.getInteger("startup.runs", 5);
+        String profiles = System.getProperty("startup.profiles", "prod");
+        int timeoutSeconds = Integer.getInteger("startup.timeout-seconds", 120);
+        Path output = Path.of(System.getProperty("startup.output", "target/benchmarks/startup.json"));
+
+        StartupBenchmark benchmark = new StartupBenchmark(profiles, timeoutSeconds);
+        Files.createDirectories(benchmark.logs);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("javaVersion", Runtime.version().toString());
+        report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        report.put("profiles", profiles);
+        report.put("runs", runs);
+        Map<String, Object> results = new LinkedHashMap<>();
+        for (String variant : variants) {
+            long[] firstRequest = new long[runs];
+            long[] firstLogin = new long[runs];
+            for (int run = 0; run < runs; run++) {
+                long[] timings = benchmark.measure(variant.trim(), run);
+                firstRequest[run] = timings[0];
+                firstLogin[run] = timings[1];
+                System.out.printf("%-13s run %d: first request %d ms, first login %d ms%n", variant, run + 1, timings[0], timings[1]);
+            }
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("firstRequestMs", summary(firstRequest));
+            result.put("firstLoginMs", summary(firstLogin));
+            results.put(variant.trim(), result);
+        }
+        report.put("variants", results);
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        JSON.writeValue(output.toFile(), report);
+        System.out.println(JSON.writeValueAsString(results));
+        System.out.println("Startup results written to " + output.toAbsolutePath());
+    }
+
+    /**
+     * @return milliseconds to the first ready response and to the first successful login
+     */
+    private long[] measure(String variant, int run) throws Exception {
+        int port = freePort();
+        List<String> command = command(variant, port);
+        Path log = logs.resolve(variant + "-" + (run + 1) + ".log");
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile());
+        if (!variant.equals("fat-jar")) {
+            builder.directory(fastStartup.toFile());
+        }
+
+        String baseUrl = "http://localhost:" + port;
+        long start = System.nanoTime();
+        Process process = builder.start();
+        try {
+            long firstRequest = awaitSuccess(process, start, HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health/readiness"))
+                    .timeout(Duration.ofSeconds(1))
+                    .GET()
+                    .build(), log);
+            long firstLogin = awaitSuccess(process, start, HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .timeout(Duration.ofSeconds(5))
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"admin\",\"password\":\"admin123\"}"))
+                    .build(), log);
+            return new long[]{firstRequest, firstLogin};
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private List<String> command(String variant, int port) throws IOException {
+        List<String> command = new ArrayList<>(List.of(javaExecutable()));
+        switch (variant) {
+            case "fat-jar" -> {
+                command.addAll(List.of("-jar", jar(target).toAbsolutePath().toString(), "--spring.profiles.active=" + profiles));
+                command.addAll(DATABASE_ARGS);
+                command.add("--server.port=" + port);
+                return command;
+            }
+            case "extracted" -> {
+            }
+            case "aot" -> command.add("-Dspring.aot.enabled=true");
+            case "fast-startup" -> command.addAll(List.of("-Dspring.aot.enabled=true",
+                    "-XX:SharedArchiveFile=application.jsa", "-Xlog:cds=error"));
+            default -> throw new IllegalArgumentException("Unknown startup variant: " + variant);
+        }
+        command.addAll(List.of("-jar", jar(fastStartup).getFileName().toString(), "--spring.profiles.active=" + profiles + ",fast-startup"));
+        command.addAll(DATABASE_ARGS);
+        command.add("--server.port=" + port);
+        return command;
+    }
+
+    private long awaitSuccess(Process process, long start, HttpRequest request, Path log) throws Exception {
+        while (System.nanoTime() - start < timeoutNanos) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with " + process.exitValue() + ", see " + log.toAbsolutePath());
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                }
+            } catch (IOException ex) {
+                // Not listening yet
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("No successful " + request.uri().getPath() + " within the timeout, see " + log.toAbsolutePath());
+    }
+
+    private static Path jar(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".jar"))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No jar in " + directory.toAbsolutePath()
+                            + ", build it first with ./mvnw -Pfast-startup package -DskipTests"));
+        }
+    }
+
+    private static String javaExecutable() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static Map<String, Object> summary(long[] millis) {
+        long[] sorted = millis.clone();
+        Arrays.sort(sorted);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("min", sorted[0]);
+        summary.put("median", sorted[sorted.length / 2]);
+        summary.put("max", sorted[sorted.length - 1]);
+        return summary;
+    }
+}
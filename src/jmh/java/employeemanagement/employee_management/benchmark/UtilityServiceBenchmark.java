@@ -0,0 +1,89 @@
+package employeemanagement.employee_management.benchmark;
+
+import employeemanagement.employee_management.service.EmployeeCodeGenerator;
+import employeemanagement.employee_management.service.IdBlockAllocator;
+import employeemanagement.employee_management.service.UtilityService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UtilityService routines run on every create/update, and employee code generation
+ * single-threaded and under contention (block refills come from an in-memory allocator)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UtilityServiceBenchmark {
+
+    private static final String[] NAMES = {
+            "john doe", "  NGUYỄN   văn   an ", "trần thị bình", "le", "mary-jane o'neil smith"};
+    private static final String[] PHONES = {"0987654321", "098-765-4321", "+84 98 765 4321", "12345"};
+    private static final String[] EMAILS = {
+            "john.doe@example.com", "nguyen_van.an+hr@company.com.vn", "not-an-email", "a@b.c"};
+
+    private UtilityService utilityService;
+
+    @Setup
+    public void setUp() {
+        IdBlockAllocator allocator = new IdBlockAllocator(null) {
+            private final AtomicLong next = new AtomicLong(1);
+
+            @Override
+            public long allocateBlock(String sequenceName, int blockSize) {
+                return next.getAndAdd(blockSize);
+            }
+        };
+        utilityService = new UtilityService(new EmployeeCodeGenerator(allocator, 1000));
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int position;
+
+        int next(int length) {
+            position = position + 1 == length ? 0 : position + 1;
+            return position;
+        }
+    }
+
+    @Benchmark
+    public String formatEmployeeName(Cursor cursor) {
+        return utilityService.formatEmployeeName(NAMES[cursor.next(NAMES.length)]);
+    }
+
+    @Benchmark
+    public String formatPhoneNumber(Cursor cursor) {
+        return utilityService.formatPhoneNumber(PHONES[cursor.next(PHONES.length)]);
+    }
+
+    @Benchmark
+    public boolean isValidEmail(Cursor cursor) {
+        return utilityService.isValidEmail(EMAILS[cursor.next(EMAILS.length)]);
+    }
+
+    @Benchmark
+    public String generateEmployeeCode() {
+        return utilityService.generateEmployeeCode();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String generateEmployeeCodeContended() {
+        return utilityService.generateEmployeeCode();
+    }
+}
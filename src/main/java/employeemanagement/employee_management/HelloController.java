@@ -1,8 +1,11 @@
 package employeemanagement.employee_management;
 
+import org.springframework.context.annotation.Lazy;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+// Demo endpoint, created on its first request rather than at startup
+@Lazy
 @RestController
 public class HelloController {
 
@@ -1,16 +1,26 @@
 package employeemanagement.employee_management.config;
 
+import employeemanagement.employee_management.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.convention.MatchingStrategies;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Arrays;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * AppConfig - Configuration class for defining custom beans
@@ -22,23 +32,49 @@ public class AppConfig {
     /**
      * Define PasswordEncoder bean using BCrypt algorithm
      * This bean will be managed by Spring IoC Container
+     * Hashing runs on passwordHashExecutor so a login storm cannot occupy every request thread
      *
-     * @return BCryptPasswordEncoder instance
+     * @return BoundedPasswordEncoder instance
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
+    public PasswordEncoder passwordEncoder(@Value("${security.password-hash.cost:10}") int cost,
+                                           @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor passwordHashExecutor,
+                                           MeterRegistry meterRegistry) {
         // BCrypt is a strong hashing algorithm for passwords
         // It automatically handles salting and is resistant to brute force attacks
-        return new BCryptPasswordEncoder();
+        return new BoundedPasswordEncoder(cost, passwordHashExecutor, meterRegistry);
+    }
+
+    /**
+     * Executor dedicated to CPU-bound password hashing, sized to the core count by default
+     * The queue is bounded and overflow is rejected, which the encoder turns into a 503
+     * Stays on platform threads in virtual-thread mode: hashing is CPU-bound, not blocking
+     *
+     * @return ThreadPoolTaskExecutor instance
+     */
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashExecutor(@Value("${security.password-hash.threads:0}") int threads,
+                                                       @Value("${security.password-hash.queue-capacity:0}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity > 0 ? queueCapacity : poolSize * 8);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
     }
 
     /**
      * Define ModelMapper bean for object mapping
      * Useful for converting between DTOs and Entities
+     * Lazy: the API maps through DtoMapper, so ModelMapper's reflective setup is only paid when first injected
      *
      * @return ModelMapper instance with custom configuration
      */
     @Bean
+    @Lazy
     public ModelMapper modelMapper() {
         ModelMapper modelMapper = new ModelMapper();
 
@@ -81,6 +117,32 @@ public class AppConfig {
         return cacheManager;
     }
 
+    /**
+     * Bounded executor running the parallel reads of POST /api/batch
+     * When saturated the request thread runs the read itself instead of failing
+     * In virtual-thread mode each read gets its own virtual thread, capped at the same parallelism
+     *
+     * @return TaskExecutor instance
+     */
+    @Bean
+    public TaskExecutor batchExecutor(@Value("${batch.parallelism:4}") int parallelism, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("batch-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(parallelism);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(parallelism * 25);
+        executor.setThreadNamePrefix("batch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
     /**
      * Inner class to demonstrate custom bean creation
      */
@@ -0,0 +1,146 @@
+package employeemanagement.employee_management.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Adaptive concurrency limit settings bound from concurrency-limit.*
+ * Route groups are matched in order, the first group whose pattern matches the request path applies.
+ * Setting concurrency-limit.groups replaces the default groups entirely.
+ */
+@ConfigurationProperties(prefix = "concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * How long a request may wait for a slot before it is rejected with 503
+     */
+    private long queueTimeoutMs = 50;
+
+    /**
+     * Latency growth over the baseline tolerated before the limit shrinks (1.5 = 50% slower)
+     */
+    private double rttTolerance = 1.5;
+
+    private List<Group> groups = defaultGroups();
+
+    private static List<Group> defaultGroups() {
+        List<Group> groups = new ArrayList<>();
+        groups.add(new Group("auth", List.of("/api/auth/**"), 20, 4, 100, 50));
+        groups.add(new Group("reporting", List.of("/api/employees", "/api/employees/statistics", "/api/batch"), 10, 2, 50, 20));
+        groups.add(new Group("api", List.of("/api/**"), 50, 10, 400, 200));
+        return groups;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getQueueTimeoutMs() {
+        return queueTimeoutMs;
+    }
+
+    public void setQueueTimeoutMs(long queueTimeoutMs) {
+        this.queueTimeoutMs = queueTimeoutMs;
+    }
+
+    public double getRttTolerance() {
+        return rttTolerance;
+    }
+
+    public void setRttTolerance(double rttTolerance) {
+        this.rttTolerance = rttTolerance;
+    }
+
+    public List<Group> getGroups() {
+        return groups;
+    }
+
+    public void setGroups(List<Group> groups) {
+        this.groups = groups;
+    }
+
+    /**
+     * A set of route patterns sharing one adaptive limit
+     */
+    public static class Group {
+
+        private String name;
+        private List<String> patterns = new ArrayList<>();
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+
+        /**
+         * Requests allowed to wait for a slot at the same time
+         */
+        private int maxQueue;
+
+        public Group() {
+        }
+
+        public Group(String name, List<String> patterns, int initialLimit, int minLimit, int maxLimit, int maxQueue) {
+            this.name = name;
+            this.patterns = new ArrayList<>(patterns);
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            this.maxQueue = maxQueue;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public List<String> getPatterns() {
+            return patterns;
+        }
+
+        public void setPatterns(List<String> patterns) {
+            this.patterns = patterns;
+        }
+
+        public int getInitialLimit() {
+            return initialLimit;
+        }
+
+        public void setInitialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+        }
+
+        public int getMinLimit() {
+            return minLimit;
+        }
+
+        public void setMinLimit(int minLimit) {
+            this.minLimit = minLimit;
+        }
+
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        public void setMaxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+
+        public int getMaxQueue() {
+            return maxQueue;
+        }
+
+        public void setMaxQueue(int maxQueue) {
+            this.maxQueue = maxQueue;
+        }
+    }
+}
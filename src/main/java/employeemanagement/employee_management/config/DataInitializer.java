@@ -6,97 +6,128 @@ import employeemanagement.employee_management.model.User;
 import employeemanagement.employee_management.repository.DepartmentRepository;
 import employeemanagement.employee_management.repository.EmployeeRepository;
 import employeemanagement.employee_management.repository.UserRepository;
+import employeemanagement.employee_management.service.EmployeeUniquenessFilter;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.List;
+
 /**
  * DataInitializer - Initialize sample data on application startup
+ *
+ * One existence check per table and one saveAll per entity type. With
+ * data-initializer.background=true (fast-startup profile) the seeding runs on its own thread
+ * so it no longer delays readiness; the default admin/user accounts then appear a moment
+ * after the first requests can be served.
  */
 @Configuration
+@ConditionalOnProperty(name = "data-initializer.enabled", havingValue = "true", matchIfMissing = true)
 public class DataInitializer {
 
+    private static final Logger logger = LoggerFactory.getLogger(DataInitializer.class);
+
     @Bean
     public CommandLineRunner initData(DepartmentRepository departmentRepository,
                                      EmployeeRepository employeeRepository,
                                      UserRepository userRepository,
-                                     PasswordEncoder passwordEncoder) {
+                                     PasswordEncoder passwordEncoder,
+                                     EmployeeUniquenessFilter uniquenessFilter,
+                                     @Value("${data-initializer.background:false}") boolean background) {
+        Runnable seed = () -> {
+            seedEmployees(departmentRepository, employeeRepository, uniquenessFilter);
+            seedUsers(userRepository, passwordEncoder);
+        };
         return args -> {
-            // Check if data already exists
-            if (departmentRepository.count() == 0) {
-                System.out.println("Initializing sample data...");
-
-                // Create Departments
-                Department itDept = new Department("IT", "Information Technology Department");
-                Department hrDept = new Department("HR", "Human Resources Department");
-                Department financeDept = new Department("Finance", "Finance Department");
-                Department marketingDept = new Department("Marketing", "Marketing Department");
-
-                departmentRepository.save(itDept);
-                departmentRepository.save(hrDept);
-                departmentRepository.save(financeDept);
-                departmentRepository.save(marketingDept);
-
-                System.out.println("✅ Sample departments created!");
-
-                // Create Sample Employees
-                Employee emp1 = new Employee();
-                emp1.setId("EMP-20251113-0001");
-                emp1.setName("Nguyen Van A");
-                emp1.setEmail("nguyenvana@example.com");
-                emp1.setPhone("0912345678");
-                emp1.setDepartment(itDept);
-                emp1.setPosition("Senior Developer");
-
-                Employee emp2 = new Employee();
-                emp2.setId("EMP-20251113-0002");
-                emp2.setName("Tran Thi B");
-                emp2.setEmail("tranthib@example.com");
-                emp2.setPhone("0987654321");
-                emp2.setDepartment(hrDept);
-                emp2.setPosition("HR Manager");
-
-                Employee emp3 = new Employee();
-                emp3.setId("EMP-20251113-0003");
-                emp3.setName("Le Van C");
-                emp3.setEmail("levanc@example.com");
-                emp3.setPhone("0909123456");
-                emp3.setDepartment(itDept);
-                emp3.setPosition("DevOps Engineer");
-
-                employeeRepository.save(emp1);
-                employeeRepository.save(emp2);
-                employeeRepository.save(emp3);
-
-                System.out.println("✅ Sample employees created!");
-                System.out.println("📊 Total Departments: " + departmentRepository.count());
-                System.out.println("📊 Total Employees: " + employeeRepository.count());
-            } else {
-                System.out.println("📊 Data already exists. Skipping initialization.");
-                System.out.println("📊 Total Departments: " + departmentRepository.count());
-                System.out.println("📊 Total Employees: " + employeeRepository.count());
-            }
-            if (userRepository.count() == 0) {
-                // Create default admin user
-                User adminUser = new User();
-                adminUser.setUsername("admin");
-                adminUser.setPassword(passwordEncoder.encode("admin123")); // Hash password
-                adminUser.addRole("ADMIN");
-                userRepository.save(adminUser);
-                System.out.println("✅ Default admin user created!");
-
-                // Create regular user
-                User regularUser = new User();
-                regularUser.setUsername("user");
-                regularUser.setPassword(passwordEncoder.encode("user123")); // Hash password
-                regularUser.addRole("USER");
-                userRepository.save(regularUser);
-                System.out.println("✅ Default regular user created!");
+            if (background) {
+                new SimpleAsyncTaskExecutor("data-initializer-").execute(() -> {
+                    try {
+                        seed.run();
+                    } catch (RuntimeException e) {
+                        logger.error("Sample data initialization failed", e);
+                    }
+                });
             } else {
-                System.out.println("📊 Users already exist. Skipping admin user creation.");
+                seed.run();
             }
         };
     }
+
+    private void seedEmployees(DepartmentRepository departmentRepository,
+                               EmployeeRepository employeeRepository,
+                               EmployeeUniquenessFilter uniquenessFilter) {
+        // Check if data already exists
+        if (departmentRepository.count() > 0) {
+            logger.info("Data already exists. Skipping initialization.");
+            return;
+        }
+        logger.info("Initializing sample data...");
+
+        // Create Departments
+        Department itDept = new Department("IT", "Information Technology Department");
+        Department hrDept = new Department("HR", "Human Resources Department");
+        Department financeDept = new Department("Finance", "Finance Department");
+        Department marketingDept = new Department("Marketing", "Marketing Department");
+        departmentRepository.saveAll(List.of(itDept, hrDept, financeDept, marketingDept));
+
+        // Create Sample Employees
+        Employee emp1 = new Employee();
+        emp1.setId("EMP-20251113-0001");
+        emp1.setName("Nguyen Van A");
+        emp1.setEmail("nguyenvana@example.com");
+        emp1.setPhone("0912345678");
+        emp1.setDepartment(itDept);
+        emp1.setPosition("Senior Developer");
+
+        Employee emp2 = new Employee();
+        emp2.setId("EMP-20251113-0002");
+        emp2.setName("Tran Thi B");
+        emp2.setEmail("tranthib@example.com");
+        emp2.setPhone("0987654321");
+        emp2.setDepartment(hrDept);
+        emp2.setPosition("HR Manager");
+
+        Employee emp3 = new Employee();
+        emp3.setId("EMP-20251113-0003");
+        emp3.setName("Le Van C");
+        emp3.setEmail("levanc@example.com");
+        emp3.setPhone("0909123456");
+        emp3.setDepartment(itDept);
+        emp3.setPosition("DevOps Engineer");
+
+        List<Employee> employees = employeeRepository.saveAll(List.of(emp1, emp2, emp3));
+        // In background mode the uniqueness filter may already be loaded without these rows
+        employees.forEach(employee -> uniquenessFilter.recordAfterCommit(employee.getId(), employee.getEmail()));
+
+        logger.info("Sample data created: 4 departments, {} employees", employees.size());
+    }
+
+    private void seedUsers(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+        if (userRepository.count() > 0) {
+            logger.info("Users already exist. Skipping admin user creation.");
+            return;
+        }
+
+        // Create default admin user
+        User adminUser = new User();
+        adminUser.setUsername("admin");
+        adminUser.setPassword(passwordEncoder.encode("admin123")); // Hash password
+        adminUser.addRole("ADMIN");
+
+        // Create regular user
+        User regularUser = new User();
+        regularUser.setUsername("user");
+        regularUser.setPassword(passwordEncoder.encode("user123")); // Hash password
+        regularUser.addRole("USER");
+
+        userRepository.saveAll(List.of(adminUser, regularUser));
+        logger.info("Default admin and regular users created!");
+    }
 }
@@ -0,0 +1,59 @@
+package employeemanagement.employee_management.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Request priority settings bound from priority.*
+ * Low patterns are checked before high patterns; unmatched requests are NORMAL.
+ */
+@ConfigurationProperties(prefix = "priority")
+public class PriorityProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Longest a lower-tier task or connection waiter is passed over before it is served next
+     */
+    private long starvationTimeoutMs = 500;
+
+    private List<String> highPatterns = new ArrayList<>(List.of(
+            "/employees/**", "/api/employees/{id}", "/api/departments/{id}"));
+
+    private List<String> lowPatterns = new ArrayList<>(List.of(
+            "/api/employees", "/api/employees/statistics", "/api/batch"));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getStarvationTimeoutMs() {
+        return starvationTimeoutMs;
+    }
+
+    public void setStarvationTimeoutMs(long starvationTimeoutMs) {
+        this.starvationTimeoutMs = starvationTimeoutMs;
+    }
+
+    public List<String> getHighPatterns() {
+        return highPatterns;
+    }
+
+    public void setHighPatterns(List<String> highPatterns) {
+        this.highPatterns = highPatterns;
+    }
+
+    public List<String> getLowPatterns() {
+        return lowPatterns;
+    }
+
+    public void setLowPatterns(List<String> lowPatterns) {
+        this.lowPatterns = lowPatterns;
+    }
+}
@@ -0,0 +1,31 @@
+package employeemanagement.employee_management.config;
+
+import employeemanagement.employee_management.observability.StatementCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Persistence layer metrics
+ * Hibernate statistics feed the hibernate.* meters (session factory totals, bound by Spring Boot)
+ * and the per-query meters of QueryStatisticsBinder; the statement inspector counts the SQL
+ * statements of each request. Repository method timers (spring.data.repository.invocations)
+ * and connection pool waits (hikaricp.connections.acquire, jdbc.connection.wait) come from
+ * Spring Boot, Hikari and WorkloadConfig.
+ */
+@Configuration
+@EnableConfigurationProperties(QueryMetricsProperties.class)
+public class QueryMetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryMetricsCustomizer(QueryMetricsProperties properties) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, properties.isEnabled());
+            if (properties.isEnabled()) {
+                hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCounter());
+            }
+        };
+    }
+}
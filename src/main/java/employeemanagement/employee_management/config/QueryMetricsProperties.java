@@ -0,0 +1,106 @@
+package employeemanagement.employee_management.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Persistence metrics settings bound from query-metrics.*
+ * Disabled: Hibernate statistics are not collected and statements are not counted per request.
+ * The statement budget (query-metrics.budget.*, meant for tests and staging) needs it enabled.
+ */
+@ConfigurationProperties(prefix = "query-metrics")
+public class QueryMetricsProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Most distinct queries given their own hibernate.query.* meters (bounds tag cardinality)
+     */
+    private int maxQueries = 200;
+
+    /**
+     * How often newly seen queries are registered as meters
+     */
+    private long refreshIntervalMs = 10_000;
+
+    private final Budget budget = new Budget();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxQueries() {
+        return maxQueries;
+    }
+
+    public void setMaxQueries(int maxQueries) {
+        this.maxQueries = maxQueries;
+    }
+
+    public long getRefreshIntervalMs() {
+        return refreshIntervalMs;
+    }
+
+    public void setRefreshIntervalMs(long refreshIntervalMs) {
+        this.refreshIntervalMs = refreshIntervalMs;
+    }
+
+    public Budget getBudget() {
+        return budget;
+    }
+
+    /**
+     * Requests exceeding the budget are logged with the statements at fault
+     */
+    public static class Budget {
+
+        private boolean enabled = false;
+
+        private int maxStatements = 20;
+
+        /**
+         * Executions of the same statement shape per request; more suggests an N+1
+         */
+        private int maxRepeats = 3;
+
+        /**
+         * Log where the first offending statement was issued
+         */
+        private boolean stackTraces = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxStatements() {
+            return maxStatements;
+        }
+
+        public void setMaxStatements(int maxStatements) {
+            this.maxStatements = maxStatements;
+        }
+
+        public int getMaxRepeats() {
+            return maxRepeats;
+        }
+
+        public void setMaxRepeats(int maxRepeats) {
+            this.maxRepeats = maxRepeats;
+        }
+
+        public boolean isStackTraces() {
+            return stackTraces;
+        }
+
+        public void setStackTraces(boolean stackTraces) {
+            this.stackTraces = stackTraces;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package employeemanagement.employee_management.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rate limiting settings bound from rate-limit.*
+ * Route groups are matched in order, the first group whose pattern matches the request path applies.
+ * Setting rate-limit.groups replaces the default groups entirely.
+ */
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Upper bound of tracked buckets per limit; reaching it evicts the idlest buckets
+     */
+    private int maxBuckets = 100_000;
+
+    private long sweepIntervalMs = 30_000;
+
+    private List<Group> groups = defaultGroups();
+
+    private static List<Group> defaultGroups() {
+        List<Group> groups = new ArrayList<>();
+        groups.add(new Group("auth", List.of("/api/auth/**"), null, new Limit(20, 2)));
+        groups.add(new Group("api", List.of("/api/**"), new Limit(200, 100), new Limit(400, 200)));
+        return groups;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxBuckets() {
+        return maxBuckets;
+    }
+
+    public void setMaxBuckets(int maxBuckets) {
+        this.maxBuckets = maxBuckets;
+    }
+
+    public long getSweepIntervalMs() {
+        return sweepIntervalMs;
+    }
+
+    public void setSweepIntervalMs(long sweepIntervalMs) {
+        this.sweepIntervalMs = sweepIntervalMs;
+    }
+
+    public List<Group> getGroups() {
+        return groups;
+    }
+
+    public void setGroups(List<Group> groups) {
+        this.groups = groups;
+    }
+
+    /**
+     * A set of route patterns sharing the same per-user and per-IP limits (either may be null)
+     */
+    public static class Group {
+
+        private String name;
+        private List<String> patterns = new ArrayList<>();
+        private Limit perUser;
+        private Limit perIp;
+
+        public Group() {
+        }
+
+        public Group(String name, List<String> patterns, Limit perUser, Limit perIp) {
+            this.name = name;
+            this.patterns = new ArrayList<>(patterns);
+            this.perUser = perUser;
+            this.perIp = perIp;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public List<String> getPatterns() {
+            return patterns;
+        }
+
+        public void setPatterns(List<String> patterns) {
+            this.patterns = patterns;
+        }
+
+        public Limit getPerUser() {
+            return perUser;
+        }
+
+        public void setPerUser(Limit perUser) {
+            this.perUser = perUser;
+        }
+
+        public Limit getPerIp() {
+            return perIp;
+        }
+
+        public void setPerIp(Limit perIp) {
+            this.perIp = perIp;
+        }
+    }
+
+    /**
+     * Token bucket shape: burst capacity and sustained refill rate
+     */
+    public static class Limit {
+
+        private int capacity;
+        private double refillPerSecond;
+
+        public Limit() {
+        }
+
+        public Limit(int capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public double getRefillPerSecond() {
+            return refillPerSecond;
+        }
+
+        public void setRefillPerSecond(double refillPerSecond) {
+            this.refillPerSecond = refillPerSecond;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package employeemanagement.employee_management.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Runtime health monitoring
+ * RuntimeMonitor samples the JVM (memory, allocation, GC, threads) and the application meters
+ * (connection pools, request queues, cache sizes), keeps a short history for /actuator/runtime
+ * and moves readiness to REFUSING_TRAFFIC while the node stays over its thresholds.
+ */
+@Configuration
+@EnableConfigurationProperties(RuntimeMonitorProperties.class)
+public class RuntimeMonitorConfig {
+}
@@ -0,0 +1,136 @@
+package employeemanagement.employee_management.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Runtime monitor settings bound from runtime-monitor.*
+ * The node reports itself not ready (readiness probe 503) after degrade-after consecutive samples
+ * crossing a threshold, and ready again after recover-after consecutive samples within all of them.
+ */
+@ConfigurationProperties(prefix = "runtime-monitor")
+public class RuntimeMonitorProperties {
+
+    private boolean enabled = true;
+
+    private long intervalMs = 10_000;
+
+    /**
+     * Samples kept for /actuator/runtime (60 x 10s = 10 minutes)
+     */
+    private int history = 60;
+
+    private int degradeAfter = 3;
+
+    private int recoverAfter = 3;
+
+    private final Thresholds thresholds = new Thresholds();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getIntervalMs() {
+        return intervalMs;
+    }
+
+    public void setIntervalMs(long intervalMs) {
+        this.intervalMs = intervalMs;
+    }
+
+    public int getHistory() {
+        return history;
+    }
+
+    public void setHistory(int history) {
+        this.history = history;
+    }
+
+    public int getDegradeAfter() {
+        return degradeAfter;
+    }
+
+    public void setDegradeAfter(int degradeAfter) {
+        this.degradeAfter = degradeAfter;
+    }
+
+    public int getRecoverAfter() {
+        return recoverAfter;
+    }
+
+    public void setRecoverAfter(int recoverAfter) {
+        this.recoverAfter = recoverAfter;
+    }
+
+    public Thresholds getThresholds() {
+        return thresholds;
+    }
+
+    public static class Thresholds {
+
+        /**
+         * Used heap over maximum heap
+         */
+        private double heapUsage = 0.9;
+
+        /**
+         * Share of the sampling interval spent in garbage collection
+         */
+        private double gcTimeRatio = 0.2;
+
+        /**
+         * Threads waiting for a connection, in any one pool
+         */
+        private int connectionWaiters = 10;
+
+        /**
+         * Requests queued for an executor slot, a concurrency slot or password hashing, all together
+         */
+        private int queuedRequests = 100;
+
+        private int blockedThreads = 20;
+
+        public double getHeapUsage() {
+            return heapUsage;
+        }
+
+        public void setHeapUsage(double heapUsage) {
+            this.heapUsage = heapUsage;
+        }
+
+        public double getGcTimeRatio() {
+            return gcTimeRatio;
+        }
+
+        public void setGcTimeRatio(double gcTimeRatio) {
+            this.gcTimeRatio = gcTimeRatio;
+        }
+
+        public int getConnectionWaiters() {
+            return connectionWaiters;
+        }
+
+        public void setConnectionWaiters(int connectionWaiters) {
+            this.connectionWaiters = connectionWaiters;
+        }
+
+        public int getQueuedRequests() {
+            return queuedRequests;
+        }
+
+        public void setQueuedRequests(int queuedRequests) {
+            this.queuedRequests = queuedRequests;
+        }
+
+        public int getBlockedThreads() {
+            return blockedThreads;
+        }
+
+        public void setBlockedThreads(int blockedThreads) {
+            this.blockedThreads = blockedThreads;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package employeemanagement.employee_management.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Slow request and slow query sampling
+ * LatencyFilter opens a RequestTimeline per request; the JWT filter, RequestTimelineInterceptor
+ * and SerializationTimingAdvice add the time spent authenticating, in the handler and writing
+ * the response, and SamplingDataSource the time spent executing SQL. SlowRequestSampler keeps
+ * the requests and statements over their thresholds for /actuator/slow.
+ */
+@Configuration
+@EnableConfigurationProperties(SamplerProperties.class)
+public class SamplerConfig {
+}
@@ -0,0 +1,97 @@
+package employeemanagement.employee_management.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Slow request and slow query sampling settings bound from slow-sampler.*
+ * Samples are kept in memory, the newest capacity of each kind, and read from /actuator/slow.
+ */
+@ConfigurationProperties(prefix = "slow-sampler")
+public class SamplerProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Requests taking longer are sampled, with a stack snapshot of the thread serving them
+     * taken when they cross the threshold
+     */
+    private long requestThresholdMs = 1000;
+
+    /**
+     * Statements executing longer are sampled with their parameters and row count
+     */
+    private long queryThresholdMs = 200;
+
+    /**
+     * Samples kept of each kind
+     */
+    private int capacity = 100;
+
+    /**
+     * Show only the type (and length) of textual bound parameters; numbers, booleans and dates are shown
+     */
+    private boolean redactParameters = true;
+
+    private int maxStackDepth = 40;
+
+    /**
+     * How often in-flight requests are checked against the request threshold
+     */
+    private long watchdogIntervalMs = 100;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getRequestThresholdMs() {
+        return requestThresholdMs;
+    }
+
+    public void setRequestThresholdMs(long requestThresholdMs) {
+        this.requestThresholdMs = requestThresholdMs;
+    }
+
+    public long getQueryThresholdMs() {
+        return queryThresholdMs;
+    }
+
+    public void setQueryThresholdMs(long queryThresholdMs) {
+        this.queryThresholdMs = queryThresholdMs;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public boolean isRedactParameters() {
+        return redactParameters;
+    }
+
+    public void setRedactParameters(boolean redactParameters) {
+        this.redactParameters = redactParameters;
+    }
+
+    public int getMaxStackDepth() {
+        return maxStackDepth;
+    }
+
+    public void setMaxStackDepth(int maxStackDepth) {
+        this.maxStackDepth = maxStackDepth;
+    }
+
+    public long getWatchdogIntervalMs() {
+        return watchdogIntervalMs;
+    }
+
+    public void setWatchdogIntervalMs(long watchdogIntervalMs) {
+        this.watchdogIntervalMs = watchdogIntervalMs;
+    }
+}
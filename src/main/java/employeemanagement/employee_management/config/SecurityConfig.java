@@ -2,6 +2,11 @@ package employeemanagement.employee_management.config;
 
 import employeemanagement.employee_management.security.CustomUserDetailsService;
 import employeemanagement.employee_management.security.JwtAuthenticationFilter;
+import employeemanagement.employee_management.security.RateLimitFilter;
+import employeemanagement.employee_management.workload.ConcurrencyLimitFilter;
+import employeemanagement.employee_management.workload.RequestPriorityFilter;
+import jakarta.servlet.DispatcherType;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -14,6 +19,7 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 /**
@@ -22,17 +28,27 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class SecurityConfig {
 
     private final CustomUserDetailsService userDetailsService;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
+    private final RequestPriorityFilter requestPriorityFilter;
     private final PasswordEncoder passwordEncoder;
 
     public SecurityConfig(CustomUserDetailsService userDetailsService,
                          JwtAuthenticationFilter jwtAuthenticationFilter,
+                         RateLimitFilter rateLimitFilter,
+                         ConcurrencyLimitFilter concurrencyLimitFilter,
+                         RequestPriorityFilter requestPriorityFilter,
                          PasswordEncoder passwordEncoder) {
         this.userDetailsService = userDetailsService;
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.rateLimitFilter = rateLimitFilter;
+        this.concurrencyLimitFilter = concurrencyLimitFilter;
+        this.requestPriorityFilter = requestPriorityFilter;
         this.passwordEncoder = passwordEncoder;
     }
 
@@ -44,6 +60,15 @@ public class SecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .authorizeHttpRequests(auth -> auth
+                        // Async dispatch of a Callable result; the original request was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
+                        // Token revocation for other users - ADMIN only
+                        .requestMatchers("/api/auth/users/**").hasRole("ADMIN")
+
+                        // Slow request samples carry principals, SQL and stacks - ADMIN only
+                        .requestMatchers("/actuator/slow/**").hasRole("ADMIN")
+
                         // Public endpoints
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/actuator/**").permitAll()
@@ -53,6 +78,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/employees/**").hasAnyRole("USER", "ADMIN")
                         .requestMatchers(HttpMethod.POST, "/api/employees").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/api/employees/**").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.PATCH, "/api/employees/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.DELETE, "/api/employees/**").hasRole("ADMIN")
 
                         // Department API endpoints - ADMIN only
@@ -62,7 +88,11 @@ public class SecurityConfig {
                         .anyRequest().authenticated()
                 )
                 .authenticationProvider(authenticationProvider())
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class)
+                .addFilterAfter(requestPriorityFilter, JwtAuthenticationFilter.class)
+                // Only authorized requests queue: they resume on an async dispatch, which is permitted as is
+                .addFilterAfter(concurrencyLimitFilter, AuthorizationFilter.class);
 
         return http.build();
     }
@@ -72,6 +102,8 @@ public class SecurityConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder);
+        // Re-hash stored passwords whose cost differs from security.password-hash.cost on login
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         return authProvider;
     }
 
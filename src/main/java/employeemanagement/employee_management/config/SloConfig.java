@@ -0,0 +1,15 @@
+package employeemanagement.employee_management.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Per-route latency SLOs
+ * LatencyFilter records every request into RouteLatencyRegistry, which keeps a rolling window of
+ * latency histograms per route and status class plus lifetime good/slow/error counters
+ * (slo.requests); /actuator/slo reports percentiles and error budget burn against the thresholds.
+ */
+@Configuration
+@EnableConfigurationProperties(SloProperties.class)
+public class SloConfig {
+}
@@ -0,0 +1,134 @@
+package employeemanagement.employee_management.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Latency SLO settings bound from slo.*
+ * A request is good when it does not fail with 5xx and completes within the latency threshold
+ * of its route; the objective is the fraction of requests that must be good.
+ * Per-route overrides are keyed by route pattern: slo.routes[/api/employees/statistics].latency-ms=2000
+ */
+@ConfigurationProperties(prefix = "slo")
+public class SloProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * How often the rolling window advances; the window spans sliceMs * slices
+     */
+    private long sliceMs = 60_000;
+
+    private int slices = 5;
+
+    /**
+     * Default latency threshold, slower requests spend error budget
+     */
+    private long latencyMs = 500;
+
+    private double objective = 0.99;
+
+    /**
+     * Most distinct method and route pairs tracked, later ones are counted under OTHER
+     */
+    private int maxRoutes = 200;
+
+    private Map<String, Route> routes = new LinkedHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getSliceMs() {
+        return sliceMs;
+    }
+
+    public void setSliceMs(long sliceMs) {
+        this.sliceMs = sliceMs;
+    }
+
+    public int getSlices() {
+        return slices;
+    }
+
+    public void setSlices(int slices) {
+        this.slices = slices;
+    }
+
+    public long getLatencyMs() {
+        return latencyMs;
+    }
+
+    public void setLatencyMs(long latencyMs) {
+        this.latencyMs = latencyMs;
+    }
+
+    public double getObjective() {
+        return objective;
+    }
+
+    public void setObjective(double objective) {
+        this.objective = objective;
+    }
+
+    public int getMaxRoutes() {
+        return maxRoutes;
+    }
+
+    public void setMaxRoutes(int maxRoutes) {
+        this.maxRoutes = maxRoutes;
+    }
+
+    public Map<String, Route> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(Map<String, Route> routes) {
+        this.routes = routes;
+    }
+
+    /**
+     * Latency threshold of a route, falling back to the default
+     */
+    public long latencyMsFor(String uri) {
+        Route route = routes.get(uri);
+        return route != null && route.getLatencyMs() != null ? route.getLatencyMs() : latencyMs;
+    }
+
+    /**
+     * Objective of a route, falling back to the default
+     */
+    public double objectiveFor(String uri) {
+        Route route = routes.get(uri);
+        return route != null && route.getObjective() != null ? route.getObjective() : objective;
+    }
+
+    public static class Route {
+
+        private Long latencyMs;
+
+        private Double objective;
+
+        public Long getLatencyMs() {
+            return latencyMs;
+        }
+
+        public void setLatencyMs(Long latencyMs) {
+            this.latencyMs = latencyMs;
+        }
+
+        public Double getObjective() {
+            return objective;
+        }
+
+        public void setObjective(Double objective) {
+            this.objective = objective;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package employeemanagement.employee_management.config;
+
+import employeemanagement.employee_management.observability.QueryContextCallableInterceptor;
+import employeemanagement.employee_management.observability.RequestTimelineInterceptor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVC configuration
+ * Controller methods returning a Callable run on the jdbcExecutor, in the bulkhead of their
+ * workload class (see WorkloadConfig); the servlet thread is released meanwhile. Spring carries the security context and the open EntityManager over to the worker,
+ * and cancels work still queued when spring.mvc.async.request-timeout elapses. The request's
+ * query statistics are carried over too, so its statements are counted wherever they run.
+ * The time spent in handlers and their Callables is added to the request's timeline (see SamplerConfig).
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final AsyncTaskExecutor jdbcExecutor;
+    private final RequestTimelineInterceptor timelineInterceptor = new RequestTimelineInterceptor();
+
+    public WebMvcConfig(@Qualifier("jdbcExecutor") AsyncTaskExecutor jdbcExecutor) {
+        this.jdbcExecutor = jdbcExecutor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(jdbcExecutor);
+        configurer.registerCallableInterceptors(new QueryContextCallableInterceptor(), timelineInterceptor);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(timelineInterceptor);
+    }
+}
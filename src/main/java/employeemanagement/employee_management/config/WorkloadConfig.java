@@ -0,0 +1,126 @@
+package employeemanagement.employee_management.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import employeemanagement.employee_management.observability.SamplingDataSource;
+import employeemanagement.employee_management.observability.SlowRequestSampler;
+import employeemanagement.employee_management.workload.WorkloadClass;
+import employeemanagement.employee_management.workload.PriorityTaskQueue;
+import employeemanagement.employee_management.workload.WorkloadRoutingDataSource;
+import employeemanagement.employee_management.workload.WorkloadRoutingExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Bulkheads between workload classes (see WorkloadClass)
+ * Each class gets its own Hikari pool and its own executor slots, so reporting queries
+ * piling up cannot take the connections or threads reserved for interactive reads and writes
+ */
+@Configuration
+@EnableConfigurationProperties({WorkloadProperties.class, ConcurrencyLimitProperties.class, PriorityProperties.class})
+public class WorkloadConfig {
+
+    /**
+     * DataSource routing each transaction to the pool of the current workload class
+     * Every pool is built from spring.datasource.* and spring.datasource.hikari.*, then sized
+     * from workload.pools.*; it reports hikaricp.* metrics under pool=workload-&lt;class&gt;
+     * With slow-sampler.enabled it is wrapped to time statements and sample slow ones
+     *
+     * @return WorkloadRoutingDataSource instance, possibly wrapped in a SamplingDataSource
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties dataSourceProperties,
+                                 WorkloadProperties workloadProperties,
+                                 PriorityProperties priorityProperties,
+                                 Environment environment,
+                                 MeterRegistry meterRegistry,
+                                 SlowRequestSampler slowRequestSampler) {
+        Binder binder = Binder.get(environment);
+        Map<WorkloadClass, HikariDataSource> pools = new EnumMap<>(WorkloadClass.class);
+        for (WorkloadClass workloadClass : WorkloadClass.values()) {
+            HikariDataSource pool = dataSourceProperties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .build();
+            binder.bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+            int connections = workloadProperties.getPool(workloadClass).getConnections();
+            pool.setPoolName("workload-" + workloadClass.name().toLowerCase());
+            pool.setMaximumPoolSize(connections);
+            if (pool.getMinimumIdle() > connections) {
+                pool.setMinimumIdle(connections);
+            }
+            pool.setMetricRegistry(meterRegistry);
+            pools.put(workloadClass, pool);
+        }
+        DataSource routing = new WorkloadRoutingDataSource(pools, priorityProperties.getStarvationTimeoutMs(), meterRegistry);
+        return slowRequestSampler.isEnabled() ? new SamplingDataSource(routing, slowRequestSampler) : routing;
+    }
+
+    /**
+     * Executor running the Callable returned by database-bound controller endpoints
+     * Each class has as many slots as connections: more threads would only wait for a connection
+     * Its queue is bounded and overflow is rejected with a 503
+     *
+     * @return WorkloadRoutingExecutor instance
+     */
+    @Bean
+    public AsyncTaskExecutor jdbcExecutor(WorkloadProperties workloadProperties,
+                                          PriorityProperties priorityProperties,
+                                          Environment environment,
+                                          MeterRegistry meterRegistry) {
+        Map<WorkloadClass, AsyncTaskExecutor> executors = new EnumMap<>(WorkloadClass.class);
+        Map<WorkloadClass, Integer> slots = new EnumMap<>(WorkloadClass.class);
+        for (WorkloadClass workloadClass : WorkloadClass.values()) {
+            WorkloadProperties.Pool pool = workloadProperties.getPool(workloadClass);
+            executors.put(workloadClass, classExecutor(workloadClass, pool, priorityProperties, environment));
+            slots.put(workloadClass, pool.getConnections());
+        }
+        return new WorkloadRoutingExecutor(executors, slots, meterRegistry);
+    }
+
+    private static AsyncTaskExecutor classExecutor(WorkloadClass workloadClass,
+                                                   WorkloadProperties.Pool pool,
+                                                   PriorityProperties priorityProperties,
+                                                   Environment environment) {
+        String prefix = "jdbc-" + workloadClass.name().toLowerCase() + "-";
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(prefix);
+            executor.setVirtualThreads(true);
+            // Threads beyond the connection count wait in the pool's priority gate instead of a queue
+            executor.setConcurrencyLimit(pool.getConnections() + pool.getQueueCapacity());
+            executor.setRejectTasksWhenLimitReached(true);
+            return executor;
+        }
+
+        // Queued requests are served by priority
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor() {
+            @Override
+            protected BlockingQueue<Runnable> createQueue(int queueCapacity) {
+                return new PriorityTaskQueue(queueCapacity, priorityProperties.getStarvationTimeoutMs());
+            }
+        };
+        executor.setCorePoolSize(pool.getConnections());
+        executor.setMaxPoolSize(pool.getConnections());
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setThreadNamePrefix(prefix);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
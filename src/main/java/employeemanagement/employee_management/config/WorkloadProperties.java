@@ -0,0 +1,89 @@
+package employeemanagement.employee_management.config;
+
+import employeemanagement.employee_management.workload.WorkloadClass;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Bulkhead sizes per workload class bound from workload.pools.&lt;class&gt;.*
+ * Classes left unset keep their defaults. Other connection pool settings
+ * (timeouts, lifetimes) come from spring.datasource.hikari.* and apply to every pool.
+ */
+@ConfigurationProperties(prefix = "workload")
+public class WorkloadProperties {
+
+    private final Pools pools = new Pools();
+
+    public Pools getPools() {
+        return pools;
+    }
+
+    public Pool getPool(WorkloadClass workloadClass) {
+        return switch (workloadClass) {
+            case INTERACTIVE -> pools.getInteractive();
+            case WRITE -> pools.getWrite();
+            case REPORTING -> pools.getReporting();
+        };
+    }
+
+    /**
+     * One nested bean per class so that setting a single value keeps the other defaults
+     */
+    public static class Pools {
+
+        private final Pool interactive = new Pool(5, 300);
+        private final Pool write = new Pool(3, 150);
+        private final Pool reporting = new Pool(2, 20);
+
+        public Pool getInteractive() {
+            return interactive;
+        }
+
+        public Pool getWrite() {
+            return write;
+        }
+
+        public Pool getReporting() {
+            return reporting;
+        }
+    }
+
+    /**
+     * Capacity reserved for one workload class
+     */
+    public static class Pool {
+
+        /**
+         * Connections in the class's pool, also its number of execution slots
+         */
+        private int connections;
+
+        /**
+         * Requests allowed to wait for a slot before the class rejects with 503
+         */
+        private int queueCapacity;
+
+        public Pool() {
+        }
+
+        public Pool(int connections, int queueCapacity) {
+            this.connections = connections;
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getConnections() {
+            return connections;
+        }
+
+        public void setConnections(int connections) {
+            this.connections = connections;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+    }
+}
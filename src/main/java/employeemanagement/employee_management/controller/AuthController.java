@@ -4,8 +4,13 @@ import employeemanagement.employee_management.dto.AuthRequest;
 import employeemanagement.employee_management.dto.AuthResponse;
 import employeemanagement.employee_management.model.User;
 import employeemanagement.employee_management.security.JwtTokenProvider;
+import employeemanagement.employee_management.security.TokenRevocationService;
+import employeemanagement.employee_management.security.UserDetailsCache;
+import employeemanagement.employee_management.security.UserPrincipal;
 import employeemanagement.employee_management.service.UserService;
+import io.jsonwebtoken.Claims;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -16,6 +21,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -29,13 +35,19 @@ public class AuthController {
     private final UserService userService;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManager authenticationManager;
+    private final TokenRevocationService tokenRevocationService;
+    private final UserDetailsCache userDetailsCache;
 
     public AuthController(UserService userService,
                          JwtTokenProvider jwtTokenProvider,
-                         AuthenticationManager authenticationManager) {
+                         AuthenticationManager authenticationManager,
+                         TokenRevocationService tokenRevocationService,
+                         UserDetailsCache userDetailsCache) {
         this.userService = userService;
         this.jwtTokenProvider = jwtTokenProvider;
         this.authenticationManager = authenticationManager;
+        this.tokenRevocationService = tokenRevocationService;
+        this.userDetailsCache = userDetailsCache;
     }
 
     /**
@@ -78,12 +90,20 @@ public class AuthController {
                     )
             );
 
-            String token = jwtTokenProvider.generateToken(authRequest.getUsername());
-
             // Get roles from authentication
-            String roles = authentication.getAuthorities().stream()
+            List<String> authorities = authentication.getAuthorities().stream()
                     .map(GrantedAuthority::getAuthority)
-                    .collect(Collectors.joining(","));
+                    .collect(Collectors.toList());
+            long stamp = 0L;
+            if (authentication.getPrincipal() instanceof UserPrincipal principal) {
+                stamp = principal.getStamp();
+                // Just read from the database: the token's first requests need no user lookup
+                userDetailsCache.put(principal);
+            }
+
+            // Roles and user stamp are embedded so the JWT filter needs no database lookup
+            String token = jwtTokenProvider.generateToken(authRequest.getUsername(), authorities, stamp);
+            String roles = String.join(",", authorities);
 
             AuthResponse response = new AuthResponse(token, authRequest.getUsername(), roles);
             return ResponseEntity.ok(response);
@@ -94,4 +114,46 @@ public class AuthController {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
         }
     }
+
+    /**
+     * Logout: revoke the presented token
+     * POST /api/auth/logout
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        Claims claims = authorization != null && authorization.startsWith("Bearer ")
+                ? jwtTokenProvider.parseToken(authorization.substring(7)).orElse(null)
+                : null;
+        if (claims == null) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Missing or invalid token");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        }
+
+        tokenRevocationService.revokeToken(claims);
+
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "Logged out successfully");
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Revoke every token issued to a user so far (e.g. after disabling the account)
+     * POST /api/auth/users/{username}/revoke-tokens
+     */
+    @PostMapping("/users/{username}/revoke-tokens")
+    public ResponseEntity<?> revokeUserTokens(@PathVariable String username) {
+        if (userService.findByUsername(username).isEmpty()) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "User not found: " + username);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
+
+        tokenRevocationService.revokeUser(username);
+
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "All tokens revoked");
+        response.put("username", username);
+        return ResponseEntity.ok(response);
+    }
 }
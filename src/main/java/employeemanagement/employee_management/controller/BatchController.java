@@ -0,0 +1,183 @@
+package employeemanagement.employee_management.controller;
+
+import employeemanagement.employee_management.dto.BatchOperation;
+import employeemanagement.employee_management.dto.BatchOperationResult;
+import employeemanagement.employee_management.dto.BatchRequest;
+import employeemanagement.employee_management.dto.BatchResponse;
+import employeemanagement.employee_management.exception.ValidationException;
+import employeemanagement.employee_management.observability.QueryContext;
+import employeemanagement.employee_management.workload.RequestPriority;
+import employeemanagement.employee_management.workload.WorkloadClass;
+import employeemanagement.employee_management.workload.WorkloadContext;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * BatchController - Executes many API operations in one round trip
+ * POST /api/batch
+ *
+ * The batch is authenticated once by the normal filter chain; every sub-operation is then
+ * authorized and dispatched in-process by BatchOperationRouter. By default consecutive
+ * reads run in parallel and each write runs in request order after the reads before it.
+ * With "atomic": true all operations run sequentially in one transaction that is rolled
+ * back on the first failure, and the remaining operations report 424 Failed Dependency.
+ * Each sub-operation takes its connection from the pool of the workload class it would get as a
+ * standalone request, at the caller's priority; an atomic batch shares one connection for all of them.
+ */
+@RestController
+@RequestMapping("/api/batch")
+public class BatchController {
+
+    private final BatchOperationRouter router;
+    private final Executor batchExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final int maxOperations;
+
+    public BatchController(BatchOperationRouter router,
+                           @Qualifier("batchExecutor") Executor batchExecutor,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${batch.max-operations:50}") int maxOperations) {
+        this.router = router;
+        this.batchExecutor = batchExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.maxOperations = maxOperations;
+    }
+
+    /**
+     * Execute an ordered list of sub-operations
+     * POST /api/batch
+     */
+    @PostMapping
+    public ResponseEntity<BatchResponse> executeBatch(@Valid @RequestBody BatchRequest batchRequest,
+                                                      BindingResult bindingResult) {
+        if (bindingResult.hasErrors()) {
+            throw ValidationException.fromBindingResult(bindingResult);
+        }
+        if (batchRequest.getOperations().size() > maxOperations) {
+            throw new ValidationException("Validation failed", Collections.singletonList(
+                    "operations: At most " + maxOperations + " operations are allowed per batch"));
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        RequestPriority priority = WorkloadContext.priority();
+        BatchResponse response = batchRequest.isAtomic()
+                ? executeAtomically(batchRequest.getOperations(), authentication, priority)
+                : executeConcurrently(batchRequest.getOperations(), authentication, priority);
+        return ResponseEntity.ok(response);
+    }
+
+    private BatchResponse executeConcurrently(List<BatchOperation> operations, Authentication authentication,
+                                              RequestPriority priority) {
+        Executor executor = QueryContext.propagating(
+                new DelegatingSecurityContextExecutor(batchExecutor, SecurityContextHolder.getContext()));
+        List<CompletableFuture<BatchOperationResult>> results = new ArrayList<>();
+        List<CompletableFuture<BatchOperationResult>> pendingReads = new ArrayList<>();
+
+        for (BatchOperation operation : operations) {
+            if (router.isRead(operation)) {
+                // Worker threads have no open-session-in-view, so keep a read-only session open while mapping DTOs
+                WorkloadClass workloadClass = router.workloadClass(operation);
+                CompletableFuture<BatchOperationResult> read = CompletableFuture
+                        .supplyAsync(() -> WorkloadContext.run(workloadClass, priority, () ->
+                                readOnlyTransactionTemplate.execute(status -> {
+                                    ResponseEntity<?> response = router.execute(operation, authentication);
+                                    if (response.getStatusCode().isError()) {
+                                        // A service exception already marked the transaction; end it quietly
+                                        status.setRollbackOnly();
+                                    }
+                                    return toResult(operation, response);
+                                })), executor)
+                        .exceptionally(e -> new BatchOperationResult(operation.getId(),
+                                HttpStatus.INTERNAL_SERVER_ERROR.value(), null, null));
+                results.add(read);
+                pendingReads.add(read);
+            } else {
+                // A write is an ordering barrier: earlier reads must not observe it
+                CompletableFuture.allOf(pendingReads.toArray(new CompletableFuture[0])).join();
+                pendingReads.clear();
+                ResponseEntity<?> response = WorkloadContext.run(router.workloadClass(operation), priority,
+                        () -> router.execute(operation, authentication));
+                results.add(CompletableFuture.completedFuture(toResult(operation, response)));
+            }
+        }
+
+        List<BatchOperationResult> completed = new ArrayList<>(results.size());
+        for (CompletableFuture<BatchOperationResult> result : results) {
+            completed.add(result.join());
+        }
+        return new BatchResponse(true, completed);
+    }
+
+    private BatchResponse executeAtomically(List<BatchOperation> operations, Authentication authentication,
+                                            RequestPriority priority) {
+        List<BatchOperationResult> results = new ArrayList<>(operations.size());
+        WorkloadClass workloadClass = atomicWorkloadClass(operations);
+        Boolean committed = WorkloadContext.run(workloadClass, priority, () -> transactionTemplate.execute(status -> {
+            boolean failed = false;
+            for (BatchOperation operation : operations) {
+                if (failed) {
+                    results.add(new BatchOperationResult(operation.getId(),
+                            HttpStatus.FAILED_DEPENDENCY.value(), null, null));
+                    continue;
+                }
+                ResponseEntity<?> response = router.execute(operation, authentication);
+                results.add(toResult(operation, response));
+                if (response.getStatusCode().isError()) {
+                    failed = true;
+                    status.setRollbackOnly();
+                }
+            }
+            return !failed;
+        }));
+        return new BatchResponse(Boolean.TRUE.equals(committed), results);
+    }
+
+    /**
+     * The transaction holds one connection for the whole batch: any write needs the write pool,
+     * otherwise the heaviest read decides
+     */
+    private WorkloadClass atomicWorkloadClass(List<BatchOperation> operations) {
+        WorkloadClass batchClass = WorkloadClass.INTERACTIVE;
+        for (BatchOperation operation : operations) {
+            WorkloadClass workloadClass = router.workloadClass(operation);
+            if (workloadClass == WorkloadClass.WRITE) {
+                return WorkloadClass.WRITE;
+            }
+            if (workloadClass == WorkloadClass.REPORTING) {
+                batchClass = WorkloadClass.REPORTING;
+            }
+        }
+        return batchClass;
+    }
+
+    private BatchOperationResult toResult(BatchOperation operation, ResponseEntity<?> response) {
+        return new BatchOperationResult(
+                operation.getId(),
+                response.getStatusCode().value(),
+                response.getHeaders().isEmpty() ? null : response.getHeaders().toSingleValueMap(),
+                response.getBody()
+        );
+    }
+}
@@ -0,0 +1,291 @@
+package employeemanagement.employee_management.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import employeemanagement.employee_management.dto.BatchOperation;
+import employeemanagement.employee_management.exception.GlobalExceptionHandler;
+import employeemanagement.employee_management.model.Department;
+import employeemanagement.employee_management.model.Employee;
+import employeemanagement.employee_management.service.IdempotencyService;
+import employeemanagement.employee_management.workload.Workload;
+import employeemanagement.employee_management.workload.WorkloadClass;
+import employeemanagement.employee_management.workload.WorkloadRoutingExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.WebInvocationPrivilegeEvaluator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.method.annotation.ExceptionHandlerMethodResolver;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps batch sub-operations onto the existing REST controllers in-process.
+ *
+ * Each operation is authorized against the same URL rules as a real request (via the
+ * security filter chain's privilege evaluator), dispatched to the controller method that
+ * serves that route, and any exception is rendered by GlobalExceptionHandler, so a
+ * sub-operation answers exactly like the equivalent standalone call.
+ */
+@Component
+public class BatchOperationRouter {
+
+    private final List<Route> routes = new ArrayList<>();
+    private final WebInvocationPrivilegeEvaluator privilegeEvaluator;
+    private final GlobalExceptionHandler exceptionHandler;
+    private final ExceptionHandlerMethodResolver exceptionHandlerMethods =
+            new ExceptionHandlerMethodResolver(GlobalExceptionHandler.class);
+    private final ObjectMapper objectMapper;
+    private final SpringValidatorAdapter validator;
+
+    public BatchOperationRouter(EmployeeController employeeController,
+                                DepartmentController departmentController,
+                                WebInvocationPrivilegeEvaluator privilegeEvaluator,
+                                GlobalExceptionHandler exceptionHandler,
+                                ObjectMapper objectMapper,
+                                jakarta.validation.Validator validator) {
+        this.privilegeEvaluator = privilegeEvaluator;
+        this.exceptionHandler = exceptionHandler;
+        this.objectMapper = objectMapper;
+        this.validator = new SpringValidatorAdapter(validator);
+
+        // Literal routes first so "/statistics" is not captured by "/{id}"
+        // Controller endpoints return a Callable; batch operations run it on the current thread, under the
+        // workload class the handler method would get as a standalone request (see workloadClass)
+        route(HttpMethod.GET, "/api/employees/info", handler(EmployeeController.class, "getAppInfo"),
+                call -> employeeController.getAppInfo().call());
+        route(HttpMethod.GET, "/api/employees/statistics", handler(EmployeeController.class, "getStatistics"),
+                call -> employeeController.getStatistics().call());
+        route(HttpMethod.GET, "/api/employees", handler(EmployeeController.class, "getAllEmployees"),
+                call -> employeeController.getAllEmployees(call.query("name"), call.query("departmentName")).call());
+        route(HttpMethod.GET, "/api/employees/{id}", handler(EmployeeController.class, "getEmployeeById"),
+                call -> employeeController.getEmployeeById(call.path("id")).call());
+        route(HttpMethod.POST, "/api/employees", handler(EmployeeController.class, "createEmployee"), call -> {
+            Employee employee = call.body(Employee.class);
+            return employeeController.createEmployee(call.header(IdempotencyService.HEADER), employee,
+                    validate(employee, "employee")).call();
+        });
+        route(HttpMethod.PUT, "/api/employees/{id}", handler(EmployeeController.class, "updateEmployee"), call -> {
+            Employee employee = call.body(Employee.class);
+            return employeeController.updateEmployee(call.path("id"), call.header(HttpHeaders.IF_MATCH),
+                    call.header(IdempotencyService.HEADER), employee, validate(employee, "employee")).call();
+        });
+        route(HttpMethod.PATCH, "/api/employees/{id}", handler(EmployeeController.class, "patchEmployee"),
+                call -> employeeController.patchEmployee(
+                        call.path("id"), call.header(HttpHeaders.IF_MATCH), call.header(IdempotencyService.HEADER),
+                        call.bodyAsMap()).call());
+        route(HttpMethod.DELETE, "/api/employees/{id}", handler(EmployeeController.class, "deleteEmployee"),
+                call -> employeeController.deleteEmployee(
+                        call.path("id"), call.header(HttpHeaders.IF_MATCH), call.header(IdempotencyService.HEADER)).call());
+
+        route(HttpMethod.GET, "/api/departments", handler(DepartmentController.class, "getAllDepartments"),
+                call -> departmentController.getAllDepartments().call());
+        route(HttpMethod.GET, "/api/departments/{id}", handler(DepartmentController.class, "getDepartmentById"),
+                call -> departmentController.getDepartmentById(call.pathAsLong("id")).call());
+        route(HttpMethod.GET, "/api/departments/{id}/employees", handler(DepartmentController.class, "getEmployeesByDepartment"),
+                call -> departmentController.getEmployeesByDepartment(call.pathAsLong("id")).call());
+        route(HttpMethod.POST, "/api/departments", handler(DepartmentController.class, "createDepartment"),
+                call -> departmentController.createDepartment(call.body(Department.class)).call());
+        route(HttpMethod.PUT, "/api/departments/{id}", handler(DepartmentController.class, "updateDepartment"),
+                call -> departmentController.updateDepartment(
+                        call.pathAsLong("id"), call.header(HttpHeaders.IF_MATCH), call.body(Department.class)).call());
+        route(HttpMethod.DELETE, "/api/departments/{id}", handler(DepartmentController.class, "deleteDepartment"),
+                call -> departmentController.deleteDepartment(call.pathAsLong("id"), call.header(HttpHeaders.IF_MATCH),
+                        call.query("mode") == null ? "unassign" : call.query("mode"),
+                        call.query("targetDepartmentId") == null ? null : Long.valueOf(call.query("targetDepartmentId"))).call());
+    }
+
+    /**
+     * @return true when the operation only reads data and may run concurrently with other reads
+     */
+    public boolean isRead(BatchOperation operation) {
+        return HttpMethod.GET.matches(normalizeMethod(operation));
+    }
+
+    /**
+     * Workload class the operation gets as a standalone request: the {@link Workload} class of
+     * the controller method serving its route, else the class derived from its HTTP method.
+     * The caller makes it current before the operation acquires a connection.
+     */
+    public WorkloadClass workloadClass(BatchOperation operation) {
+        String method = normalizeMethod(operation);
+        try {
+            Route route = findRoute(HttpMethod.valueOf(method), UriComponentsBuilder.fromUriString(operation.getPath()).build());
+            if (route != null) {
+                return route.workloadClass;
+            }
+        } catch (IllegalArgumentException e) {
+            // Unparseable method or path: execute() answers it without touching the database
+        }
+        return WorkloadRoutingExecutor.classify(null, method);
+    }
+
+    /**
+     * Execute one sub-operation as the given principal; never throws
+     */
+    public ResponseEntity<?> execute(BatchOperation operation, Authentication authentication) {
+        try {
+            HttpMethod method = HttpMethod.valueOf(normalizeMethod(operation));
+            UriComponents uri = UriComponentsBuilder.fromUriString(operation.getPath()).build();
+            String path = pathOf(uri);
+
+            Route route = findRoute(method, uri);
+            if (route == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+            }
+            if (!privilegeEvaluator.isAllowed("", path, method.name(), authentication)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+            PathPattern.PathMatchInfo match = route.pattern.matchAndExtract(PathContainer.parsePath(path));
+            return route.handler.handle(new Call(operation, match.getUriVariables(), uri.getQueryParams()));
+        } catch (Exception e) {
+            return handleException(e);
+        }
+    }
+
+    private Route findRoute(HttpMethod method, UriComponents uri) {
+        PathContainer path = PathContainer.parsePath(pathOf(uri));
+        for (Route route : routes) {
+            if (route.method.equals(method) && route.pattern.matches(path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private static String pathOf(UriComponents uri) {
+        return uri.getPath() == null ? "" : uri.getPath();
+    }
+
+    private ResponseEntity<?> handleException(Exception exception) {
+        Method handler = exceptionHandlerMethods.resolveMethod(exception);
+        if (handler == null || handler.getParameterCount() != 1) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+        try {
+            return (ResponseEntity<?>) handler.invoke(exceptionHandler, exception);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    private BindingResult validate(Object target, String objectName) {
+        BindingResult bindingResult = new BeanPropertyBindingResult(target, objectName);
+        validator.validate(target, bindingResult);
+        return bindingResult;
+    }
+
+    private void route(HttpMethod method, String pattern, Method handlerMethod, RouteHandler handler) {
+        routes.add(new Route(method, PathPatternParser.defaultInstance.parse(pattern),
+                WorkloadRoutingExecutor.classify(handlerMethod, method.name()), handler));
+    }
+
+    private static Method handler(Class<?> controller, String name) {
+        Method method = ReflectionUtils.findMethod(controller, name, (Class<?>[]) null);
+        Assert.state(method != null, () -> "No handler method " + controller.getSimpleName() + "." + name);
+        return method;
+    }
+
+    private static String normalizeMethod(BatchOperation operation) {
+        return operation.getMethod() == null ? "" : operation.getMethod().trim().toUpperCase();
+    }
+
+    @FunctionalInterface
+    private interface RouteHandler {
+        ResponseEntity<?> handle(Call call) throws Exception;
+    }
+
+    private static final class Route {
+        private final HttpMethod method;
+        private final PathPattern pattern;
+        private final WorkloadClass workloadClass;
+        private final RouteHandler handler;
+
+        Route(HttpMethod method, PathPattern pattern, WorkloadClass workloadClass, RouteHandler handler) {
+            this.method = method;
+            this.pattern = pattern;
+            this.workloadClass = workloadClass;
+            this.handler = handler;
+        }
+    }
+
+    /**
+     * Accessors for one matched operation: path variables, query parameters, headers and body
+     */
+    private final class Call {
+        private final BatchOperation operation;
+        private final Map<String, String> pathVariables;
+        private final MultiValueMap<String, String> queryParams;
+
+        Call(BatchOperation operation, Map<String, String> pathVariables, MultiValueMap<String, String> queryParams) {
+            this.operation = operation;
+            this.pathVariables = pathVariables;
+            this.queryParams = queryParams;
+        }
+
+        /**
+         * Path variables come decoded from the pattern match; decoding again would turn "%25" into "%"
+         */
+        String path(String name) {
+            return pathVariables.get(name);
+        }
+
+        Long pathAsLong(String name) {
+            return Long.valueOf(path(name));
+        }
+
+        /**
+         * Query parameters are kept encoded by UriComponentsBuilder.build(), so they are decoded once here
+         */
+        String query(String name) {
+            String value = queryParams.getFirst(name);
+            return value == null ? null : UriUtils.decode(value, StandardCharsets.UTF_8);
+        }
+
+        String header(String name) {
+            Map<String, String> headers = operation.getHeaders();
+            if (headers == null) {
+                return null;
+            }
+            for (Map.Entry<String, String> header : headers.entrySet()) {
+                if (header.getKey().equalsIgnoreCase(name)) {
+                    return header.getValue();
+                }
+            }
+            return null;
+        }
+
+        <T> T body(Class<T> type) {
+            if (operation.getBody() == null) {
+                throw new IllegalArgumentException("Request body is required");
+            }
+            return objectMapper.convertValue(operation.getBody(), type);
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> bodyAsMap() {
+            if (!(operation.getBody() instanceof Map)) {
+                throw new IllegalArgumentException("Request body must be a JSON object");
+            }
+            return (Map<String, Object>) operation.getBody();
+        }
+    }
+}
@@ -6,15 +6,19 @@ import employeemanagement.employee_management.mapper.DtoMapper;
 import employeemanagement.employee_management.model.Department;
 import employeemanagement.employee_management.model.Employee;
 import employeemanagement.employee_management.service.DepartmentService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
 
 /**
  * DepartmentController - REST API endpoints for Department Management
+ * Endpoints return a Callable so the JDBC work runs on the jdbcExecutor, not the servlet thread;
+ * the HTTP contract is the same as the synchronous handlers they replaced
  */
 @RestController
 @RequestMapping("/api/departments")
@@ -33,13 +37,17 @@ public class DepartmentController {
      * POST /api/departments
      */
     @PostMapping
-    public ResponseEntity<DepartmentDTO> createDepartment(@RequestBody Department department) {
-        try {
-            Department created = departmentService.createDepartment(department);
-            return ResponseEntity.status(HttpStatus.CREATED).body(dtoMapper.toDepartmentDTO(created));
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().build();
-        }
+    public Callable<ResponseEntity<DepartmentDTO>> createDepartment(@RequestBody Department department) {
+        return () -> {
+            try {
+                Department created = departmentService.createDepartment(department);
+                return ResponseEntity.status(HttpStatus.CREATED)
+                        .eTag(EntityTags.fromVersion(created.getVersion()))
+                        .body(dtoMapper.toDepartmentDTO(created));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        };
     }
 
     /**
@@ -47,9 +55,11 @@ public class DepartmentController {
      * GET /api/departments
      */
     @GetMapping
-    public ResponseEntity<List<DepartmentDTO>> getAllDepartments() {
-        List<Department> departments = departmentService.getAllDepartments();
-        return ResponseEntity.ok(dtoMapper.toDepartmentDTOList(departments));
+    public Callable<ResponseEntity<List<DepartmentDTO>>> getAllDepartments() {
+        return () -> {
+            List<Department> departments = departmentService.getAllDepartments();
+            return ResponseEntity.ok(dtoMapper.toDepartmentDTOList(departments));
+        };
     }
 
     /**
@@ -57,35 +67,57 @@ public class DepartmentController {
      * GET /api/departments/{id}
      */
     @GetMapping("/{id}")
-    public ResponseEntity<DepartmentDTO> getDepartmentById(@PathVariable Long id) {
-        Optional<Department> department = departmentService.getDepartmentById(id);
-        return department.map(d -> ResponseEntity.ok(dtoMapper.toDepartmentDTO(d)))
-                        .orElse(ResponseEntity.notFound().build());
+    public Callable<ResponseEntity<DepartmentDTO>> getDepartmentById(@PathVariable Long id) {
+        return () -> {
+            Optional<Department> department = departmentService.getDepartmentById(id);
+            return department.map(d -> ResponseEntity.ok()
+                                    .eTag(EntityTags.fromVersion(d.getVersion()))
+                                    .body(dtoMapper.toDepartmentDTO(d)))
+                            .orElse(ResponseEntity.notFound().build());
+        };
     }
 
     /**
      * Update department
      * PUT /api/departments/{id}
+     * Optional If-Match: "version" header rejects stale updates with 412
      */
     @PutMapping("/{id}")
-    public ResponseEntity<DepartmentDTO> updateDepartment(@PathVariable Long id, @RequestBody Department department) {
-        try {
-            Department updated = departmentService.updateDepartment(id, department);
-            return ResponseEntity.ok(dtoMapper.toDepartmentDTO(updated));
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.notFound().build();
-        }
+    public Callable<ResponseEntity<DepartmentDTO>> updateDepartment(@PathVariable Long id,
+                                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                                    @RequestBody Department department) {
+        Long expectedVersion = EntityTags.parseIfMatch(ifMatch);
+        return () -> {
+            try {
+                Department updated = departmentService.updateDepartment(id, department, expectedVersion);
+                return ResponseEntity.ok()
+                        .eTag(EntityTags.fromVersion(updated.getVersion()))
+                        .body(dtoMapper.toDepartmentDTO(updated));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.notFound().build();
+            }
+        };
     }
 
     /**
      * Delete department
-     * DELETE /api/departments/{id}
+     * DELETE /api/departments/{id}?mode=unassign
+     * DELETE /api/departments/{id}?mode=reassign&targetDepartmentId=2
+     * Employees are kept: unassigned (default) or moved to the target department
+     * Optional If-Match: "version" header rejects stale deletes with 412
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteDepartment(@PathVariable Long id) {
-        boolean deleted = departmentService.deleteDepartment(id);
-        return deleted ? ResponseEntity.noContent().build()
-                      : ResponseEntity.notFound().build();
+    public Callable<ResponseEntity<Void>> deleteDepartment(@PathVariable Long id,
+                                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                           @RequestParam(value = "mode", defaultValue = "unassign") String mode,
+                                                           @RequestParam(value = "targetDepartmentId", required = false) Long targetDepartmentId) {
+        Long expectedVersion = EntityTags.parseIfMatch(ifMatch);
+        DepartmentService.DeletionMode deletionMode = DepartmentService.DeletionMode.fromString(mode);
+        return () -> {
+            boolean deleted = departmentService.deleteDepartment(id, expectedVersion, deletionMode, targetDepartmentId);
+            return deleted ? ResponseEntity.noContent().<Void>build()
+                          : ResponseEntity.notFound().<Void>build();
+        };
     }
 
     /**
@@ -93,12 +125,14 @@ public class DepartmentController {
      * GET /api/departments/{id}/employees
      */
     @GetMapping("/{id}/employees")
-    public ResponseEntity<List<EmployeeDTO>> getEmployeesByDepartment(@PathVariable Long id) {
-        try {
-            List<Employee> employees = departmentService.getEmployeesByDepartment(id);
-            return ResponseEntity.ok(dtoMapper.toEmployeeDTOList(employees));
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.notFound().build();
-        }
+    public Callable<ResponseEntity<List<EmployeeDTO>>> getEmployeesByDepartment(@PathVariable Long id) {
+        return () -> {
+            try {
+                List<Employee> employees = departmentService.getEmployeesByDepartment(id);
+                return ResponseEntity.ok(dtoMapper.toEmployeeDTOList(employees));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.notFound().build();
+            }
+        };
     }
 }
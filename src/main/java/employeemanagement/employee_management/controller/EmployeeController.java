@@ -6,10 +6,14 @@ import employeemanagement.employee_management.exception.ValidationException;
 import employeemanagement.employee_management.mapper.DtoMapper;
 import employeemanagement.employee_management.model.Employee;
 import employeemanagement.employee_management.service.EmployeeService;
+import employeemanagement.employee_management.service.IdempotencyService;
 import employeemanagement.employee_management.service.StatisticsService;
 import employeemanagement.employee_management.service.UtilityService;
+import employeemanagement.employee_management.workload.Workload;
+import employeemanagement.employee_management.workload.WorkloadClass;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -18,20 +22,27 @@ import org.springframework.web.bind.annotation.*;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
 /**
  * EmployeeController - REST API endpoints for Employee Management
  * Demonstrates different types of Dependency Injection
+ * Endpoints that hit the database return a Callable: request validation runs on the servlet thread,
+ * the JDBC work on the jdbcExecutor (see WebMvcConfig), releasing the servlet thread while it waits.
+ * They replace the former synchronous handlers on purpose: paths, status codes and bodies are unchanged
  */
 @RestController
 @RequestMapping("/api/employees")
 public class EmployeeController {
 
+    static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
     // Constructor Injection - Recommended approach
     private final EmployeeService employeeService;
     private final UtilityService utilityService;
     private final DtoMapper dtoMapper;
     private final StatisticsService statisticsService;
+    private final IdempotencyService idempotencyService;
 
     // Field Injection using @Autowired - Less preferred but shown for demonstration
     @Autowired
@@ -42,11 +53,13 @@ public class EmployeeController {
      * Spring automatically injects the required beans
      */
     public EmployeeController(EmployeeService employeeService, UtilityService utilityService,
-                             DtoMapper dtoMapper, StatisticsService statisticsService) {
+                             DtoMapper dtoMapper, StatisticsService statisticsService,
+                             IdempotencyService idempotencyService) {
         this.employeeService = employeeService;
         this.utilityService = utilityService;
         this.dtoMapper = dtoMapper;
         this.statisticsService = statisticsService;
+        this.idempotencyService = idempotencyService;
     }
 
     /**
@@ -54,41 +67,53 @@ public class EmployeeController {
      * Demonstrates using a custom bean defined in @Configuration
      */
     @GetMapping("/info")
-    public ResponseEntity<Map<String, String>> getAppInfo() {
-        Map<String, String> info = new HashMap<>();
-        info.put("application", appMetadata.getAppName());
-        info.put("version", appMetadata.getVersion());
-        info.put("description", appMetadata.getDescription());
-        info.put("totalEmployees", String.valueOf(employeeService.getEmployeeCount()));
-        return ResponseEntity.ok(info);
+    public Callable<ResponseEntity<Map<String, String>>> getAppInfo() {
+        return () -> {
+            Map<String, String> info = new HashMap<>();
+            info.put("application", appMetadata.getAppName());
+            info.put("version", appMetadata.getVersion());
+            info.put("description", appMetadata.getDescription());
+            info.put("totalEmployees", String.valueOf(employeeService.getEmployeeCount()));
+            return ResponseEntity.ok(info);
+        };
     }
 
     /**
      * Create a new employee
      * POST /api/employees
+     * Optional Idempotency-Key header makes client retries return the original response
      */
     @PostMapping
-    public ResponseEntity<EmployeeDTO> createEmployee(@Valid @RequestBody Employee employee,
-                                                      BindingResult bindingResult) {
+    public Callable<ResponseEntity<EmployeeDTO>> createEmployee(@RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+                                                                @Valid @RequestBody Employee employee,
+                                                                BindingResult bindingResult) {
         if (bindingResult.hasErrors()) {
             throw ValidationException.fromBindingResult(bindingResult);
         }
 
-        Employee created = employeeService.createEmployee(employee);
-        return ResponseEntity.status(HttpStatus.CREATED).body(dtoMapper.toEmployeeDTO(created));
+        return () -> idempotencyService.execute(idempotencyKey, "POST /api/employees", employee, () -> {
+            Employee created = employeeService.createEmployee(employee);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .eTag(EntityTags.fromVersion(created.getVersion()))
+                    .body(dtoMapper.toEmployeeDTO(created));
+        });
     }
 
     /**
      * Get employees with optional search filters
      * GET /api/employees?name=John&departmentName=IT
+     * Reads the whole table when no filter is given, so it runs in the REPORTING bulkhead
      */
     @GetMapping
-    public ResponseEntity<List<EmployeeDTO>> getAllEmployees(
+    @Workload(WorkloadClass.REPORTING)
+    public Callable<ResponseEntity<List<EmployeeDTO>>> getAllEmployees(
             @RequestParam(value = "name", required = false) String name,
             @RequestParam(value = "departmentName", required = false) String departmentName
     ) {
-        List<Employee> employees = employeeService.searchEmployees(name, departmentName);
-        return ResponseEntity.ok(dtoMapper.toEmployeeDTOList(employees));
+        return () -> {
+            List<Employee> employees = employeeService.searchEmployees(name, departmentName);
+            return ResponseEntity.ok(dtoMapper.toEmployeeDTOList(employees));
+        };
     }
 
     /**
@@ -96,35 +121,72 @@ public class EmployeeController {
      * GET /api/employees/{id}
      */
     @GetMapping("/{id}")
-    public ResponseEntity<EmployeeDTO> getEmployeeById(@PathVariable String id) {
-        Employee employee = employeeService.getEmployeeOrThrow(null);
-        return ResponseEntity.ok(dtoMapper.toEmployeeDTO(employee));
+    public Callable<ResponseEntity<EmployeeDTO>> getEmployeeById(@PathVariable String id) {
+        return () -> {
+            Employee employee = employeeService.getEmployeeOrThrow(id);
+            return ResponseEntity.ok()
+                    .eTag(EntityTags.fromVersion(employee.getVersion()))
+                    .body(dtoMapper.toEmployeeDTO(employee));
+        };
     }
 
     /**
      * Update employee
      * PUT /api/employees/{id}
+     * Optional If-Match: "version" header rejects stale updates with 412
      */
     @PutMapping("/{id}")
-    public ResponseEntity<EmployeeDTO> updateEmployee(@PathVariable String id,
-                                                      @Valid @RequestBody Employee employee,
-                                                      BindingResult bindingResult) {
+    public Callable<ResponseEntity<EmployeeDTO>> updateEmployee(@PathVariable String id,
+                                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                                @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+                                                                @Valid @RequestBody Employee employee,
+                                                                BindingResult bindingResult) {
         if (bindingResult.hasErrors()) {
             throw ValidationException.fromBindingResult(bindingResult);
         }
 
-        Employee updated = employeeService.updateEmployee(id, employee);
-        return ResponseEntity.ok(dtoMapper.toEmployeeDTO(updated));
+        Long expectedVersion = EntityTags.parseIfMatch(ifMatch);
+        return () -> idempotencyService.execute(idempotencyKey, "PUT /api/employees/" + id, employee, () -> {
+            Employee updated = employeeService.updateEmployee(id, employee, expectedVersion);
+            return ResponseEntity.ok()
+                    .eTag(EntityTags.fromVersion(updated.getVersion()))
+                    .body(dtoMapper.toEmployeeDTO(updated));
+        });
+    }
+
+    /**
+     * Partially update employee with a JSON Merge Patch
+     * PATCH /api/employees/{id} (Content-Type: application/merge-patch+json)
+     * Optional If-Match: "version" header rejects stale updates with 412
+     */
+    @PatchMapping(value = "/{id}", consumes = MERGE_PATCH_JSON)
+    public Callable<ResponseEntity<EmployeeDTO>> patchEmployee(@PathVariable String id,
+                                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                               @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+                                                               @RequestBody Map<String, Object> patch) {
+        Long expectedVersion = EntityTags.parseIfMatch(ifMatch);
+        return () -> idempotencyService.execute(idempotencyKey, "PATCH /api/employees/" + id, patch, () -> {
+            Employee patched = employeeService.patchEmployee(id, patch, expectedVersion);
+            return ResponseEntity.ok()
+                    .eTag(EntityTags.fromVersion(patched.getVersion()))
+                    .body(dtoMapper.toEmployeeDTO(patched));
+        });
     }
 
     /**
      * Delete employee
      * DELETE /api/employees/{id}
+     * Optional If-Match: "version" header rejects stale deletes with 412
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteEmployee(@PathVariable String id) {
-        employeeService.deleteEmployee(id);
-        return ResponseEntity.noContent().build();
+    public Callable<ResponseEntity<Void>> deleteEmployee(@PathVariable String id,
+                                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                         @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        Long expectedVersion = EntityTags.parseIfMatch(ifMatch);
+        return () -> idempotencyService.execute(idempotencyKey, "DELETE /api/employees/" + id, null, () -> {
+            employeeService.deleteEmployee(id, expectedVersion);
+            return ResponseEntity.noContent().<Void>build();
+        });
     }
 
     /**
@@ -184,7 +246,8 @@ public class EmployeeController {
      * GET /api/employees/statistics
      */
     @GetMapping("/statistics")
-    public ResponseEntity<Map<String, Object>> getStatistics() {
-        return ResponseEntity.ok(statisticsService.getEmployeeStatistics());
+    @Workload(WorkloadClass.REPORTING)
+    public Callable<ResponseEntity<Map<String, Object>>> getStatistics() {
+        return () -> ResponseEntity.ok(statisticsService.getEmployeeStatistics());
     }
 }
@@ -0,0 +1,46 @@
+package employeemanagement.employee_management.controller;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * Helpers for mapping JPA entity versions to HTTP entity tags (ETag / If-Match).
+ */
+final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    /**
+     * Render an entity version as a strong ETag value, e.g. 3 -> "3"
+     */
+    static String fromVersion(Long version) {
+        return version == null ? null : "\"" + version + "\"";
+    }
+
+    /**
+     * Parse an If-Match header into the expected entity version.
+     * Returns null when the header is absent or "*" (no version check required).
+     */
+    static Long parseIfMatch(String ifMatch) {
+        if (!StringUtils.hasText(ifMatch)) {
+            return null;
+        }
+
+        String value = ifMatch.trim();
+        if ("*".equals(value)) {
+            return null;
+        }
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid If-Match header: " + ifMatch);
+        }
+    }
+}
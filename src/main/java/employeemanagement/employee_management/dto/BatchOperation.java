@@ -0,0 +1,73 @@
+package employeemanagement.employee_management.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A single sub-request inside a batch, e.g. {"method": "GET", "path": "/api/employees/EMP-1"}
+ */
+public class BatchOperation {
+
+    private String id;
+
+    @NotBlank(message = "Operation method is required")
+    private String method;
+
+    @NotBlank(message = "Operation path is required")
+    private String path;
+
+    private Map<String, String> headers = new HashMap<>();
+
+    private Object body;
+
+    public BatchOperation() {
+    }
+
+    public BatchOperation(String id, String method, String path) {
+        this.id = id;
+        this.method = method;
+        this.path = path;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public void setHeaders(Map<String, String> headers) {
+        this.headers = headers;
+    }
+
+    public Object getBody() {
+        return body;
+    }
+
+    public void setBody(Object body) {
+        this.body = body;
+    }
+}
@@ -0,0 +1,56 @@
+package employeemanagement.employee_management.dto;
+
+import java.util.Map;
+
+/**
+ * Outcome of one batch sub-operation: status code, selected headers and body
+ */
+public class BatchOperationResult {
+
+    private String id;
+    private int status;
+    private Map<String, String> headers;
+    private Object body;
+
+    public BatchOperationResult() {
+    }
+
+    public BatchOperationResult(String id, int status, Map<String, String> headers, Object body) {
+        this.id = id;
+        this.status = status;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public void setHeaders(Map<String, String> headers) {
+        this.headers = headers;
+    }
+
+    public Object getBody() {
+        return body;
+    }
+
+    public void setBody(Object body) {
+        this.body = body;
+    }
+}
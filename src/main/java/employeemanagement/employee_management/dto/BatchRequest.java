@@ -0,0 +1,41 @@
+package employeemanagement.employee_management.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for POST /api/batch - ordered list of sub-operations
+ */
+public class BatchRequest {
+
+    /**
+     * When true, all operations run in a single transaction that is rolled back on the first failure
+     */
+    private boolean atomic;
+
+    @NotEmpty(message = "At least one operation is required")
+    @Valid
+    private List<BatchOperation> operations = new ArrayList<>();
+
+    public BatchRequest() {
+    }
+
+    public boolean isAtomic() {
+        return atomic;
+    }
+
+    public void setAtomic(boolean atomic) {
+        this.atomic = atomic;
+    }
+
+    public List<BatchOperation> getOperations() {
+        return operations;
+    }
+
+    public void setOperations(List<BatchOperation> operations) {
+        this.operations = operations;
+    }
+}
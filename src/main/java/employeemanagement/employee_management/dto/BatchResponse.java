@@ -0,0 +1,36 @@
+package employeemanagement.employee_management.dto;
+
+import java.util.List;
+
+/**
+ * DTO returned by POST /api/batch, results are in request order
+ */
+public class BatchResponse {
+
+    private boolean committed;
+    private List<BatchOperationResult> results;
+
+    public BatchResponse() {
+    }
+
+    public BatchResponse(boolean committed, List<BatchOperationResult> results) {
+        this.committed = committed;
+        this.results = results;
+    }
+
+    public boolean isCommitted() {
+        return committed;
+    }
+
+    public void setCommitted(boolean committed) {
+        this.committed = committed;
+    }
+
+    public List<BatchOperationResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BatchOperationResult> results) {
+        this.results = results;
+    }
+}
@@ -8,6 +8,7 @@ public class DepartmentDTO {
   private Long id;
   private String name;
   private String description;
+  private Long version;
 
   public DepartmentDTO() {
   }
@@ -41,4 +42,12 @@ public class DepartmentDTO {
   public void setDescription(String description) {
     this.description = description;
   }
+
+  public Long getVersion() {
+    return version;
+  }
+
+  public void setVersion(Long version) {
+    this.version = version;
+  }
 }
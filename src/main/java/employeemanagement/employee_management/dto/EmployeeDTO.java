@@ -11,6 +11,7 @@ public class EmployeeDTO {
     private String contactNumber;
     private DepartmentDTO department;
     private String role;
+    private Long version;
 
     public EmployeeDTO() {
     }
@@ -72,4 +73,12 @@ public class EmployeeDTO {
     public void setRole(String role) {
         this.role = role;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,18 @@
+package employeemanagement.employee_management.exception;
+
+/**
+ * Exception thrown when a request reuses an Idempotency-Key whose first execution is still running.
+ */
+public class IdempotencyKeyInUseException extends RuntimeException {
+
+    private final String idempotencyKey;
+
+    public IdempotencyKeyInUseException(String idempotencyKey) {
+        super(String.format("A request with Idempotency-Key '%s' is still being processed", idempotencyKey));
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+}
@@ -0,0 +1,18 @@
+package employeemanagement.employee_management.exception;
+
+/**
+ * Exception thrown when an Idempotency-Key is reused with a different request body.
+ */
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    private final String idempotencyKey;
+
+    public IdempotencyKeyReusedException(String idempotencyKey) {
+        super(String.format("Idempotency-Key '%s' was already used with a different request body", idempotencyKey));
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+}
@@ -0,0 +1,11 @@
+package employeemanagement.employee_management.exception;
+
+/**
+ * Exception thrown when the password hashing pool is saturated and the request is shed.
+ */
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    public PasswordHashingUnavailableException() {
+        super("Password hashing capacity is exhausted");
+    }
+}
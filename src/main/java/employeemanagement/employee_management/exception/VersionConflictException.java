@@ -0,0 +1,31 @@
+package employeemanagement.employee_management.exception;
+
+/**
+ * Exception thrown when a conditional write (If-Match) targets a stale version of a resource.
+ */
+public class VersionConflictException extends RuntimeException {
+
+    private final String resourceName;
+    private final Object resourceId;
+    private final Long currentVersion;
+
+    public VersionConflictException(String resourceName, Object resourceId, Long currentVersion) {
+        super(String.format("%s with id %s has been modified (current version: %s)",
+                resourceName, resourceId, currentVersion));
+        this.resourceName = resourceName;
+        this.resourceId = resourceId;
+        this.currentVersion = currentVersion;
+    }
+
+    public String getResourceName() {
+        return resourceName;
+    }
+
+    public Object getResourceId() {
+        return resourceId;
+    }
+
+    public Long getCurrentVersion() {
+        return currentVersion;
+    }
+}
@@ -28,6 +28,7 @@ public class DtoMapper {
         dto.setContactNumber(employee.getPhone());
         dto.setRole(employee.getPosition());
         dto.setDepartment(toDepartmentDTO(employee.getDepartment()));
+        dto.setVersion(employee.getVersion());
         return dto;
     }
 
@@ -49,6 +50,7 @@ public class DtoMapper {
         dto.setId(department.getId());
         dto.setName(department.getName());
         dto.setDescription(department.getDescription());
+        dto.setVersion(department.getVersion());
         return dto;
     }
 
@@ -4,14 +4,17 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
 /**
  * Employee entity/model class
  * JPA Entity mapped to 'employees' table in MySQL
+ * Dynamic update: UPDATE statements include only the columns that changed
  */
 @Entity
+@DynamicUpdate
 @Table(
     name = "employees",
     indexes = {@Index(name = "idx_employee_name", columnList = "name"),
@@ -46,6 +49,10 @@ public class Employee {
     @Column(name = "position", length = 50)
     private String position;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
@@ -124,6 +131,14 @@ public class Employee {
         this.position = position;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -149,6 +164,7 @@ public class Employee {
                 ", phone='" + phone + '\'' +
                 ", department=" + (department != null ? department.getName() : null) +
                 ", position='" + position + '\'' +
+                ", version=" + version +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
                 '}';
@@ -0,0 +1,52 @@
+package employeemanagement.employee_management.model;
+
+import jakarta.persistence.*;
+
+/**
+ * IdSequence entity - named hi/lo sequence mapped to 'id_sequences' table.
+ * Each row stores the next unallocated value; nodes reserve whole blocks at a time.
+ */
+@Entity
+@Table(name = "id_sequences")
+public class IdSequence {
+
+    @Id
+    @Column(name = "name", length = 50)
+    private String name;
+
+    @Column(name = "next_value", nullable = false)
+    private long nextValue;
+
+    public IdSequence() {
+    }
+
+    public IdSequence(String name, long nextValue) {
+        this.name = name;
+        this.nextValue = nextValue;
+    }
+
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public long getNextValue() {
+        return nextValue;
+    }
+
+    public void setNextValue(long nextValue) {
+        this.nextValue = nextValue;
+    }
+
+    @Override
+    public String toString() {
+        return "IdSequence{" +
+                "name='" + name + '\'' +
+                ", nextValue=" + nextValue +
+                '}';
+    }
+}
@@ -91,12 +91,19 @@ public class User {
         return roles;
     }
 
+    /**
+     * Role changes touch updated_at themselves: a change to the role collection alone does not
+     * trigger @PreUpdate, and the timestamp is the stamp that invalidates issued tokens
+     */
     public void setRoles(Set<String> roles) {
         this.roles = roles;
+        this.updatedAt = LocalDateTime.now();
     }
 
     public void addRole(String role) {
-        this.roles.add(role);
+        if (this.roles.add(role)) {
+            this.updatedAt = LocalDateTime.now();
+        }
     }
 
     public boolean isEnabled() {
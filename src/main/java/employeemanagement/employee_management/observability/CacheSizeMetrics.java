@@ -0,0 +1,46 @@
+package employeemanagement.employee_management.observability;
+
+import employeemanagement.employee_management.security.JwtTokenProvider;
+import employeemanagement.employee_management.security.UserDetailsCache;
+import employeemanagement.employee_management.service.IdempotencyService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the size of the in-house caches as cache.size, next to the Spring caches
+ * Spring Boot already binds, so they can be watched (and sampled by RuntimeMonitor) the same way
+ */
+@Component
+public class CacheSizeMetrics implements MeterBinder {
+
+    private final UserDetailsCache userDetailsCache;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final IdempotencyService idempotencyService;
+
+    public CacheSizeMetrics(UserDetailsCache userDetailsCache,
+                            JwtTokenProvider jwtTokenProvider,
+                            IdempotencyService idempotencyService) {
+        this.userDetailsCache = userDetailsCache;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.idempotencyService = idempotencyService;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder("cache.size", userDetailsCache, UserDetailsCache::size)
+                .description("Users cached for the JWT filter")
+                .tag("cache", "userDetails")
+                .register(registry);
+        Gauge.builder("cache.size", jwtTokenProvider, JwtTokenProvider::getVerifiedTokenCacheSize)
+                .description("Tokens whose signature was already verified")
+                .tag("cache", "verifiedTokens")
+                .register(registry);
+        Gauge.builder("cache.size", idempotencyService, IdempotencyService::size)
+                .description("Idempotency keys remembered")
+                .tag("cache", "idempotencyKeys")
+                .register(registry);
+    }
+}
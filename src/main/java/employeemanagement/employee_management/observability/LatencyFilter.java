@@ -0,0 +1,174 @@
+package employeemanagement.employee_management.observability;
+
+import employeemanagement.employee_management.config.SloProperties;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.handler.HandlerMappingIntrospector;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Latency Filter - outermost application filter, times every request from arrival until the
+ * response completes (for Callable handlers, until the async dispatch has written the response)
+ * and records it in RouteLatencyRegistry under its route pattern and status.
+ * It also opens the request's RequestTimeline and hands completed requests to SlowRequestSampler.
+ * Requests rejected before they reach a handler (security, rate and concurrency limits) carry no
+ * matched pattern; their route is looked up in the handler mappings so they count against it too.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class LatencyFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final RouteLatencyRegistry registry;
+    private final SlowRequestSampler sampler;
+    private final HandlerMappingIntrospector introspector;
+
+    public LatencyFilter(SloProperties properties, RouteLatencyRegistry registry, SlowRequestSampler sampler,
+                         HandlerMappingIntrospector introspector) {
+        this.enabled = properties.isEnabled();
+        this.registry = registry;
+        this.sampler = sampler;
+        this.introspector = introspector;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled && !sampler.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        RequestTimeline timeline = sampler.isEnabled() ? sampler.start(request, start) : null;
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new CompletionListener(request, response, start, timeline));
+            } else {
+                // An exception escaping the chain becomes a 500 from the container
+                record(request, failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus(),
+                        start, timeline);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, int status, long start, RequestTimeline timeline) {
+        long nanos = System.nanoTime() - start;
+        String route = route(request);
+        if (enabled) {
+            registry.record(request.getMethod(), route, status, nanos);
+        }
+        if (timeline != null) {
+            sampler.complete(request, timeline, route, status, nanos);
+        }
+    }
+
+    private String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            // Never dispatched: match it the way DispatcherServlet would, without leaving the
+            // lookup's attributes on the request
+            HttpServletRequest lookup = new ScopedAttributesRequest(request);
+            try {
+                for (HandlerMapping mapping : introspector.getHandlerMappings()) {
+                    if (mapping.getHandler(lookup) != null) {
+                        pattern = lookup.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                        break;
+                    }
+                }
+            } catch (Exception ex) {
+                // e.g. a method the route does not support; it stays unattributed
+            }
+        }
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    /**
+     * Reads fall through to the wrapped request, writes and removals stay in the wrapper
+     */
+    private static final class ScopedAttributesRequest extends HttpServletRequestWrapper {
+
+        private final Map<String, Object> attributes = new HashMap<>();
+        private final Set<String> removed = new HashSet<>();
+
+        private ScopedAttributesRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public Object getAttribute(String name) {
+            if (attributes.containsKey(name)) {
+                return attributes.get(name);
+            }
+            return removed.contains(name) ? null : super.getAttribute(name);
+        }
+
+        @Override
+        public void setAttribute(String name, Object value) {
+            removed.remove(name);
+            attributes.put(name, value);
+        }
+
+        @Override
+        public void removeAttribute(String name) {
+            attributes.remove(name);
+            removed.add(name);
+        }
+    }
+
+    private final class CompletionListener implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final long start;
+        private final RequestTimeline timeline;
+
+        private CompletionListener(HttpServletRequest request, HttpServletResponse response, long start,
+                                   RequestTimeline timeline) {
+            this.request = request;
+            this.response = response;
+            this.start = start;
+            this.timeline = timeline;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(request, response.getStatus(), start, timeline);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // A request resumed from the concurrency queue starts async again for its Callable
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
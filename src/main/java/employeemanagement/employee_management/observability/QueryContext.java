@@ -0,0 +1,56 @@
+package employeemanagement.employee_management.observability;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Query statistics of the request the current thread is working for
+ */
+public final class QueryContext {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private QueryContext() {
+    }
+
+    /**
+     * @return statistics of the current request, or null outside a request
+     */
+    public static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Executor that runs each task for the request current at the time of this call
+     */
+    public static Executor propagating(Executor delegate) {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats == null) {
+            return delegate;
+        }
+        return task -> delegate.execute(() -> {
+            RequestQueryStats previous = enter(stats);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        });
+    }
+
+    /**
+     * @return the previously current statistics (possibly null), to pass to {@link #restore}
+     */
+    static RequestQueryStats enter(RequestQueryStats stats) {
+        RequestQueryStats previous = CURRENT.get();
+        CURRENT.set(stats);
+        return previous;
+    }
+
+    static void restore(RequestQueryStats previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package employeemanagement.employee_management.observability;
+
+import employeemanagement.employee_management.config.QueryMetricsProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Query Metrics Filter - runs ahead of the security chain and records how many SQL statements
+ * each request issued, as the persistence.statements distribution tagged by method and route.
+ * Asynchronous requests are recorded once the response completes.
+ * With query-metrics.budget.enabled (tests, staging) requests issuing too many statements, or
+ * the same statement too many times, are logged with where the offending statement was issued.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class QueryMetricsFilter extends OncePerRequestFilter {
+
+    static final String STATS_ATTRIBUTE = QueryMetricsFilter.class.getName() + ".stats";
+
+    private final boolean enabled;
+    private final StatementBudget budget;
+    private final MeterRegistry meterRegistry;
+
+    public QueryMetricsFilter(QueryMetricsProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        QueryMetricsProperties.Budget budget = properties.getBudget();
+        this.budget = budget.isEnabled()
+                ? new StatementBudget(budget.getMaxStatements(), budget.getMaxRepeats(), budget.isStackTraces())
+                : null;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        // Rendering the result of a Callable may still load data
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RequestQueryStats stats = (RequestQueryStats) request.getAttribute(STATS_ATTRIBUTE);
+        boolean initialDispatch = stats == null;
+        if (initialDispatch) {
+            stats = new RequestQueryStats(budget, request.getMethod() + " " + request.getRequestURI());
+            request.setAttribute(STATS_ATTRIBUTE, stats);
+        }
+
+        RequestQueryStats previous = QueryContext.enter(stats);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryContext.restore(previous);
+            if (initialDispatch) {
+                if (request.isAsyncStarted()) {
+                    request.getAsyncContext().addListener(new CompletionListener(request, stats));
+                } else {
+                    record(request, stats);
+                }
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestQueryStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder("persistence.statements")
+                .description("SQL statements issued per HTTP request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+                .record(stats.getStatementCount());
+        if (budget != null) {
+            reportOffenders(request.getMethod() + " " + uri, stats);
+        }
+    }
+
+    private void reportOffenders(String endpoint, RequestQueryStats stats) {
+        if (stats.isOverBudget()) {
+            logger.warn("Query budget exceeded by " + endpoint + ": " + stats.getStatementCount()
+                    + " statements (budget " + budget.maxStatements() + ")", stats.getOverBudgetTrace());
+        }
+        for (RequestQueryStats.RepeatedStatement repeated : stats.getRepeatedStatements()) {
+            logger.warn("Possible N+1 in " + endpoint + ": statement executed " + repeated.count()
+                    + " times (budget " + budget.maxRepeats() + "): " + repeated.sql(), repeated.trace());
+        }
+    }
+
+    private final class CompletionListener implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final RequestQueryStats stats;
+
+        private CompletionListener(HttpServletRequest request, RequestQueryStats stats) {
+            this.request = request;
+            this.stats = stats;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(request, stats);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // A request resumed from the concurrency queue starts async again for its Callable
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package employeemanagement.employee_management.observability;
+
+import employeemanagement.employee_management.config.QueryMetricsProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes Hibernate's per-query statistics (executions, time, rows, cache hits) as meters tagged
+ * with the query. New queries are picked up periodically rather than on every entity load, and
+ * the number of queries is capped so unexpected dynamic queries cannot flood the registry.
+ */
+@Component
+public class QueryStatisticsBinder {
+
+    private final Statistics statistics;
+    private final MeterRegistry meterRegistry;
+    private final int maxQueries;
+    private final Set<String> registered = ConcurrentHashMap.newKeySet();
+
+    public QueryStatisticsBinder(EntityManagerFactory entityManagerFactory,
+                                 MeterRegistry meterRegistry,
+                                 QueryMetricsProperties properties) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.meterRegistry = meterRegistry;
+        this.maxQueries = properties.getMaxQueries();
+    }
+
+    @Scheduled(fixedDelayString = "${query-metrics.refresh-interval-ms:10000}", initialDelayString = "${query-metrics.refresh-interval-ms:10000}")
+    public void registerNewQueries() {
+        if (!statistics.isStatisticsEnabled() || registered.size() >= maxQueries) {
+            return;
+        }
+        for (String query : statistics.getQueries()) {
+            if (registered.size() >= maxQueries) {
+                return;
+            }
+            if (registered.add(query)) {
+                bind(query, statistics.getQueryStatistics(query));
+            }
+        }
+    }
+
+    private void bind(String query, QueryStatistics queryStatistics) {
+        Tags tags = Tags.of("query", query);
+        FunctionTimer.builder("hibernate.query.execution.total", queryStatistics,
+                        QueryStatistics::getExecutionCount, QueryStatistics::getExecutionTotalTime, TimeUnit.MILLISECONDS)
+                .description("Executions of the query and their total time")
+                .tags(tags)
+                .register(meterRegistry);
+        TimeGauge.builder("hibernate.query.execution.max", queryStatistics, TimeUnit.MILLISECONDS,
+                        QueryStatistics::getExecutionMaxTime)
+                .description("Slowest execution of the query")
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder("hibernate.query.execution.rows", queryStatistics, QueryStatistics::getExecutionRowCount)
+                .description("Rows returned by the query")
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder("hibernate.query.cache.requests", queryStatistics, QueryStatistics::getCacheHitCount)
+                .description("Query cache lookups of the query")
+                .tags(tags.and("result", "hit"))
+                .register(meterRegistry);
+        FunctionCounter.builder("hibernate.query.cache.requests", queryStatistics, QueryStatistics::getCacheMissCount)
+                .description("Query cache lookups of the query")
+                .tags(tags.and("result", "miss"))
+                .register(meterRegistry);
+    }
+}
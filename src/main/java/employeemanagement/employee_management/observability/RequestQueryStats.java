@@ -0,0 +1,139 @@
+package employeemanagement.employee_management.observability;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * SQL statements issued on behalf of one HTTP request, possibly from several threads
+ * (the servlet thread, the executor running its Callable, batch workers).
+ * With a budget, statements are also grouped by shape to spot the same query repeated per row.
+ * Execution time is only known when SamplingDataSource is in place (slow-sampler.enabled).
+ */
+public class RequestQueryStats {
+
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\?(,\\?)+");
+
+    private final AtomicInteger statements = new AtomicInteger();
+    private final LongAdder statementNanos = new LongAdder();
+    private final StatementBudget budget;
+    private final String endpoint;
+    private final Map<String, Shape> shapes;
+    private volatile Throwable overBudgetTrace;
+
+    public RequestQueryStats() {
+        this(null);
+    }
+
+    public RequestQueryStats(StatementBudget budget) {
+        this(budget, null);
+    }
+
+    /**
+     * @param endpoint method and URI of the request, to attribute slow statements
+     */
+    public RequestQueryStats(StatementBudget budget, String endpoint) {
+        this.budget = budget;
+        this.endpoint = endpoint;
+        this.shapes = budget != null ? new ConcurrentHashMap<>() : null;
+    }
+
+    void recordStatement(String sql) {
+        int count = statements.incrementAndGet();
+        if (budget == null) {
+            return;
+        }
+        if (count == budget.maxStatements() + 1 && budget.stackTraces()) {
+            overBudgetTrace = new Throwable("Statement " + count + " issued here: " + sql);
+        }
+        Shape shape = shapes.computeIfAbsent(shapeOf(sql), key -> new Shape());
+        int repeats = shape.count.incrementAndGet();
+        if (repeats == budget.maxRepeats() + 1 && budget.stackTraces()) {
+            shape.trace = new Throwable("Repetition " + repeats + " issued here");
+        }
+    }
+
+    void recordExecution(long nanos) {
+        statementNanos.add(nanos);
+    }
+
+    public int getStatementCount() {
+        return statements.get();
+    }
+
+    /**
+     * @return time spent executing statements, in nanoseconds
+     */
+    public long getStatementNanos() {
+        return statementNanos.sum();
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public StatementBudget getBudget() {
+        return budget;
+    }
+
+    public boolean isOverBudget() {
+        return budget != null && statements.get() > budget.maxStatements();
+    }
+
+    /**
+     * @return where the first statement beyond the budget was issued, if captured
+     */
+    public Throwable getOverBudgetTrace() {
+        return overBudgetTrace;
+    }
+
+    /**
+     * @return executions per statement shape, empty without a budget
+     */
+    public Map<String, Integer> getStatementShapes() {
+        Map<String, Integer> counts = new HashMap<>();
+        if (shapes != null) {
+            shapes.forEach((sql, shape) -> counts.put(sql, shape.count.get()));
+        }
+        return counts;
+    }
+
+    /**
+     * @return statement shapes executed more than the budget allows
+     */
+    public List<RepeatedStatement> getRepeatedStatements() {
+        List<RepeatedStatement> repeated = new ArrayList<>();
+        if (shapes != null) {
+            shapes.forEach((sql, shape) -> {
+                int count = shape.count.get();
+                if (count > budget.maxRepeats()) {
+                    repeated.add(new RepeatedStatement(sql, count, shape.trace));
+                }
+            });
+        }
+        return repeated;
+    }
+
+    /**
+     * Same statement apart from the number of parameters in IN lists
+     */
+    static String shapeOf(String sql) {
+        return sql.contains("?,") ? PARAMETER_LIST.matcher(sql).replaceAll("?") : sql;
+    }
+
+    /**
+     * @param trace where the first repetition beyond the budget was issued, if captured
+     */
+    public record RepeatedStatement(String sql, int count, Throwable trace) {
+    }
+
+    private static final class Shape {
+        private final AtomicInteger count = new AtomicInteger();
+        private volatile Throwable trace;
+    }
+}
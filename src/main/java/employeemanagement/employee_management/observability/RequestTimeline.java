@@ -0,0 +1,58 @@
+package employeemanagement.employee_management.observability;
+
+import jakarta.servlet.ServletRequest;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Where one HTTP request spends its time, filled in by the components it passes through
+ * Phases may be added from several threads (the servlet thread, the executor running its Callable);
+ * the marks are set and consumed by the same dispatch.
+ */
+public final class RequestTimeline {
+
+    static final String ATTRIBUTE = RequestTimeline.class.getName();
+
+    public enum Phase {
+        /** Token parsing and principal resolution in JwtAuthenticationFilter */
+        AUTH,
+        /** Controller and service code, including the SQL it runs and writing the response */
+        HANDLER,
+        /** Writing the response body or rendering the view */
+        SERIALIZATION
+    }
+
+    private final long start;
+    private final AtomicLongArray phases = new AtomicLongArray(Phase.values().length);
+
+    volatile Thread worker;
+    volatile String principal;
+    volatile StackTraceElement[] stack;
+    long handlerStart;
+    long serializationStart;
+    volatile long callableStart;
+
+    RequestTimeline(long start) {
+        this.start = start;
+        this.worker = Thread.currentThread();
+    }
+
+    /**
+     * @return the timeline of the request, or null when requests are not being sampled
+     */
+    public static RequestTimeline of(ServletRequest request) {
+        return (RequestTimeline) request.getAttribute(ATTRIBUTE);
+    }
+
+    public void add(Phase phase, long nanos) {
+        phases.addAndGet(phase.ordinal(), nanos);
+    }
+
+    long get(Phase phase) {
+        return phases.get(phase.ordinal());
+    }
+
+    long getStart() {
+        return start;
+    }
+}
@@ -0,0 +1,96 @@
+package employeemanagement.employee_management.observability;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Adds the time spent in the handler (and in the Callable it returned, on the executor thread)
+ * and the time spent writing the response or rendering the view to the request's timeline.
+ * Also records who the request runs as and which thread is serving it, for stack snapshots.
+ */
+public class RequestTimelineInterceptor implements AsyncHandlerInterceptor, CallableProcessingInterceptor {
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        RequestTimeline timeline = RequestTimeline.of(request);
+        if (timeline != null) {
+            timeline.worker = Thread.currentThread();
+            timeline.handlerStart = System.nanoTime();
+            timeline.serializationStart = 0;
+            if (timeline.principal == null) {
+                Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+                timeline.principal = authentication != null ? authentication.getName() : null;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void postHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                           @NonNull Object handler, ModelAndView modelAndView) {
+        RequestTimeline timeline = RequestTimeline.of(request);
+        // A response body has been written already; a view is rendered from here on
+        if (timeline != null && timeline.serializationStart == 0) {
+            timeline.serializationStart = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                               @NonNull Object handler) {
+        RequestTimeline timeline = RequestTimeline.of(request);
+        if (timeline != null && timeline.handlerStart != 0) {
+            timeline.add(RequestTimeline.Phase.HANDLER, System.nanoTime() - timeline.handlerStart);
+            timeline.handlerStart = 0;
+        }
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, Exception ex) {
+        RequestTimeline timeline = RequestTimeline.of(request);
+        if (timeline == null || timeline.handlerStart == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        timeline.add(RequestTimeline.Phase.HANDLER, now - timeline.handlerStart);
+        if (timeline.serializationStart != 0) {
+            timeline.add(RequestTimeline.Phase.SERIALIZATION, now - timeline.serializationStart);
+        }
+        timeline.handlerStart = 0;
+        timeline.serializationStart = 0;
+    }
+
+    @Override
+    public <T> void preProcess(@NonNull NativeWebRequest request, @NonNull Callable<T> task) {
+        RequestTimeline timeline = timeline(request);
+        if (timeline != null) {
+            timeline.worker = Thread.currentThread();
+            timeline.callableStart = System.nanoTime();
+        }
+    }
+
+    @Override
+    public <T> void postProcess(@NonNull NativeWebRequest request, @NonNull Callable<T> task, Object concurrentResult) {
+        RequestTimeline timeline = timeline(request);
+        if (timeline != null && timeline.callableStart != 0) {
+            timeline.add(RequestTimeline.Phase.HANDLER, System.nanoTime() - timeline.callableStart);
+            timeline.callableStart = 0;
+        }
+    }
+
+    private static RequestTimeline timeline(NativeWebRequest request) {
+        return (RequestTimeline) request.getAttribute(RequestTimeline.ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+}
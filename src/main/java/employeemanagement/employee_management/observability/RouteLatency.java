@@ -0,0 +1,103 @@
+package employeemanagement.employee_management.observability;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency of one method and route: a windowed histogram per status class (created on first use)
+ * and lifetime counters of requests, requests slower than the threshold and 5xx responses.
+ */
+final class RouteLatency {
+
+    private final String method;
+    private final String uri;
+    private final long thresholdNanos;
+    private final double objective;
+    private final int slices;
+    private final AtomicReferenceArray<WindowedHistogram> statusClasses = new AtomicReferenceArray<>(5);
+
+    final LongAdder requests = new LongAdder();
+    final LongAdder slow = new LongAdder();
+    final LongAdder errors = new LongAdder();
+
+    RouteLatency(String method, String uri, long thresholdMs, double objective, int slices) {
+        this.method = method;
+        this.uri = uri;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+        this.objective = objective;
+        this.slices = slices;
+    }
+
+    void record(int status, long nanos) {
+        int statusClass = Math.min(Math.max(status / 100, 1), 5) - 1;
+        histogram(statusClass).record(TimeUnit.NANOSECONDS.toMicros(nanos));
+        // requests first, so requests - slow - errors never goes negative for a reader
+        requests.increment();
+        if (statusClass == 4) {
+            errors.increment();
+        } else if (nanos > thresholdNanos) {
+            slow.increment();
+        }
+    }
+
+    void rotate() {
+        for (int i = 0; i < statusClasses.length(); i++) {
+            WindowedHistogram histogram = statusClasses.get(i);
+            if (histogram != null) {
+                histogram.rotate();
+            }
+        }
+    }
+
+    SloReport.Route report() {
+        long thresholdMicros = TimeUnit.NANOSECONDS.toMicros(thresholdNanos);
+        Histogram all = WindowedHistogram.newHistogram();
+        Map<String, SloReport.Latency> byStatus = new LinkedHashMap<>();
+        long windowSlow = 0;
+        long windowErrors = 0;
+        for (int i = 0; i < statusClasses.length(); i++) {
+            WindowedHistogram histogram = statusClasses.get(i);
+            if (histogram == null) {
+                continue;
+            }
+            Histogram snapshot = histogram.snapshot();
+            if (snapshot.getTotalCount() == 0) {
+                continue;
+            }
+            all.add(snapshot);
+            byStatus.put((i + 1) + "xx", SloReport.Latency.of(snapshot));
+            if (i == 4) {
+                windowErrors += snapshot.getTotalCount();
+            } else {
+                windowSlow += snapshot.getTotalCount() - snapshot.getCountBetweenValues(0, thresholdMicros);
+            }
+        }
+
+        SloReport.Window window = SloReport.Window.of(all.getTotalCount(), windowSlow, windowErrors, objective,
+                SloReport.Latency.of(all), byStatus);
+        SloReport.Totals total = new SloReport.Totals(requests.sum(), slow.sum(), errors.sum());
+        return new SloReport.Route(method, uri, TimeUnit.NANOSECONDS.toMillis(thresholdNanos), objective, window, total);
+    }
+
+    String getMethod() {
+        return method;
+    }
+
+    String getUri() {
+        return uri;
+    }
+
+    private WindowedHistogram histogram(int statusClass) {
+        WindowedHistogram histogram = statusClasses.get(statusClass);
+        if (histogram == null) {
+            statusClasses.compareAndSet(statusClass, null, new WindowedHistogram(slices));
+            histogram = statusClasses.get(statusClass);
+        }
+        return histogram;
+    }
+}
@@ -0,0 +1,81 @@
+package employeemanagement.employee_management.observability;
+
+import employeemanagement.employee_management.config.SloProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Request latency per method and route pattern
+ * Recording is a map lookup, a wait-free histogram update and counter increments, so it stays
+ * far below a microsecond; percentiles are only computed when the report is read.
+ * The lifetime counters are published as slo.requests tagged with result good, slow or error.
+ */
+@Component
+public class RouteLatencyRegistry {
+
+    static final String OTHER = "OTHER";
+
+    private final SloProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, RouteLatency> routes = new ConcurrentHashMap<>();
+
+    public RouteLatencyRegistry(SloProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void record(String method, String uri, int status, long nanos) {
+        String key = method + ' ' + uri;
+        RouteLatency route = routes.get(key);
+        if (route == null) {
+            route = routes.size() < properties.getMaxRoutes()
+                    ? routes.computeIfAbsent(key, k -> register(method, uri))
+                    : routes.computeIfAbsent(OTHER + ' ' + OTHER, k -> register(OTHER, OTHER));
+        }
+        route.record(status, nanos);
+    }
+
+    @Scheduled(fixedRateString = "${slo.slice-ms:60000}", initialDelayString = "${slo.slice-ms:60000}")
+    public void rotate() {
+        routes.values().forEach(RouteLatency::rotate);
+    }
+
+    public SloReport report() {
+        List<SloReport.Route> report = routes.values().stream()
+                .sorted(Comparator.comparing(RouteLatency::getUri).thenComparing(RouteLatency::getMethod))
+                .map(RouteLatency::report)
+                .toList();
+        long windowSeconds = properties.getSliceMs() * properties.getSlices() / 1000;
+        return new SloReport(windowSeconds, report);
+    }
+
+    private RouteLatency register(String method, String uri) {
+        RouteLatency route = new RouteLatency(method, uri, properties.latencyMsFor(uri), properties.objectiveFor(uri),
+                properties.getSlices());
+        Tags tags = Tags.of("method", method, "uri", uri);
+        FunctionCounter.builder("slo.requests", route,
+                        r -> {
+                            long bad = r.slow.sum() + r.errors.sum();
+                            return r.requests.sum() - bad;
+                        })
+                .description("Requests within the route's latency threshold and not failing with 5xx")
+                .tags(tags.and("result", "good"))
+                .register(meterRegistry);
+        FunctionCounter.builder("slo.requests", route, r -> r.slow.sum())
+                .description("Requests slower than the route's latency threshold")
+                .tags(tags.and("result", "slow"))
+                .register(meterRegistry);
+        FunctionCounter.builder("slo.requests", route, r -> r.errors.sum())
+                .description("Requests failing with 5xx")
+                .tags(tags.and("result", "error"))
+                .register(meterRegistry);
+        return route;
+    }
+}
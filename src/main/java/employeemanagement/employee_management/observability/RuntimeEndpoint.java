@@ -0,0 +1,25 @@
+package employeemanagement.employee_management.observability;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * /actuator/runtime - recent JVM and application samples (memory, allocation, GC, threads,
+ * connection pools, caches, request queues) and whether the node is currently degraded
+ */
+@Component
+@Endpoint(id = "runtime")
+public class RuntimeEndpoint {
+
+    private final RuntimeMonitor monitor;
+
+    public RuntimeEndpoint(RuntimeMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @ReadOperation
+    public RuntimeReport runtime() {
+        return monitor.report();
+    }
+}
@@ -0,0 +1,263 @@
+package employeemanagement.employee_management.observability;
+
+import employeemanagement.employee_management.config.RuntimeMonitorProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Samples the JVM and the application meters every runtime-monitor.interval-ms and keeps the last
+ * runtime-monitor.history samples. When degrade-after consecutive samples cross a threshold the
+ * node withdraws readiness (/actuator/health/readiness answers 503) so the load balancer stops
+ * routing to it; recover-after consecutive healthy samples give it back.
+ *
+ * Readiness is only restored if the monitor was the one that withdrew it, so a shutdown in
+ * progress is never turned back into ACCEPTING_TRAFFIC.
+ */
+@Component
+public class RuntimeMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(RuntimeMonitor.class);
+
+    private static final long MB = 1024 * 1024;
+
+    private final RuntimeMonitorProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher publisher;
+    private final ApplicationAvailability availability;
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+
+    private final ArrayDeque<RuntimeSample> history = new ArrayDeque<>();
+    private Map<Long, Long> allocatedByThread = Map.of();
+    private long lastSampleNanos;
+    private long lastGcCount;
+    private long lastGcTimeMs;
+    private List<String> breaches = List.of();
+    private int consecutiveBreaches;
+    private int consecutiveHealthy;
+    private volatile boolean degraded;
+
+    public RuntimeMonitor(RuntimeMonitorProperties properties,
+                          MeterRegistry meterRegistry,
+                          ApplicationEventPublisher publisher,
+                          ApplicationAvailability availability) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.publisher = publisher;
+        this.availability = availability;
+        Gauge.builder("runtime.degraded", this, m -> m.degraded ? 1 : 0)
+                .description("1 while the runtime monitor holds readiness at REFUSING_TRAFFIC")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${runtime-monitor.interval-ms:10000}", initialDelayString = "${runtime-monitor.interval-ms:10000}")
+    public void monitor() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        RuntimeSample sample = sample();
+        List<String> crossed = evaluate(sample);
+        synchronized (this) {
+            history.addLast(sample);
+            while (history.size() > properties.getHistory()) {
+                history.removeFirst();
+            }
+            breaches = crossed;
+            if (crossed.isEmpty()) {
+                consecutiveBreaches = 0;
+                consecutiveHealthy++;
+            } else {
+                consecutiveHealthy = 0;
+                consecutiveBreaches++;
+            }
+            if (!degraded && consecutiveBreaches >= properties.getDegradeAfter()) {
+                degraded = true;
+                logger.warn("Runtime degraded after {} consecutive samples, refusing traffic: {}",
+                        consecutiveBreaches, crossed);
+                AvailabilityChangeEvent.publish(publisher, this, ReadinessState.REFUSING_TRAFFIC);
+            } else if (degraded && consecutiveHealthy >= properties.getRecoverAfter()) {
+                degraded = false;
+                AvailabilityChangeEvent<ReadinessState> last = availability.getLastChangeEvent(ReadinessState.class);
+                if (last != null && last.getSource() == this) {
+                    logger.info("Runtime recovered after {} healthy samples, accepting traffic", consecutiveHealthy);
+                    AvailabilityChangeEvent.publish(publisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+                } else {
+                    logger.info("Runtime recovered, readiness left at {} as set elsewhere",
+                            availability.getReadinessState());
+                }
+            }
+        }
+    }
+
+    public synchronized RuntimeReport report() {
+        List<RuntimeSample> samples = new ArrayList<>(history);
+        return new RuntimeReport(degraded ? "DEGRADED" : "UP", String.valueOf(availability.getReadinessState()),
+                consecutiveBreaches, consecutiveHealthy, breaches,
+                samples.isEmpty() ? null : samples.get(samples.size() - 1), samples);
+    }
+
+    public boolean isDegraded() {
+        return degraded;
+    }
+
+    private RuntimeSample sample() {
+        long now = System.nanoTime();
+        double elapsedMs = lastSampleNanos == 0 ? 0 : (now - lastSampleNanos) / 1_000_000.0;
+        boolean first = lastSampleNanos == 0;
+        lastSampleNanos = now;
+
+        MemoryUsage heap = memory.getHeapMemoryUsage();
+        long heapMax = heap.getMax() > 0 ? heap.getMax() : heap.getCommitted();
+        double heapUsage = heapMax > 0 ? (double) heap.getUsed() / heapMax : 0;
+
+        long gcCount = 0;
+        long gcTimeMs = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            gcCount += Math.max(0, collector.getCollectionCount());
+            gcTimeMs += Math.max(0, collector.getCollectionTime());
+        }
+        long gcCountDelta = gcCount - lastGcCount;
+        long gcTimeDelta = gcTimeMs - lastGcTimeMs;
+        lastGcCount = gcCount;
+        lastGcTimeMs = gcTimeMs;
+
+        long[] ids = threads.getAllThreadIds();
+        Double allocation = allocationMbPerSecond(ids, elapsedMs, first);
+        Map<Thread.State, Integer> states = new EnumMap<>(Thread.State.class);
+        for (ThreadInfo info : threads.getThreadInfo(ids)) {
+            if (info != null) {
+                states.merge(info.getThreadState(), 1, Integer::sum);
+            }
+        }
+        Map<String, Integer> threadStates = new LinkedHashMap<>();
+        states.forEach((state, count) -> threadStates.put(state.name(), count));
+
+        return new RuntimeSample(Instant.now(),
+                heap.getUsed() / MB, heapMax / MB, round(heapUsage), memory.getNonHeapMemoryUsage().getUsed() / MB,
+                allocation,
+                first ? 0 : gcCountDelta, first ? 0 : gcTimeDelta,
+                first || elapsedMs <= 0 ? 0 : round(gcTimeDelta / elapsedMs),
+                ids.length, threadStates, connectionPools(), caches(), queues());
+    }
+
+    /**
+     * Bytes allocated since the previous sample by the threads alive now; allocation of threads
+     * that ended in between is not counted
+     */
+    private Double allocationMbPerSecond(long[] ids, double elapsedMs, boolean first) {
+        if (!(threads instanceof com.sun.management.ThreadMXBean hotspot)
+                || !hotspot.isThreadAllocatedMemorySupported() || !hotspot.isThreadAllocatedMemoryEnabled()) {
+            return null;
+        }
+        long[] allocated = hotspot.getThreadAllocatedBytes(ids);
+        Map<Long, Long> current = new HashMap<>(ids.length * 2);
+        long delta = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (allocated[i] < 0) {
+                continue;
+            }
+            current.put(ids[i], allocated[i]);
+            delta += allocated[i] - allocatedByThread.getOrDefault(ids[i], 0L);
+        }
+        allocatedByThread = current;
+        if (first || elapsedMs <= 0) {
+            return null;
+        }
+        return round(delta / (double) MB / (elapsedMs / 1000.0));
+    }
+
+    private Map<String, RuntimeSample.Pool> connectionPools() {
+        Map<String, RuntimeSample.Pool> pools = new TreeMap<>();
+        for (Gauge active : meterRegistry.find("hikaricp.connections.active").gauges()) {
+            String pool = active.getId().getTag("pool");
+            int max = (int) gauge("hikaricp.connections.max", "pool", pool);
+            int used = (int) active.value();
+            pools.put(pool, new RuntimeSample.Pool(used, max, (int) gauge("hikaricp.connections.pending", "pool", pool),
+                    max > 0 ? round((double) used / max) : 0));
+        }
+        return pools;
+    }
+
+    private Map<String, Long> caches() {
+        Map<String, Long> caches = new TreeMap<>();
+        for (Gauge size : meterRegistry.find("cache.size").gauges()) {
+            caches.put(size.getId().getTag("cache"), (long) size.value());
+        }
+        return caches;
+    }
+
+    private Map<String, Long> queues() {
+        Map<String, Long> queues = new TreeMap<>();
+        for (Gauge queued : meterRegistry.find("workload.executor.queued").gauges()) {
+            queues.put("executor:" + queued.getId().getTag("class"), (long) queued.value());
+        }
+        for (Gauge queued : meterRegistry.find("concurrency.queued").gauges()) {
+            queues.put("concurrency:" + queued.getId().getTag("group"), (long) queued.value());
+        }
+        Gauge passwordHash = meterRegistry.find("auth.password.hash.queue").gauge();
+        if (passwordHash != null) {
+            queues.put("passwordHash", (long) passwordHash.value());
+        }
+        return queues;
+    }
+
+    private List<String> evaluate(RuntimeSample sample) {
+        RuntimeMonitorProperties.Thresholds limits = properties.getThresholds();
+        List<String> crossed = new ArrayList<>();
+        if (sample.heapUsage() >= limits.getHeapUsage()) {
+            crossed.add("heapUsage " + sample.heapUsage() + " >= " + limits.getHeapUsage());
+        }
+        if (sample.gcTimeRatio() >= limits.getGcTimeRatio()) {
+            crossed.add("gcTimeRatio " + sample.gcTimeRatio() + " >= " + limits.getGcTimeRatio());
+        }
+        sample.connectionPools().forEach((pool, usage) -> {
+            if (usage.pending() >= limits.getConnectionWaiters()) {
+                crossed.add("connectionWaiters[" + pool + "] " + usage.pending() + " >= " + limits.getConnectionWaiters());
+            }
+        });
+        long queued = sample.queuedRequests();
+        if (queued >= limits.getQueuedRequests()) {
+            crossed.add("queuedRequests " + queued + " >= " + limits.getQueuedRequests());
+        }
+        int blocked = sample.threadStates().getOrDefault(Thread.State.BLOCKED.name(), 0);
+        if (blocked >= limits.getBlockedThreads()) {
+            crossed.add("blockedThreads " + blocked + " >= " + limits.getBlockedThreads());
+        }
+        return crossed;
+    }
+
+    private double gauge(String name, String tag, String value) {
+        Gauge gauge = meterRegistry.find(name).tag(tag, value).gauge();
+        return gauge != null ? gauge.value() : 0;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
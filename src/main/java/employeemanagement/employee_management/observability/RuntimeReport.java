@@ -0,0 +1,14 @@
+package employeemanagement.employee_management.observability;
+
+import java.util.List;
+
+/**
+ * /actuator/runtime payload
+ *
+ * @param status   UP, or DEGRADED while readiness has been withdrawn by the monitor
+ * @param breaches thresholds crossed by the latest sample
+ * @param history  oldest first, the latest sample last
+ */
+public record RuntimeReport(String status, String readiness, int consecutiveBreaches, int consecutiveHealthy,
+                           List<String> breaches, RuntimeSample latest, List<RuntimeSample> history) {
+}
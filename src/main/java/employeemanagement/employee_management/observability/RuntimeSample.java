@@ -0,0 +1,28 @@
+package employeemanagement.employee_management.observability;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * One sample of the runtime monitor; GC and allocation figures cover the time since the previous sample
+ *
+ * @param allocationMbPerSecond bytes allocated by live threads, null on the first sample
+ * @param gcTimeRatio           share of the interval spent in garbage collection
+ * @param queues                requests waiting, by queue (executor:&lt;class&gt;, concurrency:&lt;group&gt;, passwordHash)
+ */
+public record RuntimeSample(Instant timestamp,
+                            long heapUsedMb, long heapMaxMb, double heapUsage, long nonHeapUsedMb,
+                            Double allocationMbPerSecond,
+                            long gcCount, long gcTimeMs, double gcTimeRatio,
+                            int threads, Map<String, Integer> threadStates,
+                            Map<String, Pool> connectionPools,
+                            Map<String, Long> caches,
+                            Map<String, Long> queues) {
+
+    public record Pool(int active, int max, int pending, double usage) {
+    }
+
+    public long queuedRequests() {
+        return queues.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
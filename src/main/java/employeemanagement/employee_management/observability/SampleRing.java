@@ -0,0 +1,42 @@
+package employeemanagement.employee_management.observability;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded buffer keeping the most recent samples; adding never blocks and overwrites the oldest
+ */
+final class SampleRing<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLong next = new AtomicLong();
+
+    SampleRing(int capacity) {
+        this.slots = new AtomicReferenceArray<>(Math.max(capacity, 1));
+    }
+
+    void add(T sample) {
+        slots.set((int) (next.getAndIncrement() % slots.length()), sample);
+    }
+
+    List<T> newestFirst() {
+        long end = next.get();
+        long begin = Math.max(0, end - slots.length());
+        List<T> samples = new ArrayList<>((int) (end - begin));
+        for (long i = end - 1; i >= begin; i--) {
+            T sample = slots.get((int) (i % slots.length()));
+            if (sample != null) {
+                samples.add(sample);
+            }
+        }
+        return samples;
+    }
+
+    void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package employeemanagement.employee_management.observability;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * DataSource timing every statement execution: the time is added to the current request's
+ * query statistics, and statements over the slow query threshold are handed to the sampler
+ * with their SQL, bound parameters and row count once they are closed.
+ * Closing the DataSource closes the target (the connection pools).
+ */
+public class SamplingDataSource extends DelegatingDataSource implements Closeable {
+
+    private final SlowRequestSampler sampler;
+
+    public SamplingDataSource(DataSource target, SlowRequestSampler sampler) {
+        super(target);
+        this.sampler = sampler;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (getTargetDataSource() instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection connection(Connection connection) {
+        return proxy(Connection.class, (proxy, method, args) -> switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "prepareStatement", "prepareCall", "createStatement" -> {
+                Statement statement = (Statement) invoke(connection, method, args);
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                yield proxy(method.getReturnType(), new StatementHandler(statement, sql));
+            }
+            default -> invoke(connection, method, args);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<?> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * One statement; a PreparedStatement may be executed several times, each run is timed and sampled separately
+     */
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement statement;
+        private String sql;
+        private Object[] parameters = new Object[8];
+        private int parameterCount;
+        private long runNanos = -1;
+        private long rows;
+
+        private StatementHandler(Statement statement, String sql) {
+            this.statement = statement;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch":
+                    return execute(proxy, method, args);
+                case "getResultSet":
+                    return rows(proxy, (ResultSet) SamplingDataSource.invoke(statement, method, args));
+                case "clearParameters":
+                    parameterCount = 0;
+                    Arrays.fill(parameters, null);
+                    break;
+                case "close":
+                    finishRun();
+                    break;
+                default:
+                    if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                        bind(index, name.equals("setNull") ? null : args[1]);
+                    }
+            }
+            return SamplingDataSource.invoke(statement, method, args);
+        }
+
+        private Object execute(Object self, Method method, Object[] args) throws Throwable {
+            finishRun();
+            if (args != null && args.length > 0 && args[0] instanceof String text) {
+                sql = text;
+            }
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = SamplingDataSource.invoke(statement, method, args);
+            } finally {
+                runNanos = System.nanoTime() - start;
+                RequestQueryStats stats = QueryContext.current();
+                if (stats != null) {
+                    stats.recordExecution(runNanos);
+                }
+            }
+            if (result instanceof ResultSet resultSet) {
+                return rows(self, resultSet);
+            }
+            if (result instanceof Number updated) {
+                rows = updated.longValue();
+            } else if (result instanceof int[] updated) {
+                rows = Arrays.stream(updated).filter(count -> count > 0).sum();
+            } else if (result instanceof long[] updated) {
+                rows = Arrays.stream(updated).filter(count -> count > 0).sum();
+            }
+            return result;
+        }
+
+        private ResultSet rows(Object self, ResultSet resultSet) {
+            if (resultSet == null || runNanos < 0 || !sampler.isSlowQuery(runNanos)) {
+                return resultSet;
+            }
+            // Only slow statements pay for counting rows
+            return proxy(ResultSet.class, (proxy, method, args) -> switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "getStatement" -> self;
+                case "next" -> {
+                    Object next = SamplingDataSource.invoke(resultSet, method, args);
+                    if (Boolean.TRUE.equals(next)) {
+                        rows++;
+                    }
+                    yield next;
+                }
+                default -> SamplingDataSource.invoke(resultSet, method, args);
+            });
+        }
+
+        private void bind(int index, Object value) {
+            if (index < 1 || index > 10_000) {
+                return;
+            }
+            if (index > parameters.length) {
+                parameters = Arrays.copyOf(parameters, Math.max(index, parameters.length * 2));
+            }
+            parameters[index - 1] = value;
+            parameterCount = Math.max(parameterCount, index);
+        }
+
+        private void finishRun() {
+            if (runNanos >= 0 && sampler.isSlowQuery(runNanos)) {
+                sampler.sampleQuery(sql, parameters, parameterCount, rows, runNanos);
+            }
+            runNanos = -1;
+            rows = 0;
+        }
+    }
+}
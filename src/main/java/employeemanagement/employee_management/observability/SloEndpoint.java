@@ -0,0 +1,25 @@
+package employeemanagement.employee_management.observability;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * /actuator/slo - per route latency percentiles (p50/p95/p99/p99.9) of the rolling window,
+ * split by status class, with error budget burn against the configured thresholds
+ */
+@Component
+@Endpoint(id = "slo")
+public class SloEndpoint {
+
+    private final RouteLatencyRegistry registry;
+
+    public SloEndpoint(RouteLatencyRegistry registry) {
+        this.registry = registry;
+    }
+
+    @ReadOperation
+    public SloReport slo() {
+        return registry.report();
+    }
+}
@@ -0,0 +1,56 @@
+package employeemanagement.employee_management.observability;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Body of /actuator/slo: per route latency percentiles over the rolling window and how much
+ * of the error budget the window has burnt. Latencies are in milliseconds.
+ */
+public record SloReport(long windowSeconds, List<Route> routes) {
+
+    /**
+     * @param window requests of the rolling window
+     * @param total  requests since startup (the slo.requests counters)
+     */
+    public record Route(String method, String uri, long latencyThresholdMs, double objective,
+                        Window window, Totals total) {
+    }
+
+    /**
+     * @param burnRate        bad request ratio over the ratio the objective allows: above 1 the
+     *                        budget runs out before the window does
+     * @param budgetRemaining share of the window's error budget left, negative once overspent
+     */
+    public record Window(long requests, long slow, long errors, double burnRate, double budgetRemaining,
+                         Latency latency, Map<String, Latency> statusClasses) {
+
+        static Window of(long requests, long slow, long errors, double objective,
+                         Latency latency, Map<String, Latency> statusClasses) {
+            double allowed = 1.0 - objective;
+            double burnRate = requests == 0 ? 0.0 : ((double) (slow + errors) / requests) / allowed;
+            return new Window(requests, slow, errors, burnRate, 1.0 - burnRate, latency, statusClasses);
+        }
+    }
+
+    public record Latency(long count, double p50, double p95, double p99, double p999, double max) {
+
+        static Latency of(Histogram histogram) {
+            return new Latency(histogram.getTotalCount(),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(95)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+
+    public record Totals(long requests, long slow, long errors) {
+    }
+}
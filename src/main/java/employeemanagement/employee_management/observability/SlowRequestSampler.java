@@ -0,0 +1,191 @@
+package employeemanagement.employee_management.observability;
+
+import employeemanagement.employee_management.config.SamplerProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the most recent requests and SQL statements that exceeded their thresholds, with the
+ * context needed to explain them. A fast request costs a timeline, a set insertion and removal
+ * and one comparison; everything else is only built for samples.
+ */
+@Component
+public class SlowRequestSampler {
+
+    private static final String APPLICATION_PACKAGE = "employeemanagement.employee_management.";
+
+    private final boolean enabled;
+    private final long requestThresholdNanos;
+    private final long queryThresholdNanos;
+    private final boolean redactParameters;
+    private final int maxStackDepth;
+    private final SampleRing<SlowSamples.SlowRequest> requests;
+    private final SampleRing<SlowSamples.SlowQuery> queries;
+    private final Set<RequestTimeline> inFlight = ConcurrentHashMap.newKeySet();
+
+    public SlowRequestSampler(SamplerProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.requestThresholdNanos = TimeUnit.MILLISECONDS.toNanos(properties.getRequestThresholdMs());
+        this.queryThresholdNanos = TimeUnit.MILLISECONDS.toNanos(properties.getQueryThresholdMs());
+        this.redactParameters = properties.isRedactParameters();
+        this.maxStackDepth = properties.getMaxStackDepth();
+        this.requests = new SampleRing<>(properties.getCapacity());
+        this.queries = new SampleRing<>(properties.getCapacity());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    RequestTimeline start(HttpServletRequest request, long start) {
+        RequestTimeline timeline = new RequestTimeline(start);
+        request.setAttribute(RequestTimeline.ATTRIBUTE, timeline);
+        inFlight.add(timeline);
+        return timeline;
+    }
+
+    void complete(HttpServletRequest request, RequestTimeline timeline, String route, int status, long nanos) {
+        inFlight.remove(timeline);
+        if (nanos < requestThresholdNanos) {
+            return;
+        }
+        RequestQueryStats stats = (RequestQueryStats) request.getAttribute(QueryMetricsFilter.STATS_ATTRIBUTE);
+        long db = stats != null ? stats.getStatementNanos() : 0;
+        long auth = timeline.get(RequestTimeline.Phase.AUTH);
+        long handler = timeline.get(RequestTimeline.Phase.HANDLER);
+        long serialization = timeline.get(RequestTimeline.Phase.SERIALIZATION);
+
+        Map<String, Double> breakdown = new LinkedHashMap<>();
+        breakdown.put("auth", millis(auth));
+        breakdown.put("service", millis(Math.max(0, handler - db - serialization)));
+        breakdown.put("db", millis(db));
+        breakdown.put("serialization", millis(serialization));
+        breakdown.put("other", millis(Math.max(0, nanos - auth - handler)));
+        requests.add(new SlowSamples.SlowRequest(Instant.now(), request.getMethod(), request.getRequestURI(), route,
+                status, timeline.principal, millis(nanos), breakdown, stats != null ? stats.getStatementCount() : 0,
+                frames(timeline.stack)));
+    }
+
+    boolean isSlowQuery(long nanos) {
+        return enabled && nanos >= queryThresholdNanos;
+    }
+
+    /**
+     * Sample a statement on the thread that executed it
+     */
+    void sampleQuery(String sql, Object[] parameters, int parameterCount, long rows, long nanos) {
+        RequestQueryStats stats = QueryContext.current();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        List<String> described = new ArrayList<>(parameterCount);
+        for (int i = 0; i < parameterCount; i++) {
+            described.add(describe(parameters[i]));
+        }
+        queries.add(new SlowSamples.SlowQuery(Instant.now(), stats != null ? stats.getEndpoint() : null,
+                authentication != null ? authentication.getName() : null, sql, described, rows, millis(nanos),
+                applicationFrames(Thread.currentThread().getStackTrace())));
+    }
+
+    /**
+     * Snapshot the stack of requests that just crossed the threshold while they are still running
+     */
+    @Scheduled(fixedDelayString = "${slow-sampler.watchdog-interval-ms:100}")
+    public void captureSlowInFlight() {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        for (RequestTimeline timeline : inFlight) {
+            Thread worker = timeline.worker;
+            if (timeline.stack == null && worker != null && now - timeline.getStart() >= requestThresholdNanos) {
+                timeline.stack = worker.getStackTrace();
+            }
+        }
+    }
+
+    public SlowSamples samples() {
+        return new SlowSamples(requests.newestFirst(), queries.newestFirst());
+    }
+
+    public void clear() {
+        requests.clear();
+        queries.clear();
+    }
+
+    private String describe(Object value) {
+        if (value == null) {
+            return "NULL";
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Enum<?>
+                || value instanceof TemporalAccessor || value instanceof Date) {
+            return value.toString();
+        }
+        if (!redactParameters && value instanceof CharSequence text) {
+            return "'" + text + "'";
+        }
+        return value instanceof CharSequence text
+                ? "<" + value.getClass().getSimpleName() + ", " + text.length() + " chars>"
+                : "<" + value.getClass().getSimpleName() + ">";
+    }
+
+    /**
+     * Stack frames below the sampling machinery (thread, proxy and observability frames dropped)
+     */
+    private List<String> frames(StackTraceElement[] stack) {
+        if (stack == null) {
+            return null;
+        }
+        int first = 0;
+        while (first < stack.length && isSamplingFrame(stack[first].getClassName())) {
+            first++;
+        }
+        List<String> frames = new ArrayList<>();
+        for (int i = first; i < stack.length && frames.size() < maxStackDepth; i++) {
+            frames.add(stack[i].toString());
+        }
+        return frames;
+    }
+
+    /**
+     * Application frames only: a statement is executed deep inside Hibernate and Spring Data,
+     * what matters is which service and controller issued it
+     */
+    private List<String> applicationFrames(StackTraceElement[] stack) {
+        List<String> frames = new ArrayList<>();
+        for (StackTraceElement frame : stack) {
+            String className = frame.getClassName();
+            if (className.startsWith(APPLICATION_PACKAGE) && !isSamplingFrame(className)) {
+                frames.add(frame.toString());
+                if (frames.size() == maxStackDepth) {
+                    break;
+                }
+            }
+        }
+        return frames.isEmpty() ? frames(stack) : frames;
+    }
+
+    private static boolean isSamplingFrame(String className) {
+        return className.equals("java.lang.Thread")
+                || className.startsWith("jdk.proxy")
+                || className.startsWith("jdk.internal.reflect")
+                || className.startsWith("java.lang.reflect")
+                || className.startsWith(SlowRequestSampler.class.getPackageName());
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,31 @@
+package employeemanagement.employee_management.observability;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Body of /actuator/slow: the most recent slow requests and statements, newest first.
+ * Durations are in milliseconds.
+ */
+public record SlowSamples(List<SlowRequest> requests, List<SlowQuery> queries) {
+
+    /**
+     * @param breakdown auth, service, db, serialization and other (filters, queueing for a
+     *                  connection or an executor slot)
+     * @param stack     what the serving thread was doing when the request crossed the threshold
+     */
+    public record SlowRequest(Instant timestamp, String method, String uri, String route, int status,
+                              String principal, double durationMs, Map<String, Double> breakdown,
+                              int statements, List<String> stack) {
+    }
+
+    /**
+     * @param endpoint   request the statement ran for, null outside a request
+     * @param rows       rows read, or updated for a DML statement
+     * @param stack      where the statement was issued from
+     */
+    public record SlowQuery(Instant timestamp, String endpoint, String principal, String sql,
+                            List<String> parameters, long rows, double durationMs, List<String> stack) {
+    }
+}
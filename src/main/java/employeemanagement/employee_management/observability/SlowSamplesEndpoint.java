@@ -0,0 +1,44 @@
+package employeemanagement.employee_management.observability;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * /actuator/slow - recent slow requests and SQL statements (/actuator/slow/requests,
+ * /actuator/slow/queries for one kind); DELETE clears them
+ */
+@Component
+@Endpoint(id = "slow")
+public class SlowSamplesEndpoint {
+
+    private final SlowRequestSampler sampler;
+
+    public SlowSamplesEndpoint(SlowRequestSampler sampler) {
+        this.sampler = sampler;
+    }
+
+    @ReadOperation
+    public SlowSamples samples() {
+        return sampler.samples();
+    }
+
+    @ReadOperation
+    public List<?> samplesOf(@Selector String kind) {
+        SlowSamples samples = sampler.samples();
+        return switch (kind) {
+            case "requests" -> samples.requests();
+            case "queries" -> samples.queries();
+            default -> null;
+        };
+    }
+
+    @DeleteOperation
+    public void clear() {
+        sampler.clear();
+    }
+}
@@ -0,0 +1,11 @@
+package employeemanagement.employee_management.observability;
+
+/**
+ * Statements a request may issue before it is reported
+ *
+ * @param maxStatements statements per request
+ * @param maxRepeats    executions of one statement shape per request (more suggests an N+1)
+ * @param stackTraces   capture where the first offending statement was issued
+ */
+public record StatementBudget(int maxStatements, int maxRepeats, boolean stackTraces) {
+}
@@ -0,0 +1,62 @@
+package employeemanagement.employee_management.observability;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Latency histogram over a rolling window of slices
+ * Writers record into a Recorder, which is wait-free; readers (rotation and reports) swap its
+ * interval histogram out and add it to the current slice, so they never block a writer.
+ * Values are microseconds with two significant digits (1% resolution) up to one minute.
+ */
+final class WindowedHistogram {
+
+    static final long HIGHEST_TRACKABLE_MICROS = 60_000_000L;
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private final Recorder recorder = new Recorder(1, HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final Histogram[] slices;
+    private Histogram interval;
+    private int current;
+
+    WindowedHistogram(int slices) {
+        this.slices = new Histogram[slices];
+        for (int i = 0; i < slices; i++) {
+            this.slices[i] = newHistogram();
+        }
+    }
+
+    void record(long micros) {
+        recorder.recordValue(Math.min(Math.max(micros, 1), HIGHEST_TRACKABLE_MICROS));
+    }
+
+    /**
+     * Start a new slice, dropping the oldest
+     */
+    synchronized void rotate() {
+        drain();
+        current = (current + 1) % slices.length;
+        slices[current].reset();
+    }
+
+    /**
+     * Everything recorded during the window, including the slice in progress
+     */
+    synchronized Histogram snapshot() {
+        drain();
+        Histogram window = newHistogram();
+        for (Histogram slice : slices) {
+            window.add(slice);
+        }
+        return window;
+    }
+
+    private void drain() {
+        interval = recorder.getIntervalHistogram(interval);
+        slices[current].add(interval);
+    }
+
+    static Histogram newHistogram() {
+        return new Histogram(1, HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    }
+}
@@ -2,6 +2,9 @@ package employeemanagement.employee_management.repository;
 
 import employeemanagement.employee_management.model.Department;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -22,4 +25,14 @@ public interface DepartmentRepository extends JpaRepository<Department, Long> {
      * Check if department exists by name
      */
     boolean existsByName(String name);
+
+    /**
+     * Delete a department only if it is still at the given version, in one statement
+     * Used after the bulk employee UPDATEs, which leave the department detached
+     *
+     * @return 1 if deleted, 0 if the department was changed or removed concurrently
+     */
+    @Modifying
+    @Query("DELETE FROM Department d WHERE d.id = :id AND d.version = :version")
+    int deleteByIdAndVersion(@Param("id") Long id, @Param("version") Long version);
 }
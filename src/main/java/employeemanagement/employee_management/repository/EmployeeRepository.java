@@ -2,19 +2,35 @@ package employeemanagement.employee_management.repository;
 
 import employeemanagement.employee_management.model.Employee;
 import employeemanagement.employee_management.model.Department;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * EmployeeRepository - Repository layer for Employee data access
  * Using Spring Data JPA for database operations
+ * Finders whose results are mapped to DTOs fetch the department in the same statement,
+ * otherwise every distinct department costs one extra SELECT (N+1)
  */
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, String> {
 
+    @Override
+    @EntityGraph(attributePaths = "department")
+    List<Employee> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = "department")
+    Optional<Employee> findById(String id);
+
     /**
      * Find employee by email
      */
@@ -23,35 +39,81 @@ public interface EmployeeRepository extends JpaRepository<Employee, String> {
     /**
      * Find employees by department
      */
+    @EntityGraph(attributePaths = "department")
     List<Employee> findByDepartment(Department department);
 
     /**
      * Find employees by department ID
      */
+    @EntityGraph(attributePaths = "department")
     List<Employee> findByDepartmentId(Long departmentId);
 
     /**
      * Find employees by position
      */
+    @EntityGraph(attributePaths = "department")
     List<Employee> findByPosition(String position);
 
     /**
      * Find employees by name containing (case-insensitive search)
      */
+    @EntityGraph(attributePaths = "department")
     List<Employee> findByNameContainingIgnoreCase(String name);
 
     /**
      * Find employees by department name (case-insensitive)
      */
+    @EntityGraph(attributePaths = "department")
     List<Employee> findByDepartment_NameContainingIgnoreCase(String departmentName);
 
     /**
      * Find employees by name and department name (case-insensitive)
      */
+    @EntityGraph(attributePaths = "department")
     List<Employee> findByNameContainingIgnoreCaseAndDepartment_NameContainingIgnoreCase(String name, String departmentName);
 
+    /**
+     * Employee count of every department (including empty ones) as [department name, count] rows
+     */
+    @Query("SELECT d.name, COUNT(e) FROM Department d LEFT JOIN Employee e ON e.department = d GROUP BY d.id, d.name")
+    List<Object[]> countByDepartment();
+
     /**
      * Check if employee exists by email
      */
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    /**
+     * Stream all employee IDs (must be consumed inside a transaction)
+     */
+    @Query("SELECT e.id FROM Employee e")
+    Stream<String> streamAllIds();
+
+    /**
+     * Stream all non-null employee emails (must be consumed inside a transaction)
+     */
+    @Query("SELECT e.email FROM Employee e WHERE e.email IS NOT NULL")
+    Stream<String> streamAllEmails();
+
+    /**
+     * Move every employee of a department to another department in a single UPDATE
+     * Bumps the version so stale If-Match writes on moved employees are rejected
+     * Clears the persistence context afterwards: the UPDATE bypasses it, so employees loaded
+     * earlier in the transaction would otherwise keep their old department and version
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Employee e SET e.department = :target, e.version = e.version + 1, e.updatedAt = :now "
+            + "WHERE e.department.id = :departmentId")
+    int reassignDepartment(@Param("departmentId") Long departmentId,
+                           @Param("target") Department target,
+                           @Param("now") LocalDateTime now);
+
+    /**
+     * Detach every employee from a department in a single UPDATE
+     * Clears the persistence context afterwards, like {@link #reassignDepartment}
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Employee e SET e.department = NULL, e.version = e.version + 1, e.updatedAt = :now "
+            + "WHERE e.department.id = :departmentId")
+    int clearDepartment(@Param("departmentId") Long departmentId, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,26 @@
+package employeemanagement.employee_management.repository;
+
+import employeemanagement.employee_management.model.IdSequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * IdSequenceRepository - Repository layer for hi/lo sequence rows
+ */
+@Repository
+public interface IdSequenceRepository extends JpaRepository<IdSequence, String> {
+
+    /**
+     * Load a sequence row with a row lock (SELECT ... FOR UPDATE) so concurrent nodes
+     * serialize only on block reservation, never on individual IDs
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM IdSequence s WHERE s.name = :name")
+    Optional<IdSequence> findByNameForUpdate(@Param("name") String name);
+}
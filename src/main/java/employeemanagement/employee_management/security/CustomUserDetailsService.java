@@ -5,10 +5,13 @@ import employeemanagement.employee_management.repository.UserRepository;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.Collection;
 import java.util.stream.Collectors;
 
@@ -16,7 +19,7 @@ import java.util.stream.Collectors;
  * Custom UserDetailsService implementation for Spring Security
  */
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -29,17 +32,34 @@ public class CustomUserDetailsService implements UserDetailsService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
 
-        return new org.springframework.security.core.userdetails.User(
+        return new UserPrincipal(
                 user.getUsername(),
                 user.getPassword(),
                 user.isEnabled(),
-                true,
-                true,
-                true,
-                getAuthorities(user)
+                getAuthorities(user),
+                stampOf(user)
         );
     }
 
+    /**
+     * Store a password re-hashed with the configured cost after a successful login.
+     * The stamp is kept, since the password itself did not change.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePassword(user.getUsername(), newPassword);
+        long stamp = user instanceof UserPrincipal principal ? principal.getStamp() : 0L;
+        return new UserPrincipal(user.getUsername(), newPassword, user.isEnabled(), user.getAuthorities(), stamp);
+    }
+
+    /**
+     * Version stamp of the user row: last modification time in epoch milliseconds
+     */
+    static long stampOf(User user) {
+        LocalDateTime updatedAt = user.getUpdatedAt();
+        return updatedAt == null ? 0L : updatedAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
     private Collection<? extends GrantedAuthority> getAuthorities(User user) {
         return user.getRoles().stream()
                 .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
@@ -0,0 +1,62 @@
+package employeemanagement.employee_management.security;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Hashed timing wheel removing map entries when they expire.
+ * Scheduling is O(1); each advance only visits the slots whose tick has fully elapsed,
+ * so expiring entries costs time proportional to what actually expires, not to the map size.
+ * An entry is removed only if the map still holds the value it was scheduled with.
+ */
+final class ExpiryWheel<K, V> {
+
+    private final Map<K, V> map;
+    private final long tickMillis;
+    private final Queue<Entry<K, V>>[] slots;
+    private long nextTick;
+
+    @SuppressWarnings("unchecked")
+    ExpiryWheel(Map<K, V> map, long tickMillis, long horizonMillis, long nowMillis) {
+        this.map = map;
+        this.tickMillis = tickMillis;
+        int slotCount = (int) Math.max(2, horizonMillis / tickMillis + 1);
+        this.slots = new Queue[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            slots[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.nextTick = nowMillis / tickMillis;
+    }
+
+    void schedule(K key, V value, long expiresAtMillis) {
+        slots[slotOf(expiresAtMillis / tickMillis)].add(new Entry<>(key, value, expiresAtMillis));
+    }
+
+    /**
+     * Expire everything due before the current tick; entries of later rounds stay in their slot
+     */
+    synchronized void advance(long nowMillis) {
+        long currentTick = nowMillis / tickMillis;
+        long from = Math.max(nextTick, currentTick - slots.length);
+        for (long tick = from; tick < currentTick; tick++) {
+            long slotEnd = (tick + 1) * tickMillis;
+            for (Iterator<Entry<K, V>> it = slots[slotOf(tick)].iterator(); it.hasNext(); ) {
+                Entry<K, V> entry = it.next();
+                if (entry.expiresAt < slotEnd) {
+                    it.remove();
+                    map.remove(entry.key, entry.value);
+                }
+            }
+        }
+        nextTick = Math.max(nextTick, currentTick);
+    }
+
+    private int slotOf(long tick) {
+        return (int) Math.floorMod(tick, (long) slots.length);
+    }
+
+    private record Entry<K, V>(K key, V value, long expiresAt) {
+    }
+}
@@ -1,45 +1,58 @@
 package employeemanagement.employee_management.security;
 
+import employeemanagement.employee_management.observability.RequestTimeline;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * JWT Authentication Filter - intercepts requests and validates JWT tokens
+ * Authentication is built from the token's claims; the account itself is read from the
+ * user cache, so the hot path needs no SQL while the cached entry is fresh
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final String CLAIMS_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".claims";
+
     private final JwtTokenProvider jwtTokenProvider;
-    private final CustomUserDetailsService customUserDetailsService;
+    private final UserDetailsCache userDetailsCache;
+    private final TokenRevocationService tokenRevocationService;
 
     public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
-                                   CustomUserDetailsService customUserDetailsService) {
+                                   UserDetailsCache userDetailsCache,
+                                   TokenRevocationService tokenRevocationService) {
         this.jwtTokenProvider = jwtTokenProvider;
-        this.customUserDetailsService = customUserDetailsService;
+        this.userDetailsCache = userDetailsCache;
+        this.tokenRevocationService = tokenRevocationService;
     }
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
                                     @NonNull HttpServletResponse response,
                                     @NonNull FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
         try {
-            String jwt = getJwtFromRequest(request);
-
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                String username = jwtTokenProvider.getUsernameFromToken(jwt);
-
-                UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
+            Claims claims = claimsOf(request, jwtTokenProvider);
+            UserDetails userDetails = claims != null && !tokenRevocationService.isRevoked(claims)
+                    ? resolveUser(claims) : null;
+            if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -49,11 +62,67 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         } catch (Exception ex) {
             logger.error("Could not set user authentication in security context", ex);
         }
+        RequestTimeline timeline = RequestTimeline.of(request);
+        if (timeline != null) {
+            timeline.add(RequestTimeline.Phase.AUTH, System.nanoTime() - start);
+        }
 
         filterChain.doFilter(request, response);
     }
 
-    private String getJwtFromRequest(HttpServletRequest request) {
+    /**
+     * Build the principal from the token claims, checked against the current account:
+     * the user row is read through UserDetailsCache (at most once per TTL, evicted on account
+     * changes and user-wide revocation), and a disabled account or a token older than the
+     * account's stamp is rejected.
+     * Tokens issued without embedded roles use the cached user as is.
+     */
+    private UserDetails resolveUser(Claims claims) {
+        String username = claims.getSubject();
+        UserPrincipal current;
+        try {
+            current = userDetailsCache.load(username);
+        } catch (UsernameNotFoundException ex) {
+            return null;
+        }
+        if (!current.isEnabled()) {
+            return null;
+        }
+        List<?> roles = claims.get(JwtTokenProvider.ROLES_CLAIM, List.class);
+        if (roles == null) {
+            return current;
+        }
+
+        Number stamp = claims.get(JwtTokenProvider.STAMP_CLAIM, Number.class);
+        long tokenStamp = stamp == null ? 0L : stamp.longValue();
+        if (current.getStamp() > tokenStamp) {
+            // The account changed after this token was issued
+            return null;
+        }
+
+        List<GrantedAuthority> authorities = new ArrayList<>(roles.size());
+        for (Object role : roles) {
+            authorities.add(new SimpleGrantedAuthority(String.valueOf(role)));
+        }
+        return new UserPrincipal(username, "", true, authorities, tokenStamp);
+    }
+
+    /**
+     * Verified claims of the request's bearer token, parsed at most once per request
+     * (the rate limit filter ahead of this one needs the username too)
+     */
+    static Claims claimsOf(HttpServletRequest request, JwtTokenProvider jwtTokenProvider) {
+        Object parsed = request.getAttribute(CLAIMS_ATTRIBUTE);
+        if (parsed != null) {
+            return parsed instanceof Claims claims ? claims : null;
+        }
+        String jwt = getJwtFromRequest(request);
+        Claims claims = StringUtils.hasText(jwt) ? jwtTokenProvider.parseToken(jwt).orElse(null) : null;
+        request.setAttribute(CLAIMS_ATTRIBUTE, claims != null ? claims : Boolean.FALSE);
+        return claims;
+    }
+
+    private static String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
             return bearerToken.substring(7);
@@ -9,21 +9,45 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * JWT Token Provider for generating and validating JWT tokens
+ * The signing key and parser are built once; verified tokens are cached until they expire
  */
 @Component
 public class JwtTokenProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
+    public static final String ROLES_CLAIM = "roles";
+    public static final String STAMP_CLAIM = "stamp";
 
-    @Value("${jwt.secret:mySecretKeyForJWTTokenGenerationAndValidation1234567890}")
-    private String jwtSecret;
+    private final long jwtExpiration;
+    private final SecretKey key;
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokens;
 
-    @Value("${jwt.expiration:86400000}") // 24 hours in milliseconds
-    private long jwtExpiration;
+    public JwtTokenProvider(@Value("${jwt.secret:mySecretKeyForJWTTokenGenerationAndValidation1234567890}") String jwtSecret,
+                            @Value("${jwt.expiration:86400000}") long jwtExpiration, // 24 hours in milliseconds
+                            @Value("${jwt.verified-cache.max-entries:10000}") int verifiedCacheSize) {
+        this.jwtExpiration = jwtExpiration;
+        this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+        this.verifiedTokens = new VerifiedTokenCache(verifiedCacheSize);
+    }
+
+    /**
+     * @return number of verified tokens currently cached
+     */
+    public int getVerifiedTokenCacheSize() {
+        return verifiedTokens.size();
+    }
 
     /**
      * Generate JWT token from username
@@ -32,9 +56,8 @@ public class JwtTokenProvider {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
 
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(username)
                 .issuedAt(now)
                 .expiration(expiryDate)
@@ -43,36 +66,61 @@ public class JwtTokenProvider {
     }
 
     /**
-     * Get username from JWT token
+     * Generate a self-contained JWT token carrying the user's authorities and version stamp,
+     * so requests can be authenticated from the token alone
      */
-    public String getUsernameFromToken(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-
-        Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public String generateToken(String username, Collection<String> authorities, long userStamp) {
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + jwtExpiration);
 
-        return claims.getSubject();
+        return Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject(username)
+                .claim(ROLES_CLAIM, List.copyOf(authorities))
+                .claim(STAMP_CLAIM, userStamp)
+                .issuedAt(now)
+                .expiration(expiryDate)
+                .signWith(key)
+                .compact();
     }
 
     /**
-     * Validate JWT token
+     * Parse and verify a token exactly once
+     * Repeat requests with the same token are answered from the verified-token cache
+     *
+     * @return claims of a valid token, empty if the token is invalid or expired
      */
-    public boolean validateToken(String token) {
-        try {
-            SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
+    public Optional<Claims> parseToken(String token) {
+        long now = System.currentTimeMillis();
+        String tokenHash = VerifiedTokenCache.hash(token);
+        Claims cached = verifiedTokens.get(tokenHash, now);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
 
-            return true;
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            verifiedTokens.put(tokenHash, claims, now);
+            return Optional.of(claims);
         } catch (JwtException | IllegalArgumentException e) {
             logger.error("JWT validation error: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
+    }
+
+    /**
+     * Get username from JWT token
+     */
+    public String getUsernameFromToken(String token) {
+        return parseToken(token)
+                .map(Claims::getSubject)
+                .orElseThrow(() -> new JwtException("Invalid JWT token"));
+    }
+
+    /**
+     * Validate JWT token
+     */
+    public boolean validateToken(String token) {
+        return parseToken(token).isPresent();
     }
 }
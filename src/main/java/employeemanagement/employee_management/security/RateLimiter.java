@@ -0,0 +1,194 @@
+package employeemanagement.employee_management.security;
+
+import employeemanagement.employee_management.config.RateLimitProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-user and per-client-IP token buckets for the route groups in {@link RateLimitProperties}.
+ * Memory is bounded: full (idle) buckets are swept periodically and, once a limit tracks
+ * rate-limit.max-buckets keys, a new key first evicts the idlest tenth of the buckets, so
+ * every key keeps a bucket of its own. An evicted bucket that was not yet full hands its
+ * key a few extra tokens, which is acceptable for the least active keys.
+ */
+@Component
+public class RateLimiter {
+
+    private final boolean enabled;
+    private final List<Group> groups = new ArrayList<>();
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RateLimiter(RateLimitProperties properties) {
+        this.enabled = properties.isEnabled();
+        for (RateLimitProperties.Group group : properties.getGroups()) {
+            groups.add(new Group(
+                    group.getName(),
+                    List.copyOf(group.getPatterns()),
+                    Limit.of(group.getPerUser(), properties.getMaxBuckets()),
+                    Limit.of(group.getPerIp(), properties.getMaxBuckets())));
+        }
+    }
+
+    /**
+     * Take one token from every bucket that applies to the request
+     *
+     * @param path     request path without the context path
+     * @param username authenticated username, or null
+     * @param clientIp client address (resolved from X-Forwarded-For by Tomcat when the peer is a trusted proxy)
+     * @return the decision, or null when no group applies
+     */
+    public Decision acquire(String path, String username, String clientIp) {
+        if (!enabled) {
+            return null;
+        }
+        Group group = match(path);
+        if (group == null) {
+            return null;
+        }
+
+        long now = System.nanoTime();
+        Decision decision = null;
+        if (group.perUser != null && username != null) {
+            decision = group.perUser.acquire(username, now);
+            if (!decision.allowed()) {
+                return decision;
+            }
+        }
+        if (group.perIp != null && clientIp != null) {
+            Decision ipDecision = group.perIp.acquire(clientIp, now);
+            if (decision == null || !ipDecision.allowed() || ipDecision.remaining() < decision.remaining()) {
+                decision = ipDecision;
+            }
+        }
+        return decision;
+    }
+
+    private Group match(String path) {
+        for (Group group : groups) {
+            for (String pattern : group.patterns) {
+                if (pathMatcher.match(pattern, path)) {
+                    return group;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Drop buckets that have refilled completely; they are indistinguishable from new ones
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.sweep-interval-ms:30000}", initialDelayString = "${rate-limit.sweep-interval-ms:30000}")
+    public void sweepIdleBuckets() {
+        long now = System.nanoTime();
+        for (Group group : groups) {
+            if (group.perUser != null) {
+                group.perUser.sweep(now);
+            }
+            if (group.perIp != null) {
+                group.perIp.sweep(now);
+            }
+        }
+    }
+
+    /**
+     * Outcome of a rate-limit check
+     *
+     * @param limit             bucket capacity
+     * @param remaining         tokens left after this request
+     * @param retryAfterSeconds seconds until a token is available, 0 when allowed
+     */
+    public record Decision(boolean allowed, int limit, long remaining, long retryAfterSeconds) {
+    }
+
+    private record Group(String name, List<String> patterns, Limit perUser, Limit perIp) {
+    }
+
+    private static final class Limit {
+
+        private final int capacity;
+        private final long intervalNanos;
+        private final long toleranceNanos;
+        private final int maxBuckets;
+        private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final ReentrantLock evictionLock = new ReentrantLock();
+
+        private Limit(int capacity, double refillPerSecond, int maxBuckets) {
+            this.capacity = capacity;
+            this.intervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond));
+            this.toleranceNanos = (capacity - 1) * intervalNanos;
+            this.maxBuckets = maxBuckets;
+        }
+
+        static Limit of(RateLimitProperties.Limit limit, int maxBuckets) {
+            if (limit == null || limit.getCapacity() <= 0 || limit.getRefillPerSecond() <= 0) {
+                return null;
+            }
+            return new Limit(limit.getCapacity(), limit.getRefillPerSecond(), maxBuckets);
+        }
+
+        Decision acquire(String key, long now) {
+            long result = bucket(key, now).tryAcquire(now, intervalNanos, toleranceNanos);
+            if (result >= 0) {
+                return new Decision(true, capacity, result, 0);
+            }
+            long retryAfter = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(-result + TimeUnit.SECONDS.toNanos(1) - 1));
+            return new Decision(false, capacity, 0, retryAfter);
+        }
+
+        private TokenBucket bucket(String key, long now) {
+            TokenBucket bucket = buckets.get(key);
+            if (bucket != null) {
+                return bucket;
+            }
+            if (buckets.size() >= maxBuckets) {
+                evictIdle(now);
+            }
+            TokenBucket created = new TokenBucket(now);
+            TokenBucket existing = buckets.putIfAbsent(key, created);
+            return existing != null ? existing : created;
+        }
+
+        /**
+         * Drop full buckets, then the idlest ones (oldest theoretical arrival) down to 90% of
+         * the limit, so the next evictions are at least maxBuckets / 10 new keys away.
+         * One evictor at a time; concurrent new keys are added meanwhile, briefly exceeding the limit
+         */
+        private void evictIdle(long now) {
+            if (!evictionLock.tryLock()) {
+                return;
+            }
+            try {
+                if (buckets.size() < maxBuckets) {
+                    return;
+                }
+                sweep(now);
+                int target = maxBuckets - Math.max(1, maxBuckets / 10);
+                long[] arrivals = buckets.values().stream()
+                        .mapToLong(TokenBucket::theoreticalArrival)
+                        .sorted()
+                        .toArray();
+                if (arrivals.length <= target) {
+                    return;
+                }
+                long threshold = arrivals[arrivals.length - target - 1];
+                buckets.values().removeIf(bucket -> bucket.theoreticalArrival() <= threshold);
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+
+        void sweep(long now) {
+            // A request racing with the removal may spend a token on the dropped bucket;
+            // at worst that key gets one extra token, which is acceptable for rate limiting
+            buckets.values().removeIf(bucket -> bucket.isFull(now));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package employeemanagement.employee_management.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket kept as a single "theoretical arrival time" (GCRA).
+ * Each acquired token pushes the arrival time one refill interval into the future; a request
+ * is admitted while that backlog stays within the burst tolerance. One CAS per request,
+ * no timer and no lock.
+ */
+final class TokenBucket {
+
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(long nowNanos) {
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * @param intervalNanos  time to refill one token
+     * @param toleranceNanos (capacity - 1) * intervalNanos
+     * @return tokens left after acquiring one (>= 0), or the negated nanos to wait (< 0) when empty
+     */
+    long tryAcquire(long nowNanos, long intervalNanos, long toleranceNanos) {
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long start = Math.max(arrival, nowNanos);
+            long backlog = start - nowNanos;
+            if (backlog > toleranceNanos) {
+                return -(backlog - toleranceNanos);
+            }
+            if (theoreticalArrival.compareAndSet(arrival, start + intervalNanos)) {
+                return (toleranceNanos - backlog) / intervalNanos;
+            }
+        }
+    }
+
+    /**
+     * A full bucket carries no state, so it can be dropped and recreated without changing behavior
+     */
+    boolean isFull(long nowNanos) {
+        return theoreticalArrival.get() <= nowNanos;
+    }
+
+    /**
+     * @return the theoretical arrival time; a smaller value means a longer idle bucket
+     */
+    long theoreticalArrival() {
+        return theoreticalArrival.get();
+    }
+}
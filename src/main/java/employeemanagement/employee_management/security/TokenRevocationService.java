@@ -0,0 +1,153 @@
+package employeemanagement.employee_management.security;
+
+import employeemanagement.employee_management.model.TokenRevocation;
+import employeemanagement.employee_management.repository.TokenRevocationRepository;
+import io.jsonwebtoken.Claims;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Revocation of issued JWTs, either one token (by jti) or all tokens of a user issued so far.
+ * Checks are two hash lookups in memory. Revocations are written to the database, reloaded on
+ * startup and polled periodically so every node sees revocations made on the others.
+ * Entries disappear from memory at the revoked token's expiry, after which the JWT is invalid anyway.
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final UserDetailsCache userDetailsCache;
+    private final long jwtExpiration;
+    private final long syncOverlapMillis;
+
+    // jti -> token expiry (epoch millis)
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    // username -> tokens issued at or before this instant are revoked (epoch millis)
+    private final Map<String, Long> revokedBefore = new ConcurrentHashMap<>();
+    private final ExpiryWheel<String, Long> tokenExpiry;
+    private final ExpiryWheel<String, Long> userExpiry;
+
+    private volatile Instant lastSync = Instant.EPOCH;
+
+    public TokenRevocationService(TokenRevocationRepository tokenRevocationRepository,
+                                  UserDetailsCache userDetailsCache,
+                                  @Value("${jwt.expiration:86400000}") long jwtExpiration,
+                                  @Value("${jwt.revocation.sync-overlap-ms:60000}") long syncOverlapMillis) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.userDetailsCache = userDetailsCache;
+        this.jwtExpiration = jwtExpiration;
+        this.syncOverlapMillis = syncOverlapMillis;
+        long now = System.currentTimeMillis();
+        long tick = TimeUnit.MINUTES.toMillis(1);
+        this.tokenExpiry = new ExpiryWheel<>(revokedTokens, tick, jwtExpiration, now);
+        this.userExpiry = new ExpiryWheel<>(revokedBefore, tick, jwtExpiration, now);
+    }
+
+    /**
+     * Check whether a verified token has been revoked
+     */
+    public boolean isRevoked(Claims claims) {
+        String jti = claims.getId();
+        if (jti != null && revokedTokens.containsKey(jti)) {
+            return true;
+        }
+        Long before = revokedBefore.get(claims.getSubject());
+        if (before == null) {
+            return false;
+        }
+        // iat has second precision: a token issued in the same second as the revocation counts as revoked
+        Date issuedAt = claims.getIssuedAt();
+        return issuedAt == null || issuedAt.getTime() <= before;
+    }
+
+    /**
+     * Revoke a single token (logout)
+     */
+    public void revokeToken(Claims claims) {
+        if (claims.getId() == null) {
+            // Tokens issued before jti was introduced can only be revoked per user
+            revokeUser(claims.getSubject());
+            return;
+        }
+        TokenRevocation revocation = new TokenRevocation(
+                TokenRevocation.Type.TOKEN, claims.getId(), Instant.now(), claims.getExpiration().toInstant());
+        apply(tokenRevocationRepository.save(revocation));
+        logger.info("Revoked token {} of user {}", claims.getId(), claims.getSubject());
+    }
+
+    /**
+     * Revoke every token issued to a user up to now
+     */
+    public void revokeUser(String username) {
+        Instant now = Instant.now();
+        TokenRevocation revocation = new TokenRevocation(
+                TokenRevocation.Type.USER, username, now, now.plusMillis(jwtExpiration));
+        apply(tokenRevocationRepository.save(revocation));
+        logger.info("Revoked all tokens of user {}", username);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRevocations() {
+        Instant now = Instant.now();
+        List<TokenRevocation> active = tokenRevocationRepository.findByExpiresAtAfter(now);
+        active.forEach(this::apply);
+        lastSync = now;
+        logger.info("Loaded {} active token revocations", active.size());
+    }
+
+    /**
+     * Pick up revocations made on other nodes and expire entries past their token expiry.
+     * The query window overlaps the previous one to tolerate clock skew and late commits;
+     * re-applying a revocation is harmless.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:5000}")
+    public void sync() {
+        Instant now = Instant.now();
+        tokenRevocationRepository.findByRevokedAtGreaterThanEqual(lastSync.minusMillis(syncOverlapMillis))
+                .forEach(this::apply);
+        lastSync = now;
+
+        long nowMillis = now.toEpochMilli();
+        tokenExpiry.advance(nowMillis);
+        userExpiry.advance(nowMillis);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval-ms:3600000}", initialDelayString = "${jwt.revocation.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int purged = tokenRevocationRepository.deleteExpired(Instant.now());
+        if (purged > 0) {
+            logger.info("Purged {} expired token revocations", purged);
+        }
+    }
+
+    private void apply(TokenRevocation revocation) {
+        long expiresAt = revocation.getExpiresAt().toEpochMilli();
+        if (expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        if (revocation.getType() == TokenRevocation.Type.TOKEN) {
+            revokedTokens.put(revocation.getSubject(), expiresAt);
+            tokenExpiry.schedule(revocation.getSubject(), expiresAt, expiresAt);
+        } else {
+            long before = revocation.getRevokedAt().toEpochMilli();
+            revokedBefore.merge(revocation.getSubject(), before, Math::max);
+            userExpiry.schedule(revocation.getSubject(), before, expiresAt);
+            // Usually follows an account change: re-read the user on its next request
+            userDetailsCache.evict(revocation.getSubject());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package employeemanagement.employee_management.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Small TTL cache in front of CustomUserDetailsService.
+ * The JWT filter checks every token against the cached account (enabled flag and stamp), so an
+ * account change is seen after at most one TTL; local changes and user-wide revocations evict
+ * the entry at once.
+ */
+@Component
+public class UserDetailsCache {
+
+    private final CustomUserDetailsService userDetailsService;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    public UserDetailsCache(CustomUserDetailsService userDetailsService,
+                            @Value("${security.user-cache.ttl-ms:60000}") long ttlMillis,
+                            @Value("${security.user-cache.max-entries:10000}") int maxEntries) {
+        this.userDetailsService = userDetailsService;
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Load a user, hitting the database at most once per TTL
+     */
+    public UserPrincipal load(String username) throws UsernameNotFoundException {
+        long now = System.currentTimeMillis();
+        UserPrincipal cached = peek(username, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        UserPrincipal principal = (UserPrincipal) userDetails;
+        store(principal, now);
+        return principal;
+    }
+
+    /**
+     * Cache a user just read from the database (e.g. by the login that issues a token)
+     */
+    public void put(UserPrincipal principal) {
+        store(principal, System.currentTimeMillis());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Drop a user whose account changed, so the next request reads it again
+     */
+    public void evict(String username) {
+        entries.remove(username);
+    }
+
+    private void store(UserPrincipal principal, long now) {
+        if (entries.size() >= maxEntries) {
+            entries.values().removeIf(entry -> entry.expiresAt <= now);
+        }
+        if (entries.size() < maxEntries) {
+            entries.put(principal.getUsername(), new Entry(principal, now + ttlMillis));
+        }
+    }
+
+    private UserPrincipal peek(String username, long now) {
+        Entry entry = entries.get(username);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= now) {
+            entries.remove(username, entry);
+            return null;
+        }
+        return entry.principal;
+    }
+
+    private static final class Entry {
+        private final UserPrincipal principal;
+        private final long expiresAt;
+
+        Entry(UserPrincipal principal, long expiresAt) {
+            this.principal = principal;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package employeemanagement.employee_management.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * Authenticated user carrying a version stamp of the account row.
+ * The stamp changes whenever the user record is updated (roles, password, enabled flag),
+ * so tokens issued before the change can be recognized as stale.
+ */
+public class UserPrincipal extends User {
+
+    private final long stamp;
+
+    public UserPrincipal(String username, String password, boolean enabled,
+                         Collection<? extends GrantedAuthority> authorities, long stamp) {
+        super(username, password, enabled, true, true, true, authorities);
+        this.stamp = stamp;
+    }
+
+    public long getStamp() {
+        return stamp;
+    }
+}
@@ -0,0 +1,94 @@
+package employeemanagement.employee_management.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of already-verified JWT claims, keyed by the SHA-256 of the whole token.
+ * Hashing the full token (not just the signature) means a forged payload can never hit
+ * an entry; entries are dropped once the token expires.
+ */
+class VerifiedTokenCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    VerifiedTokenCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @return cached claims, or null when absent or expired
+     */
+    Claims get(String tokenHash, long nowMillis) {
+        Entry entry = entries.get(tokenHash);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= nowMillis) {
+            entries.remove(tokenHash, entry);
+            return null;
+        }
+        return entry.claims;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    void put(String tokenHash, Claims claims, long nowMillis) {
+        if (maxEntries <= 0) {
+            return;
+        }
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            // Never cache tokens without an expiry
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            evict(nowMillis);
+        }
+        entries.put(tokenHash, new Entry(claims, expiration.getTime()));
+    }
+
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Drop expired entries; if the cache is still full, drop an arbitrary tenth of it
+     */
+    private void evict(long nowMillis) {
+        entries.values().removeIf(entry -> entry.expiresAt <= nowMillis);
+        int excess = entries.size() - maxEntries + Math.max(1, maxEntries / 10);
+        Iterator<String> keys = entries.keySet().iterator();
+        while (excess-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private static final class Entry {
+        private final Claims claims;
+        private final long expiresAt;
+
+        Entry(Claims claims, long expiresAt) {
+            this.claims = claims;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -1,13 +1,21 @@
 package employeemanagement.employee_management.service;
 
+import employeemanagement.employee_management.exception.ValidationException;
+import employeemanagement.employee_management.exception.VersionConflictException;
 import employeemanagement.employee_management.model.Department;
 import employeemanagement.employee_management.model.Employee;
 import employeemanagement.employee_management.repository.DepartmentRepository;
 import employeemanagement.employee_management.repository.EmployeeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 /**
@@ -17,6 +25,28 @@ import java.util.Optional;
 @Transactional
 public class DepartmentService {
 
+    private static final Logger logger = LoggerFactory.getLogger(DepartmentService.class);
+
+    /**
+     * What happens to a department's employees when the department is deleted
+     */
+    public enum DeletionMode {
+        /** Employees stay, with no department */
+        UNASSIGN,
+        /** Employees move to a target department */
+        REASSIGN;
+
+        public static DeletionMode fromString(String value) {
+            for (DeletionMode mode : values()) {
+                if (value != null && mode.name().equals(value.trim().toUpperCase(Locale.ROOT))) {
+                    return mode;
+                }
+            }
+            throw new ValidationException("Validation failed", Collections.singletonList(
+                    "mode: Must be one of 'unassign' or 'reassign'"));
+        }
+    }
+
     private final DepartmentRepository departmentRepository;
     private final EmployeeRepository employeeRepository;
 
@@ -29,6 +59,8 @@ public class DepartmentService {
      * Create a new department
      */
     public Department createDepartment(Department department) {
+        // Version is managed by JPA; never trust a client-supplied value on create
+        department.setVersion(null);
         // Check if department with same name already exists
         if (departmentRepository.existsByName(department.getName())) {
             throw new IllegalArgumentException("Department with name '" + department.getName() + "' already exists");
@@ -61,11 +93,19 @@ public class DepartmentService {
      * Update department
      */
     public Department updateDepartment(Long id, Department updatedDepartment) {
+        return updateDepartment(id, updatedDepartment, null);
+    }
+
+    /**
+     * Update department only if it is still at the expected version (null skips the check)
+     */
+    public Department updateDepartment(Long id, Department updatedDepartment, Long expectedVersion) {
         if (id == null) {
             throw new IllegalArgumentException("Department id cannot be null");
         }
         Department existing = departmentRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("Department not found with id: " + id));
+        checkVersion(existing, expectedVersion);
 
         // Check if new name conflicts with another department
         if (!existing.getName().equals(updatedDepartment.getName())) {
@@ -81,14 +121,41 @@ public class DepartmentService {
     }
 
     /**
-     * Delete department
+     * Delete department, keeping its employees without a department
      */
     public boolean deleteDepartment(Long id) {
-        if (departmentRepository.existsById(id)) {
-            departmentRepository.deleteById(id);
-            return true;
+        return deleteDepartment(id, null, DeletionMode.UNASSIGN, null);
+    }
+
+    /**
+     * Delete department only if it is still at the expected version (null skips the check)
+     * Employees are reassigned or unassigned with one set-based UPDATE, so memory use does
+     * not depend on department size, then the department row itself is deleted
+     */
+    public boolean deleteDepartment(Long id, Long expectedVersion, DeletionMode mode, Long targetDepartmentId) {
+        Optional<Department> existing = departmentRepository.findById(id);
+        if (existing.isEmpty()) {
+            return false;
+        }
+        Department department = existing.get();
+        checkVersion(department, expectedVersion);
+
+        int movedEmployees;
+        if (mode == DeletionMode.REASSIGN) {
+            Department target = resolveTargetDepartment(id, targetDepartmentId);
+            movedEmployees = employeeRepository.reassignDepartment(id, target, LocalDateTime.now());
+        } else {
+            movedEmployees = employeeRepository.clearDepartment(id, LocalDateTime.now());
         }
-        return false;
+
+        // The bulk UPDATE cleared the persistence context, so delete by id and version rather than
+        // merging the detached department back (an extra SELECT)
+        if (departmentRepository.deleteByIdAndVersion(id, department.getVersion()) == 0) {
+            throw new ObjectOptimisticLockingFailureException(Department.class, id);
+        }
+        logger.info("Deleted department id={} ({} employees {})", id, movedEmployees,
+                mode == DeletionMode.REASSIGN ? "moved to department " + targetDepartmentId : "unassigned");
+        return true;
     }
 
     /**
@@ -107,4 +174,24 @@ public class DepartmentService {
 
         return employeeRepository.findByDepartment(department);
     }
+
+    private Department resolveTargetDepartment(Long id, Long targetDepartmentId) {
+        if (targetDepartmentId == null) {
+            throw new ValidationException("Validation failed", Collections.singletonList(
+                    "targetDepartmentId: Required when mode is 'reassign'"));
+        }
+        if (targetDepartmentId.equals(id)) {
+            throw new ValidationException("Validation failed", Collections.singletonList(
+                    "targetDepartmentId: Must differ from the department being deleted"));
+        }
+        return departmentRepository.findById(targetDepartmentId)
+            .orElseThrow(() -> new ValidationException("Validation failed", Collections.singletonList(
+                    "targetDepartmentId: Department not found with id: " + targetDepartmentId)));
+    }
+
+    private void checkVersion(Department department, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(department.getVersion())) {
+            throw new VersionConflictException("Department", department.getId(), department.getVersion());
+        }
+    }
 }
@@ -0,0 +1,226 @@
+package employeemanagement.employee_management.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * EmployeeCodeGenerator - Cluster-safe generator for employee codes
+ * Format: EMP-YYYYMMDD-NNNNNNNN
+ *
+ * Uses a hi/lo scheme: each node reserves a block of sequence values from the database
+ * (one round trip per block) and hands them out from memory with a single CAS per code.
+ * The sequence never resets, so codes are unique across nodes and restarts, and the
+ * fixed-width suffix keeps codes lexicographically increasing for index-friendly inserts.
+ *
+ * Blocks are reserved ahead of need on a refill thread: the first at startup, the next one
+ * as soon as the current block is 90% used. Callers usually run inside a WRITE transaction;
+ * reserving from their thread would take a second connection from the same pool and could
+ * exhaust it, so a caller that outruns the refill waits for it instead.
+ */
+@Component
+public class EmployeeCodeGenerator implements ApplicationRunner {
+
+    static final String SEQUENCE_NAME = "employee_code";
+    private static final String PREFIX = "EMP-";
+    private static final int SEQUENCE_WIDTH = 8;
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final long REFILL_TIMEOUT_SECONDS = 10;
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeCodeGenerator.class);
+
+    private final IdBlockAllocator idBlockAllocator;
+    private final int blockSize;
+    private final Clock clock = Clock.systemDefaultZone();
+    private final ReentrantLock refillLock = new ReentrantLock();
+    private final SimpleAsyncTaskExecutor refillExecutor = new SimpleAsyncTaskExecutor("employee-code-refill-");
+
+    private volatile Block block = Block.EXHAUSTED;
+    // Reservation of the block after the current one; guarded by refillLock
+    private CompletableFuture<Block> nextBlock;
+    private volatile DatePrefix datePrefix = DatePrefix.EXPIRED;
+
+    public EmployeeCodeGenerator(IdBlockAllocator idBlockAllocator,
+                                 @Value("${employee.code.block-size:1000}") int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("employee.code.block-size must be positive: " + blockSize);
+        }
+        this.idBlockAllocator = idBlockAllocator;
+        this.blockSize = blockSize;
+        this.refillExecutor.setDaemon(true);
+    }
+
+    /**
+     * Create the sequence row and reserve the first block before requests arrive
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            idBlockAllocator.ensureSequence(SEQUENCE_NAME);
+        } catch (DataIntegrityViolationException e) {
+            // Another node created the row at the same time
+            logger.debug("Sequence '{}' was initialized concurrently", SEQUENCE_NAME);
+        }
+        prefetch();
+    }
+
+    /**
+     * Generate the next employee code
+     *
+     * @return Code such as EMP-20251114-00001001
+     */
+    public String nextCode() {
+        long sequence = nextSequence();
+        String prefix = currentDatePrefix();
+
+        String digits = Long.toString(sequence);
+        int padding = SEQUENCE_WIDTH - digits.length();
+        if (padding <= 0) {
+            return prefix.concat(digits);
+        }
+
+        char[] buffer = new char[prefix.length() + SEQUENCE_WIDTH];
+        prefix.getChars(0, prefix.length(), buffer, 0);
+        int position = prefix.length();
+        for (int i = 0; i < padding; i++) {
+            buffer[position++] = '0';
+        }
+        digits.getChars(0, digits.length(), buffer, position);
+        return new String(buffer);
+    }
+
+    /**
+     * Next raw sequence value; lock-free unless the current block is exhausted
+     */
+    long nextSequence() {
+        while (true) {
+            Block current = block;
+            long value = current.next();
+            if (value >= 0) {
+                // Exactly one caller takes the low-water value
+                if (value == current.lowWaterMark) {
+                    prefetch();
+                }
+                return value;
+            }
+
+            refillLock.lock();
+            try {
+                // Another thread may have refilled while we were waiting
+                if (block == current) {
+                    block = awaitNextBlock();
+                }
+            } finally {
+                refillLock.unlock();
+            }
+        }
+    }
+
+    private void prefetch() {
+        refillLock.lock();
+        try {
+            if (nextBlock == null) {
+                nextBlock = CompletableFuture.supplyAsync(this::reserveBlock, refillExecutor);
+            }
+        } finally {
+            refillLock.unlock();
+        }
+    }
+
+    /**
+     * Take the prefetched block, starting the reservation if none is running; called under refillLock
+     */
+    private Block awaitNextBlock() {
+        if (nextBlock == null) {
+            nextBlock = CompletableFuture.supplyAsync(this::reserveBlock, refillExecutor);
+        }
+        CompletableFuture<Block> pending = nextBlock;
+        // A failed reservation is retried by the next caller
+        nextBlock = null;
+        try {
+            return pending.get(REFILL_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Could not reserve an employee code block", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Timed out reserving an employee code block", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reserving an employee code block", e);
+        }
+    }
+
+    private Block reserveBlock() {
+        long start = idBlockAllocator.allocateBlock(SEQUENCE_NAME, blockSize);
+        logger.info("Reserved employee code block [{}, {})", start, start + blockSize);
+        return new Block(start, start + blockSize);
+    }
+
+    private String currentDatePrefix() {
+        long now = clock.millis();
+        DatePrefix current = datePrefix;
+        if (now < current.validUntilMillis) {
+            return current.prefix;
+        }
+
+        LocalDate today = LocalDate.now(clock);
+        long nextMidnight = today.plusDays(1).atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+        DatePrefix refreshed = new DatePrefix(PREFIX + today.format(DATE_FORMAT) + "-", nextMidnight);
+        datePrefix = refreshed;
+        return refreshed.prefix;
+    }
+
+    /**
+     * Reserved range [next, end) handed out with getAndIncrement
+     */
+    private static final class Block {
+        static final Block EXHAUSTED = new Block(0, 0);
+
+        private final AtomicLong next;
+        private final long end;
+        // Handing out this value triggers the reservation of the next block
+        private final long lowWaterMark;
+
+        Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+            this.lowWaterMark = end - Math.max(1, (end - start) / 10);
+        }
+
+        long next() {
+            long value = next.getAndIncrement();
+            return value < end ? value : -1;
+        }
+    }
+
+    /**
+     * Cached "EMP-YYYYMMDD-" prefix, valid until the next local midnight
+     */
+    private static final class DatePrefix {
+        static final DatePrefix EXPIRED = new DatePrefix("", Long.MIN_VALUE);
+
+        private final String prefix;
+        private final long validUntilMillis;
+
+        DatePrefix(String prefix, long validUntilMillis) {
+            this.prefix = prefix;
+            this.validUntilMillis = validUntilMillis;
+        }
+    }
+}
@@ -2,18 +2,25 @@ package employeemanagement.employee_management.service;
 
 import employeemanagement.employee_management.exception.ResourceNotFoundException;
 import employeemanagement.employee_management.exception.ValidationException;
+import employeemanagement.employee_management.exception.VersionConflictException;
 import employeemanagement.employee_management.model.Employee;
 import employeemanagement.employee_management.model.Department;
 import employeemanagement.employee_management.repository.EmployeeRepository;
 import employeemanagement.employee_management.repository.DepartmentRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * EmployeeService - Business logic layer for Employee management
@@ -27,7 +34,10 @@ public class EmployeeService {
     private final DepartmentRepository departmentRepository;
     private final UtilityService utilityService;
     private final PasswordEncoder passwordEncoder;
+    private final EmployeeUniquenessFilter uniquenessFilter;
+    private final Validator validator;
     private static final Logger logger = LoggerFactory.getLogger(EmployeeService.class);
+    private static final Set<String> PATCHABLE_FIELDS = Set.of("name", "email", "phone", "position", "department");
 
     /**
      * Constructor Injection - Recommended approach for DI
@@ -38,12 +48,16 @@ public class EmployeeService {
             EmployeeRepository employeeRepository,
             DepartmentRepository departmentRepository,
             UtilityService utilityService,
-            PasswordEncoder passwordEncoder
+            PasswordEncoder passwordEncoder,
+            EmployeeUniquenessFilter uniquenessFilter,
+            Validator validator
     ) {
         this.employeeRepository = employeeRepository;
         this.departmentRepository = departmentRepository;
         this.utilityService = utilityService;
         this.passwordEncoder = passwordEncoder;
+        this.uniquenessFilter = uniquenessFilter;
+        this.validator = validator;
     }
 
     /**
@@ -54,12 +68,15 @@ public class EmployeeService {
      */
     @SuppressWarnings("null")
     public Employee createEmployee(Employee employee) {
+        // Version is managed by JPA; never trust a client-supplied value on create
+        employee.setVersion(null);
         employee.setDepartment(resolveDepartment(employee.getDepartment()));
 
         // If client provided an ID, validate uniqueness; otherwise generate one
+        // The Bloom filter skips the database check for IDs/emails that are definitely new
         String providedId = employee.getId();
         if (providedId != null && !providedId.trim().isEmpty()) {
-            if (employeeRepository.existsById(providedId)) {
+            if (uniquenessFilter.mightContainId(providedId) && employeeRepository.existsById(providedId)) {
                 throw new ValidationException("Validation failed", java.util.Collections.singletonList("id: Employee id '" + providedId + "' already exists"));
             }
         } else {
@@ -82,7 +99,9 @@ public class EmployeeService {
         if (employee.getEmail() != null && !utilityService.isValidEmail(employee.getEmail())) {
             throw new IllegalArgumentException("Invalid email format: " + employee.getEmail());
         }
-        if (employee.getEmail() != null && employeeRepository.existsByEmail(employee.getEmail())) {
+        if (employee.getEmail() != null
+                && uniquenessFilter.mightContainEmail(employee.getEmail())
+                && employeeRepository.existsByEmail(employee.getEmail())) {
             throw new ValidationException("Validation failed", java.util.Collections.singletonList("email: Employee email '" + employee.getEmail() + "' already exists"));
         }
 
@@ -90,6 +109,7 @@ public class EmployeeService {
             employeeRepository.save(employee),
             "Saved employee must not be null"
         );
+        uniquenessFilter.recordAfterCommit(savedEmployee.getId(), savedEmployee.getEmail());
         logger.info("Created employee with id={} and email={}", savedEmployee.getId(), savedEmployee.getEmail());
         return savedEmployee;
     }
@@ -170,11 +190,19 @@ public class EmployeeService {
     /**
      * Update employee
      */
-    @SuppressWarnings("null")
     public Employee updateEmployee(String id, Employee updatedEmployee) {
+        return updateEmployee(id, updatedEmployee, null);
+    }
+
+    /**
+     * Update employee only if it is still at the expected version (null skips the check)
+     */
+    @SuppressWarnings("null")
+    public Employee updateEmployee(String id, Employee updatedEmployee, Long expectedVersion) {
         Objects.requireNonNull(id, "Employee id must not be null");
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", id));
+        checkVersion(employee, expectedVersion);
 
         if (updatedEmployee.getName() != null) {
             employee.setName(utilityService.formatEmployeeName(updatedEmployee.getName()));
@@ -203,16 +231,109 @@ public class EmployeeService {
             employeeRepository.save(employee),
             "Saved employee must not be null"
         );
+        if (updatedEmployee.getEmail() != null) {
+            uniquenessFilter.recordAfterCommit(null, saved.getEmail());
+        }
         logger.info("Updated employee with id={}", saved.getId());
         return saved;
     }
 
+    /**
+     * Apply a JSON Merge Patch (RFC 7396) to an employee
+     * Only fields present in the patch are touched and a null value clears the field;
+     * Employee is @DynamicUpdate, so the UPDATE contains only the columns that changed
+     */
+    @SuppressWarnings("null")
+    public Employee patchEmployee(String id, Map<String, Object> patch, Long expectedVersion) {
+        Objects.requireNonNull(id, "Employee id must not be null");
+        Employee employee = employeeRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", id));
+        checkVersion(employee, expectedVersion);
+
+        List<String> errors = new ArrayList<>();
+        for (Map.Entry<String, Object> field : patch.entrySet()) {
+            String name = field.getKey();
+            Object value = field.getValue();
+            boolean supported = PATCHABLE_FIELDS.contains(name);
+            if (!supported) {
+                errors.add(name + ": Field cannot be patched");
+            } else if ("department".equals(name)) {
+                if (value != null && !(value instanceof Map<?, ?> department && department.get("id") instanceof Number)) {
+                    errors.add("department: Must be null or an object with a numeric id");
+                }
+            } else if (value != null && !(value instanceof String)) {
+                errors.add(name + ": Must be a string or null");
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException("Validation failed", errors);
+        }
+
+        // Run queries before touching the managed entity so auto-flush never writes a half-applied patch
+        String email = (String) patch.get("email");
+        if (email != null && !email.equals(employee.getEmail())) {
+            if (!utilityService.isValidEmail(email)) {
+                throw new IllegalArgumentException("Invalid email format: " + email);
+            }
+            if (uniquenessFilter.mightContainEmail(email) && employeeRepository.existsByEmail(email)) {
+                throw new ValidationException("Validation failed", java.util.Collections.singletonList("email: Employee email '" + email + "' already exists"));
+            }
+        }
+        Department department = null;
+        if (patch.get("department") instanceof Map<?, ?> departmentPatch) {
+            Long departmentId = ((Number) departmentPatch.get("id")).longValue();
+            department = departmentRepository.findById(departmentId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Department", "id", departmentId));
+        }
+
+        if (patch.containsKey("name")) {
+            String name = (String) patch.get("name");
+            employee.setName(name == null ? null : utilityService.formatEmployeeName(name));
+        }
+        if (patch.containsKey("email")) {
+            employee.setEmail(email);
+        }
+        if (patch.containsKey("phone")) {
+            String phone = (String) patch.get("phone");
+            employee.setPhone(phone == null ? null : utilityService.formatPhoneNumber(phone));
+        }
+        if (patch.containsKey("position")) {
+            employee.setPosition((String) patch.get("position"));
+        }
+        if (patch.containsKey("department")) {
+            employee.setDepartment(department);
+        }
+
+        Set<ConstraintViolation<Employee>> violations = validator.validate(employee);
+        if (!violations.isEmpty()) {
+            List<String> messages = new ArrayList<>();
+            for (ConstraintViolation<Employee> violation : violations) {
+                messages.add(violation.getPropertyPath() + ": " + violation.getMessage());
+            }
+            throw new ValidationException("Validation failed", messages);
+        }
+
+        if (patch.containsKey("email") && email != null) {
+            uniquenessFilter.recordAfterCommit(null, email);
+        }
+        logger.info("Patched employee with id={} fields={}", id, patch.keySet());
+        return employee;
+    }
+
     /**
      * Delete employee
      */
     public void deleteEmployee(String id) {
+        deleteEmployee(id, null);
+    }
+
+    /**
+     * Delete employee only if it is still at the expected version (null skips the check)
+     */
+    public void deleteEmployee(String id, Long expectedVersion) {
         Objects.requireNonNull(id, "Employee id must not be null");
         Employee employee = Objects.requireNonNull(getEmployeeOrThrow(id));
+        checkVersion(employee, expectedVersion);
         employeeRepository.delete(employee);
         logger.info("Deleted employee with id={}", id);
     }
@@ -246,6 +367,23 @@ public class EmployeeService {
         return employeeRepository.count();
     }
 
+    /**
+     * Get employee count per department name in a single query
+     */
+    public Map<String, Long> getEmployeeCountByDepartment() {
+        Map<String, Long> counts = new HashMap<>();
+        for (Object[] row : employeeRepository.countByDepartment()) {
+            counts.put((String) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    private void checkVersion(Employee employee, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(employee.getVersion())) {
+            throw new VersionConflictException("Employee", employee.getId(), employee.getVersion());
+        }
+    }
+
     private Department resolveDepartment(Department department) {
         if (department == null || department.getId() == null) {
             return null;
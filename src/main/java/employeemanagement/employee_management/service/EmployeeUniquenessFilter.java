@@ -0,0 +1,205 @@
+package employeemanagement.employee_management.service;
+
+import employeemanagement.employee_management.repository.EmployeeRepository;
+import employeemanagement.employee_management.workload.Workload;
+import employeemanagement.employee_management.workload.WorkloadClass;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * EmployeeUniquenessFilter - In-memory Bloom filter of existing employee IDs and emails
+ *
+ * Lets the write path skip the existsById/existsByEmail round trips when a value is
+ * definitely new. A "maybe present" answer falls back to the database check, and the
+ * unique constraints remain the final guard (e.g. rows inserted by another node).
+ *
+ * Sizing at the defaults (1M employees = 2M keys, 1% target rate): ~19.2M bits,
+ * 7 hash functions, ~2.3 MB of heap.
+ */
+@Component
+public class EmployeeUniquenessFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeUniquenessFilter.class);
+    private static final String ID_PREFIX = "id:";
+    private static final String EMAIL_PREFIX = "email:";
+
+    private final EmployeeRepository employeeRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final long minExpectedEmployees;
+    private final double falsePositiveRate;
+
+    private final AtomicLong insertions = new AtomicLong();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile BloomFilter filter;
+    private volatile BloomFilter rebuilding;
+    private volatile long capacity;
+
+    public EmployeeUniquenessFilter(EmployeeRepository employeeRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${employee.uniqueness-filter.enabled:true}") boolean enabled,
+                                    @Value("${employee.uniqueness-filter.expected-employees:1000000}") long minExpectedEmployees,
+                                    @Value("${employee.uniqueness-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.employeeRepository = employeeRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.minExpectedEmployees = minExpectedEmployees;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * Load the filter once the application (including sample data) is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Workload(WorkloadClass.REPORTING)
+    public void loadOnStartup() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Periodically rebuild when the filter is over capacity, which also drops stale
+     * bits left behind by deleted employees or changed emails
+     */
+    @Scheduled(fixedDelayString = "${employee.uniqueness-filter.check-interval-ms:300000}", initialDelayString = "${employee.uniqueness-filter.check-interval-ms:300000}")
+    @Workload(WorkloadClass.REPORTING)
+    public void rebuildIfSaturated() {
+        if (enabled && filter != null && insertions.get() > capacity) {
+            logger.info("Uniqueness filter holds {} employees (capacity {}), rebuilding", insertions.get(), capacity);
+            rebuild();
+        }
+    }
+
+    /**
+     * Rebuild the filter from the database; writes committed meanwhile go into both filters
+     * Guarded by a ReentrantLock rather than synchronized: the rebuild blocks on JDBC, which
+     * would pin the carrier thread when running on virtual threads
+     */
+    @Workload(WorkloadClass.REPORTING)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            doRebuild();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void doRebuild() {
+        long employees = employeeRepository.count();
+        long newCapacity = Math.max(minExpectedEmployees, employees * 2);
+        BloomFilter next = BloomFilter.create(newCapacity * 2, falsePositiveRate);
+        rebuilding = next;
+
+        Long loaded = readOnlyTransaction.execute(status -> {
+            AtomicLong count = new AtomicLong();
+            try (Stream<String> ids = employeeRepository.streamAllIds()) {
+                ids.forEach(id -> {
+                    next.put(ID_PREFIX + normalize(id));
+                    count.incrementAndGet();
+                });
+            }
+            try (Stream<String> emails = employeeRepository.streamAllEmails()) {
+                emails.forEach(email -> next.put(EMAIL_PREFIX + normalize(email)));
+            }
+            return count.get();
+        });
+
+        // Order matters, see put()
+        filter = next;
+        rebuilding = null;
+        capacity = newCapacity;
+        insertions.set(loaded == null ? 0 : loaded);
+        logger.info("Uniqueness filter loaded: {} employees, {} bits, {} hashes, {} KB",
+                loaded, next.bitSize(), next.hashCount(), next.memoryBytes() / 1024);
+    }
+
+    /**
+     * @return false only if no employee can have this ID
+     */
+    public boolean mightContainId(String id) {
+        return mightContain(ID_PREFIX + normalize(id));
+    }
+
+    /**
+     * @return false only if no employee can have this email
+     */
+    public boolean mightContainEmail(String email) {
+        return mightContain(EMAIL_PREFIX + normalize(email));
+    }
+
+    /**
+     * Record an employee's ID and email once the surrounding transaction commits
+     */
+    public void recordAfterCommit(String id, String email) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(id, email);
+                }
+            });
+        } else {
+            record(id, email);
+        }
+    }
+
+    private void record(String id, String email) {
+        if (id != null) {
+            put(ID_PREFIX + normalize(id));
+            insertions.incrementAndGet();
+        }
+        if (email != null) {
+            put(EMAIL_PREFIX + normalize(email));
+        }
+    }
+
+    /**
+     * Reads 'rebuilding' before 'filter', the reverse of the order doRebuild swaps them in
+     * (filter = next, then rebuilding = null). A put that sees rebuilding == null therefore
+     * either ran before the rebuild started, and its row is in the rebuild's database scan,
+     * or after the swap, and 'filter' is already the new filter. Either way no put is lost.
+     */
+    private void put(String key) {
+        BloomFilter next = rebuilding;
+        BloomFilter current = filter;
+        if (next != null) {
+            next.put(key);
+        }
+        if (current != null && current != next) {
+            current.put(key);
+        }
+    }
+
+    private boolean mightContain(String key) {
+        BloomFilter current = filter;
+        // Not loaded yet (or disabled): always defer to the database
+        return current == null || current.mightContain(key);
+    }
+
+    /**
+     * MySQL's default collation compares case-insensitively, so fold case to avoid false negatives
+     */
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,68 @@
+package employeemanagement.employee_management.service;
+
+import employeemanagement.employee_management.model.IdSequence;
+import employeemanagement.employee_management.repository.IdSequenceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * IdBlockAllocator - Reserves contiguous ID blocks from the 'id_sequences' table
+ * Called by EmployeeCodeGenerator from its refill thread, never inside a request transaction,
+ * so each reservation is one short transaction on its own connection and the row lock is
+ * released immediately. Sequence rows are created up front (see {@link #ensureSequence});
+ * a missing row is an error rather than something to create under the row lock.
+ */
+@Service
+public class IdBlockAllocator {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdBlockAllocator.class);
+    private static final long INITIAL_VALUE = 1;
+
+    private final IdSequenceRepository idSequenceRepository;
+
+    public IdBlockAllocator(IdSequenceRepository idSequenceRepository) {
+        this.idSequenceRepository = idSequenceRepository;
+    }
+
+    /**
+     * Create the sequence row if it does not exist yet; run once at startup
+     * Two nodes starting together may both insert: the loser fails with a
+     * DataIntegrityViolationException and the row exists either way
+     *
+     * @param sequenceName Sequence row name
+     */
+    @Transactional
+    public void ensureSequence(String sequenceName) {
+        if (!idSequenceRepository.existsById(sequenceName)) {
+            idSequenceRepository.save(new IdSequence(sequenceName, INITIAL_VALUE));
+            logger.info("Initialized sequence '{}' at {}", sequenceName, INITIAL_VALUE);
+        }
+    }
+
+    /**
+     * Reserve the next block of the named sequence
+     *
+     * @param sequenceName Sequence row name
+     * @param blockSize    Number of IDs to reserve
+     * @return First value of the reserved block [start, start + blockSize)
+     * @throws IllegalStateException if the sequence row was never initialized
+     */
+    @Transactional
+    public long allocateBlock(String sequenceName, int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+        }
+
+        IdSequence sequence = idSequenceRepository.findByNameForUpdate(sequenceName)
+                .orElseThrow(() -> new IllegalStateException("Sequence '" + sequenceName + "' is not initialized"));
+
+        long start = sequence.getNextValue();
+        sequence.setNextValue(start + blockSize);
+        idSequenceRepository.save(sequence);
+
+        logger.debug("Allocated block [{}, {}) for sequence '{}'", start, start + blockSize, sequenceName);
+        return start;
+    }
+}
@@ -0,0 +1,254 @@
+package employeemanagement.employee_management.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import employeemanagement.employee_management.exception.IdempotencyKeyInUseException;
+import employeemanagement.employee_management.exception.IdempotencyKeyReusedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * IdempotencyService - Replays the original response for retried write requests
+ *
+ * Keys are scoped by principal and operation. The first request with a key executes;
+ * concurrent duplicates wait for its result and later retries get the stored response
+ * until the TTL expires. Failed executions are not stored so the client can retry.
+ * Each entry remembers a fingerprint of the request body; reusing a key with a different
+ * body is rejected (422) instead of replaying an unrelated response.
+ * The store is bounded: completed entries are evicted oldest-first (completion order is
+ * close enough to expiry order). In-flight entries are never evicted, otherwise a concurrent
+ * duplicate could execute the operation a second time.
+ * Inside an enclosing transaction (an atomic batch) the response is only stored once that
+ * transaction commits; on rollback the key is released so a retry executes again.
+ */
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyService.class);
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedEntries = new AtomicInteger();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final long waitTimeoutMillis;
+    // Sorted keys so the same body always produces the same fingerprint
+    private final ObjectMapper fingerprintMapper;
+
+    public IdempotencyService(ObjectMapper objectMapper,
+                              @Value("${idempotency.ttl-ms:86400000}") long ttlMillis,
+                              @Value("${idempotency.max-entries:10000}") int maxEntries,
+                              @Value("${idempotency.wait-timeout-ms:30000}") long waitTimeoutMillis) {
+        this.fingerprintMapper = objectMapper.copy()
+                .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+                .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+    }
+
+    /**
+     * Execute the action once per (principal, operation, key); without a key it simply runs
+     *
+     * @param idempotencyKey Client-supplied Idempotency-Key header (may be null)
+     * @param operation      Operation identifier, e.g. "POST /api/employees"
+     * @param request        Request body the key is bound to (null for requests without a body)
+     * @param action         Request handling to run on first execution
+     * @return Original or replayed response
+     * @throws IdempotencyKeyReusedException if the key was already used with a different body
+     */
+    public <T> ResponseEntity<T> execute(String idempotencyKey, String operation, Object request,
+                                         Supplier<ResponseEntity<T>> action) {
+        if (!StringUtils.hasText(idempotencyKey)) {
+            return action.get();
+        }
+        return execute(idempotencyKey, currentPrincipal() + "|" + operation + "|" + idempotencyKey,
+                fingerprint(request), action);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ResponseEntity<T> execute(String idempotencyKey, String scopedKey, String fingerprint,
+                                          Supplier<ResponseEntity<T>> action) {
+        long now = System.currentTimeMillis();
+        boolean deferred = TransactionSynchronizationManager.isSynchronizationActive();
+        Entry created = new Entry(scopedKey, fingerprint, now + ttlMillis, deferred ? Thread.currentThread() : null);
+        Entry existing = entries.putIfAbsent(scopedKey, created);
+
+        // A running execution is honoured even past its TTL
+        if (existing != null && (existing.expiresAt > now || !existing.result.isDone())) {
+            if (!existing.fingerprint.equals(fingerprint)) {
+                throw new IdempotencyKeyReusedException(idempotencyKey);
+            }
+            logger.debug("Replaying response for Idempotency-Key {}", idempotencyKey);
+            if (existing.owner == Thread.currentThread() && existing.uncommitted != null) {
+                // Same key twice in one transaction: waiting for its commit would deadlock
+                return (ResponseEntity<T>) replay(existing.uncommitted);
+            }
+            return (ResponseEntity<T>) replay(await(existing, idempotencyKey));
+        }
+        if (existing != null) {
+            // Expired but not evicted yet; take over the slot
+            if (!entries.replace(scopedKey, existing, created)) {
+                return execute(idempotencyKey, scopedKey, fingerprint, action);
+            }
+        }
+
+        ResponseEntity<T> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException | Error e) {
+            // Never queued, so nothing to uncount
+            entries.remove(scopedKey, created);
+            created.result.completeExceptionally(e);
+            throw e;
+        }
+        if (deferred) {
+            created.uncommitted = response;
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    created.uncommitted = null;
+                    if (status == STATUS_COMMITTED) {
+                        store(created, response);
+                    } else {
+                        entries.remove(scopedKey, created);
+                        // Waiting duplicates get 409 and retry against the released key
+                        created.result.completeExceptionally(new IdempotencyKeyInUseException(idempotencyKey));
+                    }
+                }
+            });
+        } else {
+            store(created, response);
+        }
+        return response;
+    }
+
+    private void store(Entry entry, ResponseEntity<?> response) {
+        entry.result.complete(response);
+        // Only completed entries become evictable
+        insertionOrder.add(entry);
+        queuedEntries.incrementAndGet();
+        evictIfNeeded(System.currentTimeMillis());
+    }
+
+    /**
+     * Drop expired entries periodically so idle keys do not linger until the size cap is hit
+     */
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-interval-ms:60000}", initialDelayString = "${idempotency.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        evictIfNeeded(System.currentTimeMillis());
+    }
+
+    /**
+     * @return number of keys currently remembered
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictIfNeeded(long now) {
+        // One evictor at a time; others skip rather than contend
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            Entry head;
+            while ((head = insertionOrder.peek()) != null
+                    && (head.expiresAt <= now || queuedEntries.get() > maxEntries)) {
+                insertionOrder.poll();
+                queuedEntries.decrementAndGet();
+                entries.remove(head.key, head);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] body = fingerprintMapper.writeValueAsBytes(request);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Cannot fingerprint request body", e);
+        }
+    }
+
+    private ResponseEntity<?> await(Entry entry, String idempotencyKey) {
+        try {
+            return entry.result.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyKeyInUseException(idempotencyKey);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInUseException(idempotencyKey);
+        } catch (ExecutionException e) {
+            // Surface the first execution's failure (e.g. validation error) to the waiter as well
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private ResponseEntity<?> replay(ResponseEntity<?> original) {
+        return ResponseEntity.status(original.getStatusCode())
+                .headers(original.getHeaders())
+                .header(REPLAYED_HEADER, "true")
+                .body(original.getBody());
+    }
+
+    private String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? "anonymous" : authentication.getName();
+    }
+
+    private static final class Entry {
+        private final String key;
+        private final String fingerprint;
+        private final long expiresAt;
+        // Thread running the enclosing transaction, and the response it has not committed yet
+        private final Thread owner;
+        private ResponseEntity<?> uncommitted;
+        private final CompletableFuture<ResponseEntity<?>> result = new CompletableFuture<>();
+
+        Entry(String key, String fingerprint, long expiresAt, Thread owner) {
+            this.key = key;
+            this.fingerprint = fingerprint;
+            this.expiresAt = expiresAt;
+            this.owner = owner;
+        }
+    }
+}
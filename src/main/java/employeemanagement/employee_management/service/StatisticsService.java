@@ -1,5 +1,7 @@
 package employeemanagement.employee_management.service;
 
+import employeemanagement.employee_management.workload.Workload;
+import employeemanagement.employee_management.workload.WorkloadClass;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.Cacheable;
@@ -16,11 +18,9 @@ public class StatisticsService {
 
     private static final Logger logger = LoggerFactory.getLogger(StatisticsService.class);
     private final EmployeeService employeeService;
-    private final DepartmentService departmentService;
 
-    public StatisticsService(EmployeeService employeeService, DepartmentService departmentService) {
+    public StatisticsService(EmployeeService employeeService) {
         this.employeeService = employeeService;
-        this.departmentService = departmentService;
     }
 
     /**
@@ -28,19 +28,16 @@ public class StatisticsService {
      * Cache will automatically expire after 1 minute
      */
     @Cacheable(value = "employeeStatistics", key = "'all'")
+    @Workload(WorkloadClass.REPORTING)
     public Map<String, Object> getEmployeeStatistics() {
         logger.info("Computing employee statistics (cache miss or expired)");
 
         Map<String, Object> stats = new HashMap<>();
         stats.put("totalEmployees", employeeService.getEmployeeCount());
-        stats.put("totalDepartments", departmentService.getDepartmentCount());
-
-        // Get employee count by department
-        Map<String, Long> byDepartment = new HashMap<>();
-        departmentService.getAllDepartments().forEach(dept -> {
-            long count = employeeService.getEmployeesByDepartment(dept.getId()).size();
-            byDepartment.put(dept.getName(), count);
-        });
+
+        // Get employee count by department (one GROUP BY instead of loading each department's employees)
+        Map<String, Long> byDepartment = employeeService.getEmployeeCountByDepartment();
+        stats.put("totalDepartments", (long) byDepartment.size());
         stats.put("employeesByDepartment", byDepartment);
         stats.put("timestamp", System.currentTimeMillis());
 
@@ -2,6 +2,7 @@ package employeemanagement.employee_management.service;
 
 import employeemanagement.employee_management.model.User;
 import employeemanagement.employee_management.repository.UserRepository;
+import employeemanagement.employee_management.security.UserDetailsCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -21,10 +22,12 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserDetailsCache userDetailsCache;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, UserDetailsCache userDetailsCache) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userDetailsCache = userDetailsCache;
     }
 
     /**
@@ -47,6 +50,7 @@ public class UserService {
         }
 
         User savedUser = userRepository.save(user);
+        userDetailsCache.evict(username);
         logger.info("User registered successfully: {}", username);
         return savedUser;
     }
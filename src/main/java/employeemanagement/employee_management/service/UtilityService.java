@@ -2,9 +2,8 @@ package employeemanagement.employee_management.service;
 
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Locale;
+import java.util.regex.Pattern;
 
 /**
  * UtilityService - Service bean for utility functions
@@ -13,39 +12,97 @@ import java.util.concurrent.atomic.AtomicInteger;
 @Service
 public class UtilityService {
 
-    private final AtomicInteger employeeCounter = new AtomicInteger(1000);
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int[] PHONE_DIGIT_POSITIONS = {1, 2, 3, 6, 7, 8, 10, 11, 12, 13};
+
+    private final EmployeeCodeGenerator employeeCodeGenerator;
+
+    public UtilityService(EmployeeCodeGenerator employeeCodeGenerator) {
+        this.employeeCodeGenerator = employeeCodeGenerator;
+    }
 
     /**
      * Generate automatic employee code
-     * Format: EMP-YYYYMMDD-XXXX
+     * Format: EMP-YYYYMMDD-NNNNNNNN (unique across nodes and restarts)
      *
      * @return Generated employee code
      */
     public String generateEmployeeCode() {
-        String datePart = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        int sequence = employeeCounter.incrementAndGet();
-        return String.format("EMP-%s-%04d", datePart, sequence);
+        return employeeCodeGenerator.nextCode();
     }
 
     /**
      * Format employee name to proper case
-     * Example: "john doe" -> "John Doe"
+     * Example: "john doe" -> "John Doe", "  NGUYỄN   văn an " -> "Nguyễn Văn An"
+     * Single pass over the code points: lower-cases every letter (Unicode, so Vietnamese
+     * letters and combining marks are handled) and upper-cases the first one of each word.
      *
      * @param name Employee name
      * @return Formatted name
      */
     public String formatEmployeeName(String name) {
-        if (name == null || name.trim().isEmpty()) {
+        if (name == null) {
             return "";
         }
+        int start = 0;
+        int end = name.length();
+        while (start < end && name.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && name.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return "";
+        }
+        if (hasLocaleSensitiveLowerCase(Locale.getDefault())) {
+            return formatEmployeeNameByWords(name);
+        }
 
-        String[] words = name.trim().toLowerCase().split("\\s+");
+        StringBuilder formatted = new StringBuilder(end - start);
+        boolean wordStart = true;
+        for (int i = start; i < end; ) {
+            int codePoint = name.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (isWordSeparator(codePoint)) {
+                wordStart = true;
+                continue;
+            }
+            if (codePoint == '\u0130' || codePoint == '\u03A3') {
+                // Dotted capital I and capital sigma lower-case differently inside a String
+                return formatEmployeeNameByWords(name);
+            }
+            int lower = Character.toLowerCase(codePoint);
+            if (wordStart) {
+                if (!formatted.isEmpty()) {
+                    formatted.append(' ');
+                }
+                // Upper-case by UTF-16 unit, like Character.toUpperCase(char): letters outside the BMP keep their case
+                if (Character.isBmpCodePoint(lower)) {
+                    formatted.append(Character.toUpperCase((char) lower));
+                } else {
+                    formatted.appendCodePoint(lower);
+                }
+                wordStart = false;
+            } else {
+                formatted.appendCodePoint(lower);
+            }
+        }
+        return formatted.toString();
+    }
+
+    /**
+     * Word-by-word formatting with String.toLowerCase, for the letters whose lower case
+     * depends on the locale or on the surrounding text
+     */
+    private String formatEmployeeNameByWords(String name) {
+        String[] words = WHITESPACE.split(name.trim().toLowerCase());
         StringBuilder formatted = new StringBuilder();
 
         for (String word : words) {
             if (!word.isEmpty()) {
                 formatted.append(Character.toUpperCase(word.charAt(0)))
-                         .append(word.substring(1))
+                         .append(word, 1, word.length())
                          .append(" ");
             }
         }
@@ -53,9 +110,22 @@ public class UtilityService {
         return formatted.toString().trim();
     }
 
+    private static boolean hasLocaleSensitiveLowerCase(Locale locale) {
+        String language = locale.getLanguage();
+        return "tr".equals(language) || "az".equals(language) || "lt".equals(language);
+    }
+
+    /**
+     * Characters matched by the regex class \s
+     */
+    private static boolean isWordSeparator(int c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
     /**
      * Format phone number to standard format
      * Example: "0987654321" -> "(098) 765-4321"
+     * Non-digit characters are ignored; anything without exactly 10 digits is returned unchanged.
      *
      * @param phone Phone number
      * @return Formatted phone number
@@ -65,20 +135,24 @@ public class UtilityService {
             return "";
         }
 
-        String cleaned = phone.replaceAll("[^0-9]", "");
-
-        if (cleaned.length() == 10) {
-            return String.format("(%s) %s-%s",
-                cleaned.substring(0, 3),
-                cleaned.substring(3, 6),
-                cleaned.substring(6));
+        char[] formatted = {'(', 0, 0, 0, ')', ' ', 0, 0, 0, '-', 0, 0, 0, 0};
+        int digits = 0;
+        for (int i = 0; i < phone.length(); i++) {
+            char c = phone.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (digits == 10) {
+                    return phone; // Return original if format is unexpected
+                }
+                formatted[PHONE_DIGIT_POSITIONS[digits++]] = c;
+            }
         }
 
-        return phone; // Return original if format is unexpected
+        return digits == 10 ? new String(formatted) : phone;
     }
 
     /**
      * Validate email format
+     * Same rules as ^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\.[A-Za-z]{2,}$ checked in one scan
      *
      * @param email Email address
      * @return true if valid, false otherwise
@@ -88,8 +162,39 @@ public class UtilityService {
             return false;
         }
 
-        String emailRegex = "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$";
-        return email.matches(emailRegex);
+        int length = email.length();
+        int at = 0;
+        while (at < length && isLocalPartChar(email.charAt(at))) {
+            at++;
+        }
+        if (at == 0 || at == length || email.charAt(at) != '@') {
+            return false;
+        }
+
+        // Domain: [A-Za-z0-9.-]+ then '.' then a top-level domain of at least 2 letters
+        int topLevelStart = length;
+        for (int i = at + 1; i < length; i++) {
+            char c = email.charAt(i);
+            if (isAsciiLetter(c)) {
+                if (topLevelStart == length) {
+                    topLevelStart = i;
+                }
+            } else if ((c >= '0' && c <= '9') || c == '.' || c == '-') {
+                topLevelStart = length;
+            } else {
+                return false;
+            }
+        }
+        int dot = topLevelStart - 1;
+        return length - topLevelStart >= 2 && dot > at + 1 && email.charAt(dot) == '.';
+    }
+
+    private static boolean isLocalPartChar(char c) {
+        return isAsciiLetter(c) || (c >= '0' && c <= '9') || c == '+' || c == '_' || c == '.' || c == '-';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
     }
 
     /**
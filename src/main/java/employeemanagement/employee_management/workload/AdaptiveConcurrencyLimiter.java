@@ -0,0 +1,296 @@
+package employeemanagement.employee_management.workload;
+
+import employeemanagement.employee_management.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Per-route-group concurrency limits that adapt to observed latency (see {@link GradientLimit}).
+ * A request beyond the limit may queue for up to concurrency-limit.queue-timeout-ms, with at most
+ * max-queue waiters per group, without holding a thread: a released slot is handed to the oldest
+ * waiter, and a waiter still queued when its timeout fires is rejected. Admission and release are
+ * a CAS each; latency samples update the limit only when no other update is in progress, so
+ * completions never wait on each other.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter implements DisposableBean {
+
+    private final boolean enabled;
+    private final long queueTimeoutMs;
+    private final List<RouteLimit> groups = new ArrayList<>();
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final ThreadPoolTaskScheduler timeouts;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.queueTimeoutMs = properties.getQueueTimeoutMs();
+        for (ConcurrencyLimitProperties.Group group : properties.getGroups()) {
+            groups.add(new RouteLimit(group, properties.getRttTolerance(), meterRegistry));
+        }
+        boolean queueing = enabled && queueTimeoutMs > 0
+                && groups.stream().anyMatch(group -> group.maxQueue > 0);
+        this.timeouts = queueing ? timeoutScheduler() : null;
+    }
+
+    private static ThreadPoolTaskScheduler timeoutScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("concurrency-queue-");
+        scheduler.setDaemon(true);
+        // Most waiters are admitted long before their timeout; drop those timers right away
+        scheduler.setRemoveOnCancelPolicy(true);
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    /**
+     * Take a slot in the group the request belongs to
+     *
+     * @param path request path without the context path
+     * @return the permit, granted or not, or null when no group applies
+     */
+    public Permit acquire(String path) {
+        if (!enabled) {
+            return null;
+        }
+        RouteLimit group = match(path);
+        return group != null ? group.acquire() : null;
+    }
+
+    /**
+     * Queue a request whose permit was not granted until a slot frees up or the queue timeout passes
+     * The callback runs exactly once, on the thread releasing the slot or on the timeout thread,
+     * with a granted permit or, after the timeout, with a rejected one; it must not block.
+     *
+     * @return false, without calling back, when the group's queue is full
+     */
+    public boolean enqueue(Permit denied, Consumer<Permit> callback) {
+        if (timeouts == null) {
+            denied.reject();
+            return false;
+        }
+        return denied.owner.enqueue(callback);
+    }
+
+    @Override
+    public void destroy() {
+        if (timeouts != null) {
+            timeouts.destroy();
+        }
+    }
+
+    private RouteLimit match(String path) {
+        for (RouteLimit group : groups) {
+            for (String pattern : group.patterns) {
+                if (pathMatcher.match(pattern, path)) {
+                    return group;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Slot held by an admitted request; must be released exactly once when the response completes
+     */
+    public static final class Permit {
+
+        private final RouteLimit owner;
+        private final boolean granted;
+        private final long startNanos;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(RouteLimit owner, boolean granted) {
+            this.owner = owner;
+            this.granted = granted;
+            this.startNanos = System.nanoTime();
+        }
+
+        public boolean isGranted() {
+            return granted;
+        }
+
+        public String getGroup() {
+            return owner.name;
+        }
+
+        public int getLimit() {
+            return owner.limit;
+        }
+
+        /**
+         * @param dropped true when the request failed because of overload (timeout, 503),
+         *                which shrinks the limit instead of feeding a latency sample
+         */
+        public void release(boolean dropped) {
+            if (granted && released.compareAndSet(false, true)) {
+                owner.release(System.nanoTime() - startNanos, dropped);
+            }
+        }
+
+        /**
+         * Count a request turned away without queueing
+         */
+        void reject() {
+            owner.rejected.increment();
+        }
+
+        /**
+         * Give the slot back without a latency sample, for a request that went away before it ran
+         */
+        void cancel() {
+            if (granted && released.compareAndSet(false, true)) {
+                owner.returnSlot();
+            }
+        }
+    }
+
+    private final class RouteLimit {
+
+        private final String name;
+        private final List<String> patterns;
+        private final int maxQueue;
+        private final GradientLimit gradient;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicBoolean updating = new AtomicBoolean();
+        private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final Counter rejected;
+        private volatile int limit;
+        private volatile boolean dropPending;
+
+        RouteLimit(ConcurrencyLimitProperties.Group group, double tolerance, MeterRegistry meterRegistry) {
+            this.name = group.getName();
+            this.patterns = List.copyOf(group.getPatterns());
+            this.maxQueue = group.getMaxQueue();
+            this.gradient = new GradientLimit(group.getInitialLimit(), group.getMinLimit(), group.getMaxLimit(), tolerance);
+            this.limit = gradient.current();
+
+            Gauge.builder("concurrency.limit", this, r -> r.limit)
+                    .description("Current adaptive concurrency limit")
+                    .tag("group", name)
+                    .register(meterRegistry);
+            Gauge.builder("concurrency.inflight", inFlight, AtomicInteger::get)
+                    .description("Requests holding a concurrency slot")
+                    .tag("group", name)
+                    .register(meterRegistry);
+            Gauge.builder("concurrency.queued", queued, AtomicInteger::get)
+                    .description("Requests waiting for a concurrency slot")
+                    .tag("group", name)
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("concurrency.rejected")
+                    .description("Requests rejected by the concurrency limit")
+                    .tag("group", name)
+                    .register(meterRegistry);
+        }
+
+        Permit acquire() {
+            // Slots go to queued requests first; a newcomer does not overtake them
+            return new Permit(this, queued.get() == 0 && tryTake());
+        }
+
+        private boolean tryTake() {
+            while (true) {
+                int current = inFlight.get();
+                if (current >= limit) {
+                    return false;
+                }
+                if (inFlight.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        boolean enqueue(Consumer<Permit> callback) {
+            if (queued.incrementAndGet() > maxQueue) {
+                queued.decrementAndGet();
+                rejected.increment();
+                return false;
+            }
+            Waiter waiter = new Waiter(callback);
+            waiters.add(waiter);
+            waiter.timeout = timeouts.schedule(() -> expire(waiter), Instant.now().plusMillis(queueTimeoutMs));
+            // A slot freed before the waiter was visible to releases would otherwise go unused
+            admitWaiters();
+            return true;
+        }
+
+        private void expire(Waiter waiter) {
+            if (waiter.done.compareAndSet(false, true)) {
+                queued.decrementAndGet();
+                waiters.remove(waiter);
+                rejected.increment();
+                waiter.callback.accept(new Permit(this, false));
+            }
+        }
+
+        private void admitWaiters() {
+            while (!waiters.isEmpty() && tryTake()) {
+                Waiter waiter = waiters.poll();
+                if (waiter == null || !waiter.done.compareAndSet(false, true)) {
+                    // Taken by another release or already timed out: hand the slot back
+                    inFlight.decrementAndGet();
+                    continue;
+                }
+                queued.decrementAndGet();
+                ScheduledFuture<?> timeout = waiter.timeout;
+                if (timeout != null) {
+                    timeout.cancel(false);
+                }
+                waiter.callback.accept(new Permit(this, true));
+            }
+        }
+
+        void returnSlot() {
+            inFlight.decrementAndGet();
+            admitWaiters();
+        }
+
+        void release(long rttNanos, boolean dropped) {
+            int inFlightAtCompletion = inFlight.getAndDecrement();
+            if (dropped) {
+                dropPending = true;
+            }
+            // Samples completing while another thread updates the limit are skipped; a drop
+            // stays pending until an update gets through, so overload always backs off
+            if (updating.compareAndSet(false, true)) {
+                try {
+                    if (dropPending) {
+                        dropPending = false;
+                        limit = gradient.onDrop();
+                    } else {
+                        limit = gradient.onSample(rttNanos, inFlightAtCompletion);
+                    }
+                } finally {
+                    updating.set(false);
+                }
+            }
+            admitWaiters();
+        }
+    }
+
+    private static final class Waiter {
+
+        private final Consumer<Permit> callback;
+        private final AtomicBoolean done = new AtomicBoolean();
+        private volatile ScheduledFuture<?> timeout;
+
+        private Waiter(Consumer<Permit> callback) {
+            this.callback = callback;
+        }
+    }
+}
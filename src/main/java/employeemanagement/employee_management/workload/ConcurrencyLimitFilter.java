@@ -0,0 +1,235 @@
+package employeemanagement.employee_management.workload;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import employeemanagement.employee_management.exception.ApiError;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.function.Consumer;
+
+/**
+ * Concurrency Limit Filter - last filter of the security chain, so only authorized requests take
+ * a slot of the adaptive limit of their route group. A request over the limit is put into async
+ * mode and queued without holding its thread; once a slot is handed to it (or its queue timeout
+ * passes) it is dispatched again and continues (or is rejected with 503) on that dispatch, under
+ * the security context and priority it was queued with.
+ * For async (Callable) requests the slot is held until the async response completes, so the
+ * measured latency covers the database work.
+ */
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String QUEUED_ATTRIBUTE = ConcurrencyLimitFilter.class.getName() + ".queued";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter, ObjectMapper objectMapper) {
+        this.limiter = limiter;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Queued requests resume on an async dispatch
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        if (isAsyncDispatch(request)) {
+            QueuedRequest queued = (QueuedRequest) request.getAttribute(QUEUED_ATTRIBUTE);
+            if (queued == null) {
+                // Result of a Callable that was admitted on the initial dispatch
+                filterChain.doFilter(request, response);
+            } else {
+                request.removeAttribute(QUEUED_ATTRIBUTE);
+                resume(request, response, filterChain, queued);
+            }
+            return;
+        }
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire(path);
+        if (permit == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (permit.isGranted()) {
+            proceed(request, response, filterChain, permit);
+            return;
+        }
+        if (!request.isAsyncSupported()) {
+            permit.reject();
+            reject(response, permit);
+            return;
+        }
+
+        AsyncContext asyncContext = request.startAsync(request, response);
+        QueuedRequest queued = new QueuedRequest(request, asyncContext);
+        asyncContext.addListener(queued);
+        if (!limiter.enqueue(permit, queued)) {
+            reject(response, permit);
+            asyncContext.complete();
+        }
+    }
+
+    private void resume(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+                        QueuedRequest queued) throws ServletException, IOException {
+        AdaptiveConcurrencyLimiter.Permit permit = queued.permit;
+        if (!permit.isGranted()) {
+            reject(response, permit);
+            return;
+        }
+        SecurityContext previousContext = SecurityContextHolder.getContext();
+        SecurityContextHolder.setContext(queued.securityContext);
+        RequestPriority previousPriority = WorkloadContext.enterPriority(queued.priority);
+        try {
+            proceed(request, response, filterChain, permit);
+        } finally {
+            WorkloadContext.restorePriority(previousPriority);
+            SecurityContextHolder.setContext(previousContext);
+        }
+    }
+
+    private void proceed(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+                         AdaptiveConcurrencyLimiter.Permit permit) throws ServletException, IOException {
+        boolean dropped = true;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete(permit));
+                dropped = false;
+                return;
+            }
+            dropped = isOverloaded(response.getStatus());
+        } finally {
+            if (!request.isAsyncStarted()) {
+                permit.release(dropped);
+            }
+        }
+    }
+
+    private static boolean isOverloaded(int status) {
+        return status == HttpStatus.SERVICE_UNAVAILABLE.value() || status == HttpStatus.GATEWAY_TIMEOUT.value();
+    }
+
+    private void reject(HttpServletResponse response, AdaptiveConcurrencyLimiter.Permit permit) throws IOException {
+        ApiError apiError = new ApiError(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
+                "Server is busy",
+                Collections.singletonList("Concurrency limit of " + permit.getLimit() + " reached for "
+                        + permit.getGroup() + " requests, retry shortly")
+        );
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), apiError);
+    }
+
+    /**
+     * A request waiting in the limiter's queue; dispatched again when the limiter calls back
+     */
+    private static final class QueuedRequest implements Consumer<AdaptiveConcurrencyLimiter.Permit>, AsyncListener {
+
+        private final HttpServletRequest request;
+        private final AsyncContext asyncContext;
+        private final SecurityContext securityContext;
+        private final RequestPriority priority;
+        private volatile AdaptiveConcurrencyLimiter.Permit permit;
+
+        QueuedRequest(HttpServletRequest request, AsyncContext asyncContext) {
+            this.request = request;
+            this.asyncContext = asyncContext;
+            this.securityContext = SecurityContextHolder.getContext();
+            this.priority = WorkloadContext.priority();
+        }
+
+        @Override
+        public void accept(AdaptiveConcurrencyLimiter.Permit permit) {
+            this.permit = permit;
+            request.setAttribute(QUEUED_ATTRIBUTE, this);
+            try {
+                asyncContext.dispatch();
+            } catch (IllegalStateException ex) {
+                // The request already ended (client gone, container timeout)
+                permit.cancel();
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            cancel();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            cancel();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+        private void cancel() {
+            AdaptiveConcurrencyLimiter.Permit granted = permit;
+            if (granted != null) {
+                granted.cancel();
+            }
+        }
+    }
+
+    private static final class ReleaseOnComplete implements AsyncListener {
+
+        private final AdaptiveConcurrencyLimiter.Permit permit;
+
+        ReleaseOnComplete(AdaptiveConcurrencyLimiter.Permit permit) {
+            this.permit = permit;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            HttpServletResponse response = (HttpServletResponse) event.getSuppliedResponse();
+            permit.release(response != null && isOverloaded(response.getStatus()));
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            permit.release(true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            permit.release(true);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
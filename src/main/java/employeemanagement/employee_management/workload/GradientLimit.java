@@ -0,0 +1,78 @@
+package employeemanagement.employee_management.workload;
+
+/**
+ * Concurrency limit derived from request latency (gradient algorithm with AIMD backoff).
+ * A long-window average of RTT is the no-load baseline, a short-window average the current
+ * latency. While current latency stays within tolerance of the baseline the limit grows by
+ * about sqrt(limit) per update; beyond it the limit shrinks in proportion to the slowdown.
+ * A dropped request (timeout, 503 from downstream) cuts the limit multiplicatively.
+ * Not thread-safe: callers serialize updates (AdaptiveConcurrencyLimiter skips samples instead of waiting).
+ */
+final class GradientLimit {
+
+    private static final double LONG_WINDOW_ALPHA = 2.0 / (600 + 1);
+    private static final double SHORT_WINDOW_ALPHA = 2.0 / (10 + 1);
+    private static final double SMOOTHING = 0.2;
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+
+    private double limit;
+    private double longRtt;
+    private double shortRtt;
+
+    GradientLimit(int initialLimit, int minLimit, int maxLimit, double tolerance) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * @param rttNanos latency of a completed request
+     * @param inFlight requests in flight when it completed
+     * @return the new limit
+     */
+    int onSample(long rttNanos, int inFlight) {
+        if (longRtt == 0) {
+            longRtt = rttNanos;
+            shortRtt = rttNanos;
+            return current();
+        }
+        shortRtt += (rttNanos - shortRtt) * SHORT_WINDOW_ALPHA;
+        longRtt += (rttNanos - longRtt) * LONG_WINDOW_ALPHA;
+
+        // After a sustained slowdown the baseline has crept up; let it come back down faster
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        // Too few requests in flight to learn anything about the limit
+        if (inFlight < limit / 2) {
+            return current();
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / shortRtt));
+        double target = limit * gradient + Math.sqrt(limit);
+        limit = clamp(limit * (1 - SMOOTHING) + target * SMOOTHING);
+        return current();
+    }
+
+    /**
+     * @return the new limit after a request that failed from overload
+     */
+    int onDrop() {
+        limit = clamp(limit * BACKOFF_RATIO);
+        return current();
+    }
+
+    int current() {
+        return (int) limit;
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
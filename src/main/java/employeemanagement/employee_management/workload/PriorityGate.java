@@ -0,0 +1,100 @@
+package employeemanagement.employee_management.workload;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Semaphore in front of a connection pool with as many permits as the pool has connections.
+ * Waiters are woken by {@link RequestPriority} rather than arrival order, with the starvation
+ * bound of {@link TieredQueue}. Permits are handed directly to the chosen waiter on release.
+ */
+final class PriorityGate {
+
+    private final String name;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final TieredQueue<Waiter> waiters;
+    private final Map<RequestPriority, Timer> waitTimers = new EnumMap<>(RequestPriority.class);
+    private int permits;
+
+    PriorityGate(String name, int permits, long starvationTimeoutMs, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.permits = permits;
+        this.waiters = new TieredQueue<>(TimeUnit.MILLISECONDS.toNanos(starvationTimeoutMs));
+        for (RequestPriority priority : RequestPriority.values()) {
+            waitTimers.put(priority, Timer.builder("jdbc.connection.wait")
+                    .description("Time spent waiting for a connection slot")
+                    .tag("pool", name)
+                    .tag("priority", priority.name().toLowerCase())
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry));
+        }
+    }
+
+    void acquire(RequestPriority priority, long timeoutMs) throws SQLException {
+        long start = System.nanoTime();
+        lock.lock();
+        try {
+            if (permits > 0 && waiters.isEmpty()) {
+                permits--;
+                return;
+            }
+            Waiter waiter = new Waiter(lock.newCondition());
+            waiters.add(waiter, priority, start);
+            long remaining = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            try {
+                while (!waiter.granted) {
+                    if (remaining <= 0) {
+                        waiters.remove(waiter);
+                        throw new SQLTransientConnectionException(
+                                name + " - Connection is not available, request timed out after " + timeoutMs + "ms");
+                    }
+                    remaining = waiter.condition.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                if (waiter.granted) {
+                    release();
+                } else {
+                    waiters.remove(waiter);
+                }
+                Thread.currentThread().interrupt();
+                throw new SQLException(name + " - Interrupted while waiting for a connection", e);
+            }
+        } finally {
+            lock.unlock();
+            waitTimers.get(priority).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    void release() {
+        lock.lock();
+        try {
+            Waiter next = waiters.poll(System.nanoTime());
+            if (next != null) {
+                next.granted = true;
+                next.condition.signal();
+            } else {
+                permits++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class Waiter {
+
+        private final Condition condition;
+        private boolean granted;
+
+        Waiter(Condition condition) {
+            this.condition = condition;
+        }
+    }
+}
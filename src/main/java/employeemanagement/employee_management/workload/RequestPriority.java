@@ -0,0 +1,23 @@
+package employeemanagement.employee_management.workload;
+
+/**
+ * Priority tiers of requests, highest first. Within a workload class, queued work and
+ * connection waiters of a higher tier are served first.
+ */
+public enum RequestPriority {
+
+    /**
+     * UI pages and single-record lookups
+     */
+    HIGH,
+
+    /**
+     * Everything not classified otherwise, including background jobs
+     */
+    NORMAL,
+
+    /**
+     * Bulk reads, exports and batches
+     */
+    LOW
+}
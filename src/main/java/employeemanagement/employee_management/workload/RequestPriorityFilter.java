@@ -0,0 +1,95 @@
+package employeemanagement.employee_management.workload;
+
+import employeemanagement.employee_management.config.PriorityProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Request Priority Filter - runs after the JWT filter and assigns the request a priority tier
+ * from its route. Any caller may lower its priority with the X-Request-Priority header;
+ * only administrators may raise it. The priority is current for the request thread and is
+ * carried onto the executor running its Callable.
+ */
+@Component
+public class RequestPriorityFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Request-Priority";
+
+    private final boolean enabled;
+    private final List<String> highPatterns;
+    private final List<String> lowPatterns;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RequestPriorityFilter(PriorityProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.highPatterns = List.copyOf(properties.getHighPatterns());
+        this.lowPatterns = List.copyOf(properties.getLowPatterns());
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        if (!enabled) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        RequestPriority previous = WorkloadContext.enterPriority(classify(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            WorkloadContext.restorePriority(previous);
+        }
+    }
+
+    private RequestPriority classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        RequestPriority priority = matches(lowPatterns, path) ? RequestPriority.LOW
+                : matches(highPatterns, path) ? RequestPriority.HIGH
+                : RequestPriority.NORMAL;
+
+        RequestPriority requested = parse(request.getHeader(HEADER));
+        if (requested == null || requested == priority) {
+            return priority;
+        }
+        return requested.compareTo(priority) > 0 || isAdmin() ? requested : priority;
+    }
+
+    private boolean matches(List<String> patterns, String path) {
+        for (String pattern : patterns) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static RequestPriority parse(String header) {
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        try {
+            return RequestPriority.valueOf(header.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean isAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+    }
+}
@@ -0,0 +1,104 @@
+package employeemanagement.employee_management.workload;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FIFO queue per priority tier, served highest tier first. Starvation is bounded: an entry of a
+ * lower tier that has waited longer than the starvation timeout is served before any other,
+ * oldest first. Not thread-safe: callers hold their own lock.
+ */
+final class TieredQueue<T> {
+
+    private final long starvationNanos;
+    private final Map<RequestPriority, Deque<Entry<T>>> tiers = new EnumMap<>(RequestPriority.class);
+    private int size;
+
+    TieredQueue(long starvationNanos) {
+        this.starvationNanos = starvationNanos;
+        for (RequestPriority priority : RequestPriority.values()) {
+            tiers.put(priority, new ArrayDeque<>());
+        }
+    }
+
+    void add(T item, RequestPriority priority, long nowNanos) {
+        tiers.get(priority).addLast(new Entry<>(item, nowNanos));
+        size++;
+    }
+
+    T peek(long nowNanos) {
+        Deque<Entry<T>> tier = next(nowNanos);
+        return tier != null ? tier.peekFirst().item : null;
+    }
+
+    T poll(long nowNanos) {
+        Deque<Entry<T>> tier = next(nowNanos);
+        if (tier == null) {
+            return null;
+        }
+        size--;
+        return tier.pollFirst().item;
+    }
+
+    private Deque<Entry<T>> next(long nowNanos) {
+        Deque<Entry<T>> starved = null;
+        long oldest = Long.MAX_VALUE;
+        Deque<Entry<T>> highest = null;
+        for (Deque<Entry<T>> tier : tiers.values()) {
+            Entry<T> head = tier.peekFirst();
+            if (head == null) {
+                continue;
+            }
+            if (highest == null) {
+                highest = tier;
+            } else if (nowNanos - head.enqueuedNanos >= starvationNanos && head.enqueuedNanos < oldest) {
+                starved = tier;
+                oldest = head.enqueuedNanos;
+            }
+        }
+        return starved != null ? starved : highest;
+    }
+
+    boolean remove(Object item) {
+        for (Deque<Entry<T>> tier : tiers.values()) {
+            Iterator<Entry<T>> iterator = tier.iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().item == item) {
+                    iterator.remove();
+                    size--;
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the queued items, highest tier first
+     */
+    List<T> items() {
+        List<T> items = new ArrayList<>(size);
+        for (Deque<Entry<T>> tier : tiers.values()) {
+            for (Entry<T> entry : tier) {
+                items.add(entry.item);
+            }
+        }
+        return items;
+    }
+
+    private record Entry<T>(T item, long enqueuedNanos) {
+    }
+}
@@ -0,0 +1,23 @@
+package employeemanagement.employee_management.workload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Assigns a controller or service method to a workload class.
+ * On controller methods returning a Callable it selects the execution slots and the connection pool;
+ * on service methods it selects the connection pool used by the transactions the method opens.
+ * Unannotated endpoints default to INTERACTIVE for GET/HEAD and WRITE for other methods.
+ * A session keeps the connection it first acquired, so a service method called from a request
+ * that already ran a query stays on the request's pool.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Workload {
+
+    WorkloadClass value();
+}
@@ -0,0 +1,26 @@
+package employeemanagement.employee_management.workload;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies {@link Workload} on service methods: the annotated class is current while the method runs,
+ * so the transactions it starts take their connection from that class's pool.
+ * Controllers are excluded; their class is applied by the WorkloadRoutingExecutor instead.
+ */
+@Aspect
+@Component
+public class WorkloadAspect {
+
+    @Around("@annotation(workload) && !@within(org.springframework.web.bind.annotation.RestController)")
+    public Object withWorkload(ProceedingJoinPoint joinPoint, Workload workload) throws Throwable {
+        WorkloadClass previous = WorkloadContext.enter(workload.value());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            WorkloadContext.restore(previous);
+        }
+    }
+}
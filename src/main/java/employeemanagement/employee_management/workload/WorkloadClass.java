@@ -0,0 +1,23 @@
+package employeemanagement.employee_management.workload;
+
+/**
+ * Workload classes isolated from each other by bulkheads: each class has its own
+ * connection pool and its own execution slots.
+ */
+public enum WorkloadClass {
+
+    /**
+     * Short lookups on the request path; also the class of unassigned work
+     */
+    INTERACTIVE,
+
+    /**
+     * Inserts, updates and deletes
+     */
+    WRITE,
+
+    /**
+     * Full-table reads, exports and aggregate recomputation
+     */
+    REPORTING
+}
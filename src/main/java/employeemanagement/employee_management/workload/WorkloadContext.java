@@ -0,0 +1,80 @@
+package employeemanagement.employee_management.workload;
+
+import java.util.function.Supplier;
+
+/**
+ * Workload class and request priority of the work running on the current thread
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<WorkloadClass> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<RequestPriority> PRIORITY = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    /**
+     * @return the current class, INTERACTIVE when none was assigned
+     */
+    public static WorkloadClass current() {
+        WorkloadClass workloadClass = CURRENT.get();
+        return workloadClass != null ? workloadClass : WorkloadClass.INTERACTIVE;
+    }
+
+    /**
+     * @return the current priority, NORMAL when none was assigned
+     */
+    public static RequestPriority priority() {
+        RequestPriority priority = PRIORITY.get();
+        return priority != null ? priority : RequestPriority.NORMAL;
+    }
+
+    /**
+     * Run work on the current thread under the given class and priority, for work dispatched
+     * in-process rather than through the WorkloadRoutingExecutor (e.g. batch sub-operations)
+     */
+    public static <T> T run(WorkloadClass workloadClass, RequestPriority priority, Supplier<T> work) {
+        WorkloadClass previousClass = enter(workloadClass);
+        RequestPriority previousPriority = enterPriority(priority);
+        try {
+            return work.get();
+        } finally {
+            restorePriority(previousPriority);
+            restore(previousClass);
+        }
+    }
+
+    /**
+     * @return the previously assigned class (possibly null), to pass to {@link #restore}
+     */
+    static WorkloadClass enter(WorkloadClass workloadClass) {
+        WorkloadClass previous = CURRENT.get();
+        CURRENT.set(workloadClass);
+        return previous;
+    }
+
+    static void restore(WorkloadClass previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * @return the previously assigned priority (possibly null), to pass to {@link #restorePriority}
+     */
+    static RequestPriority enterPriority(RequestPriority priority) {
+        RequestPriority previous = PRIORITY.get();
+        PRIORITY.set(priority);
+        return previous;
+    }
+
+    static void restorePriority(RequestPriority previous) {
+        if (previous == null) {
+            PRIORITY.remove();
+        } else {
+            PRIORITY.set(previous);
+        }
+    }
+}
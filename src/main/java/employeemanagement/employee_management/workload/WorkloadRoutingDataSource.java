@@ -0,0 +1,89 @@
+package employeemanagement.employee_management.workload;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.io.Closeable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DataSource handing out connections from the pool of the current workload class.
+ * The pool is chosen when a connection is acquired, i.e. at the start of a transaction.
+ * A {@link PriorityGate} in front of each pool serves waiting threads by request priority.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    private final Map<WorkloadClass, HikariDataSource> pools;
+    private final Map<WorkloadClass, PriorityGate> gates = new EnumMap<>(WorkloadClass.class);
+
+    public WorkloadRoutingDataSource(Map<WorkloadClass, HikariDataSource> pools,
+                                     long starvationTimeoutMs,
+                                     MeterRegistry meterRegistry) {
+        this.pools = new EnumMap<>(pools);
+        this.pools.forEach((workloadClass, pool) -> gates.put(workloadClass,
+                new PriorityGate(pool.getPoolName(), pool.getMaximumPoolSize(), starvationTimeoutMs, meterRegistry)));
+        setTargetDataSources(new HashMap<>(pools));
+        setDefaultTargetDataSource(pools.get(WorkloadClass.INTERACTIVE));
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return WorkloadContext.current();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        WorkloadClass workloadClass = WorkloadContext.current();
+        PriorityGate gate = gates.get(workloadClass);
+        gate.acquire(WorkloadContext.priority(), pools.get(workloadClass).getConnectionTimeout());
+        try {
+            return gated(super.getConnection(), gate);
+        } catch (SQLException | RuntimeException e) {
+            gate.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Wrap the pooled connection so closing it also returns the gate permit
+     */
+    private static Connection gated(Connection connection, PriorityGate gate) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "close" -> {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                gate.release();
+                            }
+                        }
+                        yield null;
+                    }
+                    default -> {
+                        try {
+                            yield method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    }
+                });
+    }
+
+    @Override
+    public void close() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,218 @@
+package employeemanagement.employee_management.workload;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * MVC async executor dispatching each Callable to the executor of its workload class.
+ * The class comes from the {@link Workload} annotation of the handler method, or from the
+ * HTTP method when there is none: GET/HEAD are INTERACTIVE, everything else is WRITE.
+ * Every class has its own bounded executor, so a saturated class is rejected on its own
+ * queue without taking slots from the others. Tasks carry the class and the request priority
+ * onto the worker thread; priority-aware queues serve them by priority.
+ */
+public class WorkloadRoutingExecutor implements AsyncTaskExecutor, DisposableBean {
+
+    private final Map<WorkloadClass, Lane> lanes = new EnumMap<>(WorkloadClass.class);
+    private final Map<Method, WorkloadClass> declaredClasses = new ConcurrentHashMap<>();
+
+    /**
+     * @param executors executor of each class
+     * @param slots     concurrent tasks each executor runs, used for the utilization gauge
+     */
+    public WorkloadRoutingExecutor(Map<WorkloadClass, AsyncTaskExecutor> executors,
+                                   Map<WorkloadClass, Integer> slots,
+                                   MeterRegistry meterRegistry) {
+        for (WorkloadClass workloadClass : WorkloadClass.values()) {
+            lanes.put(workloadClass, new Lane(workloadClass, executors.get(workloadClass),
+                    slots.get(workloadClass), meterRegistry));
+        }
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        submit(task);
+    }
+
+    @Override
+    public Future<?> submit(Runnable task) {
+        return lanes.get(resolveCurrentRequest()).submit(Executors.callable(task));
+    }
+
+    @Override
+    public <T> Future<T> submit(Callable<T> task) {
+        return lanes.get(resolveCurrentRequest()).submit(task);
+    }
+
+    private WorkloadClass resolveCurrentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return WorkloadContext.current();
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handlerMethod) {
+            WorkloadClass declared = declaredClasses.computeIfAbsent(handlerMethod.getMethod(), WorkloadRoutingExecutor::declaredClass);
+            if (declared != null) {
+                return declared;
+            }
+        }
+        return classOf(request.getMethod());
+    }
+
+    /**
+     * Class of a request served by the given handler method: its {@link Workload} annotation,
+     * else INTERACTIVE for GET/HEAD and WRITE for every other HTTP method
+     */
+    public static WorkloadClass classify(Method handler, String httpMethod) {
+        WorkloadClass declared = handler != null ? declaredClass(handler) : null;
+        return declared != null ? declared : classOf(httpMethod);
+    }
+
+    private static WorkloadClass classOf(String httpMethod) {
+        return "GET".equals(httpMethod) || "HEAD".equals(httpMethod) ? WorkloadClass.INTERACTIVE : WorkloadClass.WRITE;
+    }
+
+    private static WorkloadClass declaredClass(Method method) {
+        Workload workload = AnnotatedElementUtils.findMergedAnnotation(method, Workload.class);
+        return workload != null ? workload.value() : null;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (Lane lane : lanes.values()) {
+            // Pool executors are not Spring beans of their own, so nobody else shuts them down
+            if (lane.executor instanceof DisposableBean disposable) {
+                disposable.destroy();
+            } else if (lane.executor instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    /**
+     * Executor of one class with its occupancy counters
+     */
+    private static final class Lane {
+
+        private final WorkloadClass workloadClass;
+        private final AsyncTaskExecutor executor;
+        private final Map<RequestPriority, Timer> waitTimers = new EnumMap<>(RequestPriority.class);
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger running = new AtomicInteger();
+        private final Counter rejected;
+
+        Lane(WorkloadClass workloadClass, AsyncTaskExecutor executor, int slots, MeterRegistry meterRegistry) {
+            this.workloadClass = workloadClass;
+            this.executor = executor;
+            String tag = workloadClass.name().toLowerCase();
+            for (RequestPriority priority : RequestPriority.values()) {
+                waitTimers.put(priority, Timer.builder("workload.executor.wait")
+                        .description("Time requests waited for an execution slot")
+                        .tag("class", tag)
+                        .tag("priority", priority.name().toLowerCase())
+                        .publishPercentiles(0.5, 0.99)
+                        .register(meterRegistry));
+            }
+            Gauge.builder("workload.executor.queued", queued, AtomicInteger::get)
+                    .description("Requests waiting for an execution slot")
+                    .tag("class", tag)
+                    .register(meterRegistry);
+            Gauge.builder("workload.executor.active", running, AtomicInteger::get)
+                    .description("Requests occupying an execution slot")
+                    .tag("class", tag)
+                    .register(meterRegistry);
+            Gauge.builder("workload.executor.utilization", running, r -> (double) r.get() / slots)
+                    .description("Fraction of the execution slots in use")
+                    .tag("class", tag)
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("workload.rejected")
+                    .description("Requests rejected because the workload class was saturated")
+                    .tag("class", tag)
+                    .register(meterRegistry);
+        }
+
+        <T> Future<T> submit(Callable<T> task) {
+            TrackedTask<T> tracked = new TrackedTask<>(task, WorkloadContext.priority());
+            queued.incrementAndGet();
+            try {
+                executor.execute(tracked);
+            } catch (TaskRejectedException e) {
+                queued.decrementAndGet();
+                rejected.increment();
+                throw e;
+            }
+            return tracked;
+        }
+
+        /**
+         * Runs the task under the lane's class and the submitter's priority, and keeps the
+         * counters right when a task is cancelled (request timeout) before it starts
+         */
+        private final class TrackedTask<T> extends FutureTask<T> implements PriorityTaskQueue.Prioritized {
+
+            private final RequestPriority priority;
+            private final long submittedNanos = System.nanoTime();
+            private final AtomicBoolean settled = new AtomicBoolean();
+
+            TrackedTask(Callable<T> task, RequestPriority priority) {
+                super(task);
+                this.priority = priority;
+            }
+
+            @Override
+            public RequestPriority getPriority() {
+                return priority;
+            }
+
+            @Override
+            public void run() {
+                if (!settled.compareAndSet(false, true)) {
+                    return;
+                }
+                waitTimers.get(priority).record(System.nanoTime() - submittedNanos, TimeUnit.NANOSECONDS);
+                queued.decrementAndGet();
+                running.incrementAndGet();
+                WorkloadClass previousClass = WorkloadContext.enter(workloadClass);
+                RequestPriority previousPriority = WorkloadContext.enterPriority(priority);
+                try {
+                    super.run();
+                } finally {
+                    WorkloadContext.restorePriority(previousPriority);
+                    WorkloadContext.restore(previousClass);
+                    running.decrementAndGet();
+                }
+            }
+
+            @Override
+            protected void done() {
+                if (settled.compareAndSet(false, true)) {
+                    queued.decrementAndGet();
+                }
+            }
+        }
+    }
+}
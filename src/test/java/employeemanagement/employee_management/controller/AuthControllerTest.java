@@ -0,0 +1,104 @@
+package employeemanagement.employee_management.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Logins are shed with 503 and Retry-After while the password hashing pool is saturated
+ */
+@SpringBootTest(properties = "rate-limit.enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AuthControllerTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	@Qualifier("passwordHashExecutor")
+	private ThreadPoolTaskExecutor passwordHashExecutor;
+
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	@AfterEach
+	void releasePool() throws InterruptedException {
+		release.countDown();
+		awaitDrained(passwordHashExecutor);
+	}
+
+	@Test
+	void loginSucceedsWithinCapacity() throws Exception {
+		login("admin", "admin123")
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.token").isNotEmpty());
+	}
+
+	@Test
+	void loginIsShedWhenHashPoolIsSaturated() throws Exception {
+		int threads = passwordHashExecutor.getMaxPoolSize();
+		CountDownLatch running = new CountDownLatch(threads);
+		for (int i = 0; i < threads; i++) {
+			passwordHashExecutor.execute(() -> {
+				running.countDown();
+				await(release);
+			});
+		}
+		assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+		for (int i = 0; i < passwordHashExecutor.getQueueCapacity(); i++) {
+			passwordHashExecutor.execute(() -> await(release));
+		}
+
+		login("admin", "admin123")
+				.andExpect(status().isServiceUnavailable())
+				.andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+
+		release.countDown();
+		awaitDrained(passwordHashExecutor);
+		login("admin", "admin123").andExpect(status().isOk());
+	}
+
+	private ResultActions login(String username, String password) throws Exception {
+		return mockMvc.perform(post("/api/auth/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(Map.of("username", username, "password", password))));
+	}
+
+	private static void awaitDrained(ThreadPoolTaskExecutor executor) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (executor.getQueueSize() > 0 && System.nanoTime() < deadline) {
+			Thread.sleep(5);
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,194 @@
+package employeemanagement.employee_management.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import employeemanagement.employee_management.dto.BatchOperation;
+import employeemanagement.employee_management.repository.DepartmentRepository;
+import employeemanagement.employee_management.repository.EmployeeRepository;
+import employeemanagement.employee_management.service.IdempotencyService;
+import employeemanagement.employee_management.workload.WorkloadClass;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Sub-operations are authorized like standalone calls and use the connection pool of their
+ * workload class; an atomic batch rolls back as a whole, including the idempotency keys of its writes
+ */
+@SpringBootTest(properties = "rate-limit.enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BatchControllerTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private DepartmentRepository departmentRepository;
+
+	@Autowired
+	private BatchOperationRouter router;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private String run;
+	private String email;
+
+	@BeforeEach
+	void setUp() {
+		run = UUID.randomUUID().toString().substring(0, 8);
+		email = "batch-" + run + "@example.com";
+	}
+
+	@AfterEach
+	void cleanUp() {
+		employeeRepository.findByEmail(email).ifPresent(employeeRepository::delete);
+		departmentRepository.findByName("Batch " + run).ifPresent(departmentRepository::delete);
+	}
+
+	@Test
+	void subOperationsGetTheWorkloadClassOfTheirRoute() {
+		assertThat(router.workloadClass(batchOperation("GET", "/api/employees"))).isEqualTo(WorkloadClass.REPORTING);
+		assertThat(router.workloadClass(batchOperation("GET", "/api/employees/statistics"))).isEqualTo(WorkloadClass.REPORTING);
+		assertThat(router.workloadClass(batchOperation("GET", "/api/employees/EMP-1"))).isEqualTo(WorkloadClass.INTERACTIVE);
+		assertThat(router.workloadClass(batchOperation("POST", "/api/departments"))).isEqualTo(WorkloadClass.WRITE);
+		assertThat(router.workloadClass(batchOperation("DELETE", "/api/unknown"))).isEqualTo(WorkloadClass.WRITE);
+	}
+
+	@Test
+	void subOperationsUseThePoolOfTheirWorkloadClass() throws Exception {
+		String adminToken = login("admin", "admin123");
+		long reporting = connectionsUsed("reporting");
+		long write = connectionsUsed("write");
+
+		batch(adminToken, false,
+				operation("a", "GET", "/api/employees", null, Map.of()),
+				operation("b", "GET", "/api/employees", null, Map.of()),
+				operation("c", "GET", "/api/employees", null, Map.of()));
+		assertThat(connectionsUsed("reporting") - reporting).isGreaterThanOrEqualTo(3);
+
+		JsonNode created = batch(adminToken, false,
+				operation("create", "POST", "/api/departments", Map.of("name", "Batch " + run), Map.of()));
+		assertThat(created.get("results").get(0).get("status").asInt()).isEqualTo(201);
+		assertThat(connectionsUsed("write") - write).isGreaterThanOrEqualTo(1);
+	}
+
+	@Test
+	void subOperationsAreAuthorizedIndividually() throws Exception {
+		JsonNode results = batch(login("user", "user123"), false,
+				operation("read", "GET", "/api/employees/info", null, Map.of()),
+				operation("create", "POST", "/api/employees", employee(), Map.of()),
+				operation("departments", "GET", "/api/departments", null, Map.of()))
+				.get("results");
+
+		assertThat(results.get(0).get("status").asInt()).isEqualTo(200);
+		assertThat(results.get(1).get("status").asInt()).isEqualTo(403);
+		assertThat(results.get(2).get("status").asInt()).isEqualTo(403);
+		assertThat(employeeRepository.findByEmail(email)).isEmpty();
+	}
+
+	@Test
+	void failedAtomicBatchRollsBackAndReleasesIdempotencyKeys() throws Exception {
+		String adminToken = login("admin", "admin123");
+		Map<String, String> key = Map.of(IdempotencyService.HEADER, "batch-" + run);
+
+		JsonNode failed = batch(adminToken, true,
+				operation("create", "POST", "/api/employees", employee(), key),
+				operation("missing", "GET", "/api/employees/EMP-MISSING-" + run, null, Map.of()),
+				operation("skipped", "GET", "/api/employees/info", null, Map.of()));
+
+		assertThat(failed.get("committed").asBoolean()).isFalse();
+		assertThat(failed.get("results").get(0).get("status").asInt()).isEqualTo(201);
+		assertThat(failed.get("results").get(1).get("status").asInt()).isEqualTo(404);
+		assertThat(failed.get("results").get(2).get("status").asInt()).isEqualTo(424);
+		assertThat(employeeRepository.findByEmail(email)).isEmpty();
+
+		// The retry must execute again instead of replaying the rolled-back 201
+		JsonNode retried = batch(adminToken, true,
+				operation("create", "POST", "/api/employees", employee(), key));
+
+		assertThat(retried.get("committed").asBoolean()).isTrue();
+		JsonNode created = retried.get("results").get(0);
+		assertThat(created.get("status").asInt()).isEqualTo(201);
+		assertThat(created.get("headers").has(IdempotencyService.REPLAYED_HEADER)).isFalse();
+		assertThat(employeeRepository.findByEmail(email)).isPresent();
+	}
+
+	@Test
+	void pathVariablesAreDecodedOnce() throws Exception {
+		JsonNode result = batch(login("admin", "admin123"), false,
+				operation("lookup", "GET", "/api/employees/EMP-%2525-" + run, null, Map.of()))
+				.get("results").get(0);
+
+		assertThat(result.get("status").asInt()).isEqualTo(404);
+		assertThat(result.get("body").get("message").asText()).endsWith("id: EMP-%25-" + run);
+	}
+
+	private long connectionsUsed(String workloadClass) {
+		Timer usage = meterRegistry.find("hikaricp.connections.usage").tag("pool", "workload-" + workloadClass).timer();
+		return usage == null ? 0 : usage.count();
+	}
+
+	private static BatchOperation batchOperation(String method, String path) {
+		return new BatchOperation("op", method, path);
+	}
+
+	private Map<String, Object> employee() {
+		return Map.of("name", "Batch " + run, "email", email);
+	}
+
+	private static Map<String, Object> operation(String id, String method, String path, Object body,
+	                                             Map<String, String> headers) {
+		Map<String, Object> operation = new HashMap<>(Map.of("id", id, "method", method, "path", path,
+				"headers", headers));
+		if (body != null) {
+			operation.put("body", body);
+		}
+		return operation;
+	}
+
+	@SafeVarargs
+	private JsonNode batch(String token, boolean atomic, Map<String, Object>... operations) throws Exception {
+		String body = mockMvc.perform(post("/api/batch")
+						.header(HttpHeaders.AUTHORIZATION, token)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(Map.of("atomic", atomic, "operations", List.of(operations)))))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		return objectMapper.readTree(body);
+	}
+
+	private String login(String username, String password) throws Exception {
+		String body = mockMvc.perform(post("/api/auth/login")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(Map.of("username", username, "password", password))))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		return "Bearer " + objectMapper.readTree(body).get("token").asText();
+	}
+}
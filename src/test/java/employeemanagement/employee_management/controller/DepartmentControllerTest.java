@@ -0,0 +1,170 @@
+package employeemanagement.employee_management.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import employeemanagement.employee_management.model.Department;
+import employeemanagement.employee_management.model.Employee;
+import employeemanagement.employee_management.repository.DepartmentRepository;
+import employeemanagement.employee_management.repository.EmployeeRepository;
+import employeemanagement.employee_management.service.DepartmentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Department deletion modes: employees are unassigned or moved, never deleted
+ */
+@SpringBootTest(properties = "rate-limit.enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class DepartmentControllerTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private DepartmentRepository departmentRepository;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private DepartmentService departmentService;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private String adminToken;
+	private String run;
+	private Department department;
+	private Department target;
+	private final List<String> employeeIds = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() throws Exception {
+		adminToken = login("admin", "admin123");
+		run = UUID.randomUUID().toString().substring(0, 8);
+		department = departmentRepository.save(new Department("Deleted " + run));
+		target = departmentRepository.save(new Department("Target " + run));
+		for (int i = 0; i < 3; i++) {
+			Employee employee = new Employee();
+			employee.setId("EMP-DEPT-" + run + "-" + i);
+			employee.setName("Department Employee " + i);
+			employee.setEmail("dept-" + run + "-" + i + "@example.com");
+			employee.setDepartment(department);
+			employeeIds.add(employeeRepository.save(employee).getId());
+		}
+	}
+
+	@AfterEach
+	void cleanUp() {
+		employeeRepository.deleteAllById(employeeIds);
+		for (Department created : List.of(department, target)) {
+			departmentRepository.findById(created.getId()).ifPresent(departmentRepository::delete);
+		}
+	}
+
+	@Test
+	void unassignKeepsEmployeesWithoutDepartment() throws Exception {
+		perform(delete("/api/departments/{id}", department.getId()))
+				.andExpect(status().isNoContent());
+
+		assertThat(departmentRepository.findById(department.getId())).isEmpty();
+		for (String id : employeeIds) {
+			Employee employee = employeeRepository.findById(id).orElseThrow();
+			assertThat(employee.getDepartment()).isNull();
+			assertThat(employee.getVersion()).isEqualTo(1L);
+		}
+	}
+
+	@Test
+	void reassignMovesEmployeesToTarget() throws Exception {
+		perform(delete("/api/departments/{id}", department.getId())
+				.param("mode", "reassign")
+				.param("targetDepartmentId", target.getId().toString()))
+				.andExpect(status().isNoContent());
+
+		assertThat(departmentRepository.findById(department.getId())).isEmpty();
+		assertThat(employeeRepository.findByDepartment(target))
+				.extracting(Employee::getId)
+				.containsExactlyInAnyOrderElementsOf(employeeIds);
+	}
+
+	@Test
+	void invalidReassignmentsAreRejected() throws Exception {
+		perform(delete("/api/departments/{id}", department.getId()).param("mode", "reassign"))
+				.andExpect(status().isBadRequest());
+		perform(delete("/api/departments/{id}", department.getId())
+				.param("mode", "reassign")
+				.param("targetDepartmentId", department.getId().toString()))
+				.andExpect(status().isBadRequest());
+		perform(delete("/api/departments/{id}", department.getId()).param("mode", "cascade"))
+				.andExpect(status().isBadRequest());
+
+		assertThat(departmentRepository.findById(department.getId())).isPresent();
+	}
+
+	@Test
+	void staleIfMatchIsRejected() throws Exception {
+		perform(delete("/api/departments/{id}", department.getId())
+				.header(HttpHeaders.IF_MATCH, "\"" + (department.getVersion() + 1) + "\""))
+				.andExpect(status().isPreconditionFailed());
+
+		assertThat(departmentRepository.findById(department.getId())).isPresent();
+	}
+
+	@Test
+	void employeesLoadedInTheSameTransactionSeeTheBulkUpdate() {
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			Employee loaded = employeeRepository.findById(employeeIds.get(0)).orElseThrow();
+			assertThat(loaded.getDepartment()).isNotNull();
+
+			departmentService.deleteDepartment(department.getId(), null,
+					DepartmentService.DeletionMode.REASSIGN, target.getId());
+
+			Employee reloaded = employeeRepository.findById(employeeIds.get(0)).orElseThrow();
+			assertThat(reloaded.getDepartment().getId()).isEqualTo(target.getId());
+			assertThat(reloaded.getVersion()).isEqualTo(1L);
+		});
+	}
+
+	private ResultActions perform(MockHttpServletRequestBuilder request) throws Exception {
+		ResultActions actions = mockMvc.perform(request.header(HttpHeaders.AUTHORIZATION, adminToken));
+		MvcResult result = actions.andReturn();
+		return result.getRequest().isAsyncStarted() ? mockMvc.perform(asyncDispatch(result)) : actions;
+	}
+
+	private String login(String username, String password) throws Exception {
+		String body = mockMvc.perform(post("/api/auth/login")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(Map.of("username", username, "password", password))))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		return "Bearer " + objectMapper.readTree(body).get("token").asText();
+	}
+}
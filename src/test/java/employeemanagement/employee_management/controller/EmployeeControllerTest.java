@@ -0,0 +1,291 @@
+package employeemanagement.employee_management.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import employeemanagement.employee_management.exception.GlobalExceptionHandler;
+import employeemanagement.employee_management.model.Department;
+import employeemanagement.employee_management.model.Employee;
+import employeemanagement.employee_management.repository.DepartmentRepository;
+import employeemanagement.employee_management.repository.EmployeeRepository;
+import employeemanagement.employee_management.service.EmployeeService;
+import employeemanagement.employee_management.service.IdempotencyService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * HTTP contracts of the employee API; every employee a test creates is deleted afterwards
+ */
+@SpringBootTest(properties = "rate-limit.enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EmployeeControllerTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private DepartmentRepository departmentRepository;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private GlobalExceptionHandler exceptionHandler;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private String adminToken;
+	private String run;
+	private final List<String> createdEmails = new ArrayList<>();
+	private final List<Department> createdDepartments = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() throws Exception {
+		adminToken = login("admin", "admin123");
+		run = UUID.randomUUID().toString().substring(0, 8);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		createdEmails.forEach(email -> employeeRepository.findByEmail(email).ifPresent(employeeRepository::delete));
+		createdDepartments.forEach(department -> departmentRepository.deleteById(department.getId()));
+	}
+
+	@Test
+	void databaseEndpointsAreServedAsynchronously() throws Exception {
+		MvcResult started = mockMvc.perform(get("/api/employees/statistics").header(HttpHeaders.AUTHORIZATION, adminToken))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		mockMvc.perform(asyncDispatch(started))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.totalEmployees").isNumber());
+	}
+
+	@Test
+	void getReturnsVersionAsETag() throws Exception {
+		Employee employee = existingEmployee();
+
+		perform(get("/api/employees/{id}", employee.getId()))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+	}
+
+	@Test
+	void updateWithCurrentIfMatchSucceedsAndReturnsNextETag() throws Exception {
+		Employee employee = existingEmployee();
+
+		perform(put("/api/employees/{id}", employee.getId())
+				.header(HttpHeaders.IF_MATCH, "\"0\"")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(Map.of("name", "Renamed", "email", employee.getEmail()))))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+				.andExpect(jsonPath("$.fullName").value("Renamed"));
+	}
+
+	@Test
+	void staleIfMatchIsRejectedWithCurrentETag() throws Exception {
+		Employee employee = existingEmployee();
+		perform(put("/api/employees/{id}", employee.getId())
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(Map.of("name", "First", "email", employee.getEmail()))))
+				.andExpect(status().isOk());
+
+		perform(put("/api/employees/{id}", employee.getId())
+				.header(HttpHeaders.IF_MATCH, "\"0\"")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(Map.of("name", "Second", "email", employee.getEmail()))))
+				.andExpect(status().isPreconditionFailed())
+				.andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+		perform(delete("/api/employees/{id}", employee.getId()).header(HttpHeaders.IF_MATCH, "\"0\""))
+				.andExpect(status().isPreconditionFailed());
+
+		assertThat(employeeRepository.findById(employee.getId()).orElseThrow().getName()).isEqualTo("First");
+	}
+
+	@Test
+	void concurrentUpdateFailsWithConflict() {
+		Employee employee = existingEmployee();
+		TransactionTemplate other = new TransactionTemplate(transactionManager);
+		other.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		// Both read version 0; the second to commit loses
+		assertThatThrownBy(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			employeeService.updateEmployee(employee.getId(), named("Slow"), 0L);
+			other.executeWithoutResult(concurrent -> employeeService.updateEmployee(employee.getId(), named("Fast"), 0L));
+		})).isInstanceOfSatisfying(ObjectOptimisticLockingFailureException.class, conflict ->
+				assertThat(exceptionHandler.handleOptimisticLockingFailure(conflict).getStatusCode().value()).isEqualTo(409));
+
+		Employee stored = employeeRepository.findById(employee.getId()).orElseThrow();
+		assertThat(stored.getName()).isEqualTo("Fast");
+		assertThat(stored.getVersion()).isEqualTo(1L);
+	}
+
+	@Test
+	void mergePatchNullClearsOptionalFieldsAndLeavesAbsentOnesAlone() throws Exception {
+		Department department = departmentRepository.save(new Department("Patch " + run));
+		createdDepartments.add(department);
+		Employee employee = existingEmployee(department);
+
+		Map<String, Object> patchBody = new HashMap<>();
+		patchBody.put("phone", null);
+		patchBody.put("department", null);
+		perform(mergePatch(employee.getId(), patchBody))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.contactNumber").doesNotExist())
+				.andExpect(jsonPath("$.department").doesNotExist())
+				.andExpect(jsonPath("$.fullName").value(employee.getName()))
+				.andExpect(jsonPath("$.email").value(employee.getEmail()));
+
+		Employee stored = employeeRepository.findById(employee.getId()).orElseThrow();
+		assertThat(stored.getPhone()).isNull();
+		assertThat(stored.getDepartment()).isNull();
+		assertThat(stored.getPosition()).isEqualTo("Engineer");
+	}
+
+	@Test
+	void mergePatchNullOnRequiredFieldIsRejected() throws Exception {
+		Employee employee = existingEmployee(null);
+
+		Map<String, Object> patchBody = new HashMap<>();
+		patchBody.put("name", null);
+		patchBody.put("phone", null);
+		perform(mergePatch(employee.getId(), patchBody))
+				.andExpect(status().isBadRequest());
+		perform(mergePatch(employee.getId(), Map.of("id", "EMP-OTHER")))
+				.andExpect(status().isBadRequest());
+
+		// A rejected patch is not applied in part
+		Employee stored = employeeRepository.findById(employee.getId()).orElseThrow();
+		assertThat(stored.getName()).isEqualTo(employee.getName());
+		assertThat(stored.getPhone()).isNotNull();
+		assertThat(stored.getVersion()).isZero();
+	}
+
+	@Test
+	void idempotentRetryReplaysOriginalResponse() throws Exception {
+		String key = "create-" + run;
+		String body = employeeJson("Replay");
+
+		String first = perform(post("/api/employees")
+				.header(IdempotencyService.HEADER, key)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(body))
+				.andExpect(status().isCreated())
+				.andReturn().getResponse().getContentAsString();
+
+		perform(post("/api/employees")
+				.header(IdempotencyService.HEADER, key)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(body))
+				.andExpect(status().isCreated())
+				.andExpect(header().string(IdempotencyService.REPLAYED_HEADER, "true"))
+				.andExpect(jsonPath("$.id").value(objectMapper.readTree(first).get("id").asText()));
+	}
+
+	@Test
+	void idempotencyKeyReusedWithDifferentBodyIsRejected() throws Exception {
+		String key = "create-" + run;
+		perform(post("/api/employees")
+				.header(IdempotencyService.HEADER, key)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(employeeJson("First")))
+				.andExpect(status().isCreated());
+
+		perform(post("/api/employees")
+				.header(IdempotencyService.HEADER, key)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(employeeJson("Second")))
+				.andExpect(status().isUnprocessableEntity());
+	}
+
+	private Employee existingEmployee() {
+		return existingEmployee(null);
+	}
+
+	private Employee existingEmployee(Department department) {
+		Employee employee = new Employee();
+		employee.setId("EMP-CTRL-" + run);
+		employee.setName("Controller " + run);
+		employee.setEmail("ctrl-" + run + "@example.com");
+		employee.setPhone("0901234567");
+		employee.setPosition("Engineer");
+		employee.setDepartment(department);
+		createdEmails.add(employee.getEmail());
+		return employeeRepository.save(employee);
+	}
+
+	private static Employee named(String name) {
+		Employee employee = new Employee();
+		employee.setName(name);
+		return employee;
+	}
+
+	private MockHttpServletRequestBuilder mergePatch(String id, Map<String, Object> body) throws Exception {
+		return patch("/api/employees/{id}", id)
+				.contentType(EmployeeController.MERGE_PATCH_JSON)
+				.content(objectMapper.writeValueAsString(body));
+	}
+
+	private String employeeJson(String name) throws Exception {
+		String email = name.toLowerCase() + "-" + run + "@example.com";
+		createdEmails.add(email);
+		return objectMapper.writeValueAsString(Map.of("name", name + " " + run, "email", email));
+	}
+
+	private ResultActions perform(MockHttpServletRequestBuilder request) throws Exception {
+		ResultActions actions = mockMvc.perform(request.header(HttpHeaders.AUTHORIZATION, adminToken));
+		MvcResult result = actions.andReturn();
+		return result.getRequest().isAsyncStarted() ? mockMvc.perform(asyncDispatch(result)) : actions;
+	}
+
+	private String login(String username, String password) throws Exception {
+		String body = mockMvc.perform(post("/api/auth/login")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(Map.of("username", username, "password", password))))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		return "Bearer " + objectMapper.readTree(body).get("token").asText();
+	}
+}
@@ -0,0 +1,60 @@
+package employeemanagement.employee_management.exception;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Data integrity violations: 409 only for unique keys, 400 otherwise, never the driver message
+ */
+class GlobalExceptionHandlerTest {
+
+	private static final String DRIVER_MESSAGE = "Duplicate entry 'john@example.com' for key 'employees.UK_email'";
+
+	private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+	@Test
+	void uniqueViolationIsAConflict() {
+		ResponseEntity<ApiError> response = handler.handleDataIntegrityViolation(violation(
+				ConstraintViolationException.ConstraintKind.UNIQUE, new SQLException(DRIVER_MESSAGE, "23000", 1062)));
+
+		assertThat(response.getStatusCode().value()).isEqualTo(409);
+		assertNoDriverDetails(response);
+	}
+
+	@Test
+	void duplicateEntryErrorCodeIsAConflict() {
+		ResponseEntity<ApiError> response = handler.handleDataIntegrityViolation(new DataIntegrityViolationException(
+				"could not execute statement", new SQLException(DRIVER_MESSAGE, "23000", 1062)));
+
+		assertThat(response.getStatusCode().value()).isEqualTo(409);
+	}
+
+	@Test
+	void otherViolationsAreBadRequests() {
+		ResponseEntity<ApiError> response = handler.handleDataIntegrityViolation(violation(
+				ConstraintViolationException.ConstraintKind.OTHER,
+				new SQLException("Column 'name' cannot be null", "23000", 1048)));
+
+		assertThat(response.getStatusCode().value()).isEqualTo(400);
+		assertNoDriverDetails(response);
+	}
+
+	private static DataIntegrityViolationException violation(ConstraintViolationException.ConstraintKind kind,
+	                                                         SQLException sqlException) {
+		return new DataIntegrityViolationException("could not execute statement",
+				new ConstraintViolationException("could not execute statement", sqlException, kind, "constraint"));
+	}
+
+	private static void assertNoDriverDetails(ResponseEntity<ApiError> response) {
+		ApiError body = response.getBody();
+		assertThat(body).isNotNull();
+		assertThat(body.getMessage()).doesNotContain("Duplicate entry", "cannot be null");
+		assertThat(body.getDetails()).noneMatch(detail -> detail.contains("Duplicate entry") || detail.contains("cannot be null"));
+	}
+}
@@ -0,0 +1,357 @@
+package employeemanagement.employee_management.observability;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import employeemanagement.employee_management.model.Department;
+import employeemanagement.employee_management.model.Employee;
+import employeemanagement.employee_management.repository.DepartmentRepository;
+import employeemanagement.employee_management.repository.EmployeeRepository;
+import employeemanagement.employee_management.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SQL statement budget of every controller endpoint, measured with caches cleared
+ * Budgets are the current statement counts: a failure lists what the endpoint ran,
+ * raise a budget only for a deliberate change
+ * Runs on the in-memory test database; every row a test creates carries a per-run key and is deleted afterwards
+ */
+@SpringBootTest(properties = {"query-metrics.budget.enabled=true", "rate-limit.enabled=false"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EndpointQueryBudgetTest {
+
+	private static final String RUN = UUID.randomUUID().toString().substring(0, 8);
+	private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Autowired
+	private DepartmentRepository departmentRepository;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private String adminToken;
+	private Department department;
+	private Employee employee;
+	private final List<String> createdDepartments = new ArrayList<>();
+	private final List<String> createdUsers = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() throws Exception {
+		adminToken = "Bearer " + login("admin", "admin123");
+		String key = key();
+		department = departmentRepository.save(new Department("Budget " + key, "Query budget department " + key));
+		employee = new Employee();
+		employee.setId("EMP-BUDGET-" + key);
+		employee.setName("Budget Employee " + key);
+		employee.setEmail("budget" + key + "@example.com");
+		employee.setPhone("0987654321");
+		employee.setPosition("Developer");
+		employee.setDepartment(department);
+		employee = employeeRepository.save(employee);
+		cacheManager.getCacheNames().forEach(name -> Objects.requireNonNull(cacheManager.getCache(name)).clear());
+	}
+
+	@AfterEach
+	void cleanUp() {
+		// Employees created through the API all go into the test department
+		employeeRepository.deleteAll(employeeRepository.findByDepartmentId(department.getId()));
+		employeeRepository.findById(employee.getId()).ifPresent(employeeRepository::delete);
+		departmentRepository.findById(department.getId()).ifPresent(departmentRepository::delete);
+		createdDepartments.forEach(name -> departmentRepository.findByName(name).ifPresent(departmentRepository::delete));
+		createdUsers.forEach(username -> userRepository.findByUsername(username).ifPresent(userRepository::delete));
+	}
+
+	// Authentication
+
+	@Test
+	void register() throws Exception {
+		String username = "budget" + key();
+		createdUsers.add(username);
+		QueryBudget.max(3).perform(mockMvc, post("/api/auth/register")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(json(Map.of("username", username, "password", "secret123"))))
+				.andExpect(status().isCreated());
+	}
+
+	@Test
+	void login() throws Exception {
+		QueryBudget.max(2).perform(mockMvc, post("/api/auth/login")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(json(Map.of("username", "admin", "password", "admin123"))))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void logout() throws Exception {
+		QueryBudget.max(1).perform(mockMvc, post("/api/auth/logout")
+						.header(HttpHeaders.AUTHORIZATION, "Bearer " + login("admin", "admin123")))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void revokeUserTokens() throws Exception {
+		QueryBudget.max(3).perform(mockMvc, post("/api/auth/users/{username}/revoke-tokens", "user")
+						.header(HttpHeaders.AUTHORIZATION, adminToken))
+				.andExpect(status().isOk());
+	}
+
+	// Employees
+
+	@Test
+	void appInfo() throws Exception {
+		QueryBudget.max(1).perform(mockMvc, get("/api/employees/info").header(HttpHeaders.AUTHORIZATION, adminToken))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void listEmployees() throws Exception {
+		QueryBudget.max(1).perform(mockMvc, get("/api/employees").header(HttpHeaders.AUTHORIZATION, adminToken))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void searchEmployeesByName() throws Exception {
+		QueryBudget.max(1).perform(mockMvc, get("/api/employees").param("name", "budget")
+						.header(HttpHeaders.AUTHORIZATION, adminToken))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void searchEmployeesByDepartment() throws Exception {
+		QueryBudget.max(1).perform(mockMvc, get("/api/employees").param("departmentName", "Budget")
+						.header(HttpHeaders.AUTHORIZATION, adminToken))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void getEmployee() throws Exception {
+		QueryBudget.max(1).perform(mockMvc, get("/api/employees/{id}", employee.getId())
+						.header(HttpHeaders.AUTHORIZATION, adminToken))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void createEmployee() throws Exception {
+		String n = key();
+		QueryBudget.max(2).perform(mockMvc, post("/api/employees")
+						.header(HttpHeaders.AUTHORIZATION, adminToken)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(json(Map.of("name", "created " + n, "email", "created" + n + "@example.com",
+								"phone", "0987654321", "position", "Tester", "department", Map.of("id", department.getId())))))
+				.andExpect(status().isCreated());
+	}
+
+	@Test
+	void updateEmployee() throws Exception {
+		QueryBudget.max(2).perform(mockMvc, put("/api/employees/{id}", employee.getId())
+						.header(HttpHeaders.AUTHORIZATION, adminToken)
+						.header(HttpHeaders.IF_MATCH, "\"" + employee.getVersion() + "\"")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(json(Map.of("name", "updated employee", "email", employee.getEmail(),
+								"phone", "0911222333", "position", "Lead", "department", Map.of("id", department.getId())))))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void patchEmployee() throws Exception {
+		QueryBudget.max(2).perform(mockMvc, patch("/api/employees/{id}", employee.getId())
+						.header(HttpHeaders.AUTHORIZATION, adminToken)
+						.contentType("application/merge-patch+json")
+						.content(json(Map.of("phone", "0911222333"))))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void deleteEmployee() throws Exception {
+		QueryBudget.max(2).perform(mockMvc, delete("/api/employees/{id}", employee.getId())
+						.header(HttpHeaders.AUTHORIZATION, adminToken))
+				.andExpect(status().isNoContent());
+	}
+
+	@Test
+	void demoEndpoints() throws Exception {
+		QueryBudget.max(0).perform(mockMvc, get("/api/employees/demo/format-name").param("name", "john doe")
+						.header(HttpHeaders.AUTHORIZATION, adminToken))
+				.andExpect(status().isOk());
+		QueryBudget.max(0).perform(mockMvc, get("/api/employees/demo/generate-password")
+						.header(HttpHeaders.AUTHORIZATION, adminToken))
+				.andExpect(status().isOk());
+		QueryBudget.max(0).perform(mockMvc, get("/api/employees/demo/validate-email").param("email", "a@b.cc")
+						.header(HttpHeaders.AUTHORIZATION, adminToken))
+				.andExpect(status().isOk());
+		// Reserves a block of codes on first use
+		QueryBudget.max(3).perform(mockMvc, get("/api/employees/demo/generate-code")
+						.header(HttpHeaders.AUTHORIZATION, adminToken))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void statistics() throws Exception {
+		QueryBudget.max(2).perform(mockMvc, get("/api/employees/statistics").header(HttpHeaders.AUTHORIZATION, adminToken))
+				.andExpect(status().isOk());
+	}
+
+	// Departments
+
+	@Test
+	void listDepartments() throws Exception {
+		QueryBudget.max(1).perform(mockMvc, get("/api/departments").header(HttpHeaders.AUTHORIZATION, adminToken))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void getDepartment() throws Exception {
+		QueryBudget.max(1).perform(mockMvc, get("/api/departments/{id}", department.getId())
+						.header(HttpHeaders.AUTHORIZATION, adminToken))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void createDepartment() throws Exception {
+		String n = key();
+		createdDepartments.add("Created " + n);
+		QueryBudget.max(2).perform(mockMvc, post("/api/departments")
+						.header(HttpHeaders.AUTHORIZATION, adminToken)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(json(Map.of("name", "Created " + n, "description", "Created department"))))
+				.andExpect(status().isCreated());
+	}
+
+	@Test
+	void updateDepartment() throws Exception {
+		QueryBudget.max(2).perform(mockMvc, put("/api/departments/{id}", department.getId())
+						.header(HttpHeaders.AUTHORIZATION, adminToken)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(json(Map.of("name", department.getName(), "description", "Updated description"))))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void deleteDepartment() throws Exception {
+		QueryBudget.max(3).perform(mockMvc, delete("/api/departments/{id}", department.getId())
+						.header(HttpHeaders.AUTHORIZATION, adminToken))
+				.andExpect(status().isNoContent());
+	}
+
+	@Test
+	void departmentEmployees() throws Exception {
+		QueryBudget.max(2).perform(mockMvc, get("/api/departments/{id}/employees", department.getId())
+						.header(HttpHeaders.AUTHORIZATION, adminToken))
+				.andExpect(status().isOk());
+	}
+
+	// Batch
+
+	@Test
+	void batch() throws Exception {
+		// The PATCH re-reads the employee the GET already loaded
+		QueryBudget.max(4).maxRepeats(2).perform(mockMvc, post("/api/batch")
+						.header(HttpHeaders.AUTHORIZATION, adminToken)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(json(Map.of("operations", List.of(
+								Map.of("id", "employee", "method", "GET", "path", "/api/employees/" + employee.getId()),
+								Map.of("id", "department", "method", "GET", "path", "/api/departments/" + department.getId()),
+								Map.of("id", "phone", "method", "PATCH", "path", "/api/employees/" + employee.getId(),
+										"body", Map.of("phone", "0911222333")))))))
+				.andExpect(status().isOk());
+	}
+
+	// Thymeleaf views
+
+	@Test
+	void employeeListPage() throws Exception {
+		QueryBudget.max(2).perform(mockMvc, get("/employees")).andExpect(status().isOk());
+	}
+
+	@Test
+	void createEmployeeForm() throws Exception {
+		QueryBudget.max(1).perform(mockMvc, get("/employees/new")).andExpect(status().isOk());
+	}
+
+	@Test
+	void createEmployeeFromForm() throws Exception {
+		String n = key();
+		QueryBudget.max(2).perform(mockMvc, post("/employees")
+						.param("name", "form employee " + n)
+						.param("email", "form" + n + "@example.com")
+						.param("departmentId", String.valueOf(department.getId())))
+				.andExpect(status().is3xxRedirection());
+	}
+
+	@Test
+	void editEmployeeForm() throws Exception {
+		QueryBudget.max(2).perform(mockMvc, get("/employees/{id}/edit", employee.getId())).andExpect(status().isOk());
+	}
+
+	@Test
+	void updateEmployeeFromForm() throws Exception {
+		QueryBudget.max(2).perform(mockMvc, post("/employees/{id}", employee.getId())
+						.param("name", "form update")
+						.param("email", employee.getEmail())
+						.param("departmentId", String.valueOf(department.getId())))
+				.andExpect(status().is3xxRedirection());
+	}
+
+	@Test
+	void deleteEmployeeFromForm() throws Exception {
+		QueryBudget.max(2).perform(mockMvc, post("/employees/{id}/delete", employee.getId()))
+				.andExpect(status().is3xxRedirection());
+	}
+
+	@Test
+	void hello() throws Exception {
+		QueryBudget.max(0).perform(mockMvc, get("/hello").header(HttpHeaders.AUTHORIZATION, adminToken))
+				.andExpect(status().isOk());
+	}
+
+	private String login(String username, String password) throws Exception {
+		String body = mockMvc.perform(post("/api/auth/login")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(json(Map.of("username", username, "password", password))))
+				.andReturn().getResponse().getContentAsString();
+		return objectMapper.readTree(body).get("token").asText();
+	}
+
+	private static String key() {
+		return RUN + "-" + SEQUENCE.incrementAndGet();
+	}
+
+	private String json(Object value) throws Exception {
+		return objectMapper.writeValueAsString(value);
+	}
+}
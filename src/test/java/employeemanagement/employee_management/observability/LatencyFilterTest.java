@@ -0,0 +1,46 @@
+package employeemanagement.employee_management.observability;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Requests rejected before reaching their handler are still booked under their route pattern
+ */
+@SpringBootTest(properties = "rate-limit.enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class LatencyFilterTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private RouteLatencyRegistry registry;
+
+	@Test
+	void requestRejectedBySecurityCountsAgainstItsRoute() throws Exception {
+		long before = clientErrors("GET", "/api/employees/{id}");
+
+		mockMvc.perform(get("/api/employees/EMP-1"))
+				.andExpect(status().is4xxClientError());
+
+		assertThat(clientErrors("GET", "/api/employees/{id}")).isEqualTo(before + 1);
+		assertThat(clientErrors("GET", "UNKNOWN")).isZero();
+	}
+
+	private long clientErrors(String method, String uri) {
+		return registry.report().routes().stream()
+				.filter(route -> route.method().equals(method) && route.uri().equals(uri))
+				.map(route -> route.window().statusClasses().get("4xx"))
+				.mapToLong(latency -> latency == null ? 0 : latency.count())
+				.sum();
+	}
+}
@@ -0,0 +1,75 @@
+package employeemanagement.employee_management.observability;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+
+/**
+ * Statement budget of a MockMvc request
+ * Performs the request (following a Callable to its async dispatch) and fails when it issued
+ * more SQL statements than allowed or ran one statement shape more than maxRepeats times:
+ * <pre>
+ * QueryBudget.max(2).perform(mockMvc, get("/api/employees/{id}", id)).andExpect(status().isOk());
+ * </pre>
+ * Needs query-metrics.budget.enabled=true so statements are grouped by shape.
+ */
+final class QueryBudget {
+
+	private final int maxStatements;
+	private int maxRepeats = 1;
+
+	private QueryBudget(int maxStatements) {
+		this.maxStatements = maxStatements;
+	}
+
+	static QueryBudget max(int maxStatements) {
+		return new QueryBudget(maxStatements);
+	}
+
+	/**
+	 * Allow the same statement to run this many times (default once)
+	 */
+	QueryBudget maxRepeats(int maxRepeats) {
+		this.maxRepeats = maxRepeats;
+		return this;
+	}
+
+	ResultActions perform(MockMvc mockMvc, RequestBuilder request) throws Exception {
+		ResultActions actions = mockMvc.perform(request);
+		MvcResult result = actions.andReturn();
+		if (result.getRequest().isAsyncStarted()) {
+			result.getAsyncResult();
+			actions = mockMvc.perform(asyncDispatch(result));
+		}
+
+		RequestQueryStats stats = (RequestQueryStats) result.getRequest().getAttribute(QueryMetricsFilter.STATS_ATTRIBUTE);
+		if (stats == null || stats.getBudget() == null) {
+			throw new IllegalStateException("Statements are not tracked: enable query-metrics.budget");
+		}
+		String endpoint = result.getRequest().getMethod() + " " + result.getRequest().getRequestURI();
+		Map<String, Integer> shapes = stats.getStatementShapes();
+		if (stats.getStatementCount() > maxStatements) {
+			throw new AssertionError(endpoint + " issued " + stats.getStatementCount()
+					+ " statements, budget " + maxStatements + describe(shapes));
+		}
+		shapes.forEach((sql, count) -> {
+			if (count > maxRepeats) {
+				throw new AssertionError(endpoint + " ran the same statement " + count
+						+ " times, at most " + maxRepeats + " allowed (N+1?): " + sql + describe(shapes));
+			}
+		});
+		return actions;
+	}
+
+	private static String describe(Map<String, Integer> shapes) {
+		return shapes.entrySet().stream()
+				.map(entry -> "\n  " + entry.getValue() + "x " + entry.getKey())
+				.collect(Collectors.joining());
+	}
+}
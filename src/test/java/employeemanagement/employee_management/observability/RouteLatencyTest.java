@@ -0,0 +1,64 @@
+package employeemanagement.employee_management.observability;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * The window report splits latency by status class and counts slow and failed requests against
+ * the objective; the lifetime totals survive rotation
+ */
+class RouteLatencyTest {
+
+	private final RouteLatency route = new RouteLatency("GET", "/api/employees/{id}", 100, 0.99, 2);
+
+	@Test
+	void reportSplitsByStatusClassAndCountsSlowAndFailedRequests() {
+		route.record(200, millis(50));
+		route.record(200, millis(150));
+		route.record(404, millis(20));
+		route.record(503, millis(400));
+
+		SloReport.Route report = route.report();
+
+		assertThat(report.method()).isEqualTo("GET");
+		assertThat(report.latencyThresholdMs()).isEqualTo(100);
+		assertThat(report.window().statusClasses()).containsOnlyKeys("2xx", "4xx", "5xx");
+		assertThat(report.window().statusClasses().get("2xx").count()).isEqualTo(2);
+		assertThat(report.window().statusClasses().get("2xx").max()).isCloseTo(150, within(2.0));
+		assertThat(report.window().requests()).isEqualTo(4);
+		// The 5xx counts as an error only, not also as slow
+		assertThat(report.window().slow()).isEqualTo(1);
+		assertThat(report.window().errors()).isEqualTo(1);
+		// Half the requests were bad against an allowance of 1%
+		assertThat(report.window().burnRate()).isCloseTo(50.0, within(1e-9));
+		assertThat(report.window().budgetRemaining()).isCloseTo(-49.0, within(1e-9));
+		assertThat(report.total()).isEqualTo(new SloReport.Totals(4, 1, 1));
+	}
+
+	@Test
+	void rotationEmptiesTheWindowButKeepsTotals() {
+		route.record(200, millis(150));
+		route.rotate();
+		route.record(500, millis(10));
+
+		assertThat(route.report().window().requests()).isEqualTo(2);
+		route.rotate();
+		assertThat(route.report().window().requests()).isEqualTo(1);
+		assertThat(route.report().window().errors()).isEqualTo(1);
+		route.rotate();
+
+		SloReport.Route report = route.report();
+		assertThat(report.window().requests()).isZero();
+		assertThat(report.window().burnRate()).isZero();
+		assertThat(report.window().statusClasses()).isEmpty();
+		assertThat(report.total()).isEqualTo(new SloReport.Totals(2, 1, 1));
+	}
+
+	private static long millis(long ms) {
+		return TimeUnit.MILLISECONDS.toNanos(ms);
+	}
+}
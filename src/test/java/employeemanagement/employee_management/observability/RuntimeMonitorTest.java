@@ -0,0 +1,106 @@
+package employeemanagement.employee_management.observability;
+
+import employeemanagement.employee_management.config.RuntimeMonitorProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Readiness is withdrawn after degrade-after breaching samples and given back after recover-after
+ * healthy ones, but only if the monitor was the one that withdrew it
+ */
+class RuntimeMonitorTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ApplicationAvailabilityBean availability = new ApplicationAvailabilityBean();
+	private final ApplicationEventPublisher publisher =
+			event -> availability.onApplicationEvent((AvailabilityChangeEvent<?>) event);
+	private final AtomicInteger queued = new AtomicInteger();
+	private RuntimeMonitor monitor;
+
+	@BeforeEach
+	void setUp() {
+		RuntimeMonitorProperties properties = new RuntimeMonitorProperties();
+		properties.setDegradeAfter(2);
+		properties.setRecoverAfter(2);
+		properties.setHistory(3);
+		// Only the queue threshold can be crossed, whatever the JVM running the test looks like
+		RuntimeMonitorProperties.Thresholds thresholds = properties.getThresholds();
+		thresholds.setHeapUsage(2);
+		thresholds.setGcTimeRatio(2);
+		thresholds.setBlockedThreads(Integer.MAX_VALUE);
+		thresholds.setQueuedRequests(10);
+		Gauge.builder("workload.executor.queued", queued, AtomicInteger::get)
+				.tag("class", "reporting")
+				.register(meterRegistry);
+		monitor = new RuntimeMonitor(properties, meterRegistry, publisher, availability);
+		AvailabilityChangeEvent.publish(publisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+	}
+
+	@Test
+	void degradesAfterConsecutiveBreachesAndRecoversAfterConsecutiveHealthySamples() {
+		queued.set(10);
+		monitor.monitor();
+		assertThat(monitor.isDegraded()).isFalse();
+		assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+
+		monitor.monitor();
+		assertThat(monitor.isDegraded()).isTrue();
+		assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.REFUSING_TRAFFIC);
+		assertThat(meterRegistry.get("runtime.degraded").gauge().value()).isEqualTo(1);
+		RuntimeReport report = monitor.report();
+		assertThat(report.breaches()).singleElement().asString().startsWith("queuedRequests 10");
+		assertThat(report.latest().queues()).containsEntry("executor:reporting", 10L);
+
+		queued.set(0);
+		monitor.monitor();
+		assertThat(monitor.isDegraded()).isTrue();
+
+		monitor.monitor();
+		assertThat(monitor.isDegraded()).isFalse();
+		assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+		assertThat(meterRegistry.get("runtime.degraded").gauge().value()).isZero();
+		assertThat(monitor.report().history()).hasSize(3);
+	}
+
+	@Test
+	void healthySampleResetsTheBreachCount() {
+		queued.set(10);
+		monitor.monitor();
+		queued.set(0);
+		monitor.monitor();
+		queued.set(10);
+		monitor.monitor();
+
+		assertThat(monitor.isDegraded()).isFalse();
+		assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+	}
+
+	@Test
+	void readinessWithdrawnElsewhereIsLeftAloneOnRecovery() {
+		queued.set(10);
+		monitor.monitor();
+		monitor.monitor();
+		assertThat(monitor.isDegraded()).isTrue();
+
+		// A shutdown in progress takes readiness away in the meantime
+		Object shutdown = new Object();
+		AvailabilityChangeEvent.publish(publisher, shutdown, ReadinessState.REFUSING_TRAFFIC);
+		queued.set(0);
+		monitor.monitor();
+		monitor.monitor();
+
+		assertThat(monitor.isDegraded()).isFalse();
+		assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.REFUSING_TRAFFIC);
+		assertThat(availability.getLastChangeEvent(ReadinessState.class).getSource()).isSameAs(shutdown);
+	}
+}
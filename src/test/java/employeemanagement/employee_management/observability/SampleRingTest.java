@@ -0,0 +1,49 @@
+package employeemanagement.employee_management.observability;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The ring keeps the most recent samples, newest first, and overwrites the oldest once full
+ */
+class SampleRingTest {
+
+	@Test
+	void keepsTheNewestSamplesNewestFirst() {
+		SampleRing<Integer> ring = new SampleRing<>(3);
+		ring.add(1);
+		ring.add(2);
+
+		assertThat(ring.newestFirst()).containsExactly(2, 1);
+
+		ring.add(3);
+		ring.add(4);
+		ring.add(5);
+
+		assertThat(ring.newestFirst()).containsExactly(5, 4, 3);
+	}
+
+	@Test
+	void clearEmptiesTheRingAndItFillsAgain() {
+		SampleRing<Integer> ring = new SampleRing<>(2);
+		ring.add(1);
+		ring.add(2);
+		ring.add(3);
+
+		ring.clear();
+		assertThat(ring.newestFirst()).isEmpty();
+
+		ring.add(4);
+		assertThat(ring.newestFirst()).containsExactly(4);
+	}
+
+	@Test
+	void capacityIsAtLeastOne() {
+		SampleRing<String> ring = new SampleRing<>(0);
+		ring.add("first");
+		ring.add("second");
+
+		assertThat(ring.newestFirst()).containsExactly("second");
+	}
+}
@@ -0,0 +1,108 @@
+package employeemanagement.employee_management.observability;
+
+import employeemanagement.employee_management.config.SamplerProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Only requests and statements over their threshold are kept; a sample explains where the time
+ * went, and statement parameters are redacted unless configured otherwise
+ */
+class SlowRequestSamplerTest {
+
+	private static final Object[] PARAMETERS = {"alice@example.com", 42, null, LocalDate.of(2024, 1, 2), new byte[16]};
+
+	@Test
+	void fastRequestIsNotSampled() {
+		SlowRequestSampler sampler = sampler(true);
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employees/EMP-1");
+		RequestTimeline timeline = sampler.start(request, System.nanoTime());
+
+		sampler.complete(request, timeline, "/api/employees/{id}", 200, millis(999));
+
+		assertThat(sampler.samples().requests()).isEmpty();
+	}
+
+	@Test
+	void slowRequestIsSampledWithItsBreakdownAndStack() {
+		SlowRequestSampler sampler = sampler(true);
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employees/EMP-1");
+		RequestTimeline timeline = sampler.start(request, System.nanoTime() - millis(2_000));
+		timeline.principal = "alice";
+		timeline.add(RequestTimeline.Phase.AUTH, millis(10));
+		timeline.add(RequestTimeline.Phase.HANDLER, millis(500));
+		timeline.add(RequestTimeline.Phase.SERIALIZATION, millis(100));
+
+		// The watchdog snapshots the serving thread while the request is still running
+		sampler.captureSlowInFlight();
+		sampler.complete(request, timeline, "/api/employees/{id}", 200, millis(2_000));
+
+		assertThat(RequestTimeline.of(request)).isSameAs(timeline);
+		assertThat(sampler.samples().requests()).singleElement().satisfies(sample -> {
+			assertThat(sample.route()).isEqualTo("/api/employees/{id}");
+			assertThat(sample.principal()).isEqualTo("alice");
+			assertThat(sample.durationMs()).isCloseTo(2_000, within(1e-6));
+			assertThat(sample.breakdown()).containsEntry("auth", 10.0)
+					.containsEntry("service", 400.0)
+					.containsEntry("db", 0.0)
+					.containsEntry("serialization", 100.0)
+					.containsEntry("other", 1_490.0);
+			assertThat(sample.stack()).isNotEmpty().hasSizeLessThanOrEqualTo(5)
+					.noneMatch(frame -> frame.startsWith("java.lang.Thread."));
+		});
+	}
+
+	@Test
+	void slowQueryParametersAreRedactedByDefault() {
+		SlowRequestSampler sampler = sampler(true);
+
+		sampler.sampleQuery("select * from employees where email = ?", PARAMETERS, PARAMETERS.length, 1, millis(300));
+
+		assertThat(sampler.samples().queries()).singleElement().satisfies(sample -> {
+			assertThat(sample.parameters())
+					.containsExactly("<String, 17 chars>", "42", "NULL", "2024-01-02", "<byte[]>");
+			assertThat(sample.rows()).isEqualTo(1);
+			assertThat(sample.endpoint()).isNull();
+			assertThat(sample.stack()).isNotEmpty();
+		});
+	}
+
+	@Test
+	void slowQueryParametersAreShownWhenRedactionIsOff() {
+		SlowRequestSampler sampler = sampler(false);
+
+		// Only the bound parameters are described, not the rest of a reused array
+		sampler.sampleQuery("select * from employees where email = ?", PARAMETERS, 1, 0, millis(300));
+
+		assertThat(sampler.samples().queries()).singleElement()
+				.satisfies(sample -> assertThat(sample.parameters()).containsExactly("'alice@example.com'"));
+	}
+
+	@Test
+	void queryThresholdAndDisabledSampler() {
+		SlowRequestSampler sampler = sampler(true);
+		SamplerProperties off = new SamplerProperties();
+		off.setEnabled(false);
+
+		assertThat(sampler.isSlowQuery(millis(199))).isFalse();
+		assertThat(sampler.isSlowQuery(millis(200))).isTrue();
+		assertThat(new SlowRequestSampler(off).isSlowQuery(millis(10_000))).isFalse();
+	}
+
+	private static SlowRequestSampler sampler(boolean redactParameters) {
+		SamplerProperties properties = new SamplerProperties();
+		properties.setRedactParameters(redactParameters);
+		properties.setMaxStackDepth(5);
+		return new SlowRequestSampler(properties);
+	}
+
+	private static long millis(long ms) {
+		return TimeUnit.MILLISECONDS.toNanos(ms);
+	}
+}
@@ -0,0 +1,62 @@
+package employeemanagement.employee_management.observability;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * A recorded value stays in the window until every slice has rotated past it, and reading the
+ * window does not consume it
+ */
+class WindowedHistogramTest {
+
+	@Test
+	void valueLeavesTheWindowOnceItsSliceIsReused() {
+		WindowedHistogram histogram = new WindowedHistogram(3);
+		histogram.record(1_000);
+
+		assertThat(histogram.snapshot().getTotalCount()).isEqualTo(1);
+		histogram.rotate();
+		histogram.record(2_000);
+		histogram.rotate();
+
+		assertThat(histogram.snapshot().getTotalCount()).isEqualTo(2);
+		histogram.rotate();
+
+		Histogram window = histogram.snapshot();
+		assertThat(window.getTotalCount()).isEqualTo(1);
+		assertThat(window.getMaxValue()).isCloseTo(2_000, within(20L));
+	}
+
+	@Test
+	void snapshotIncludesTheSliceInProgressWithoutDrainingIt() {
+		WindowedHistogram histogram = new WindowedHistogram(2);
+		for (int i = 1; i <= 100; i++) {
+			histogram.record(i * 1_000L);
+		}
+
+		Histogram first = histogram.snapshot();
+		Histogram second = histogram.snapshot();
+
+		assertThat(first.getTotalCount()).isEqualTo(100);
+		assertThat(second.getTotalCount()).isEqualTo(100);
+		assertThat(second.getValueAtPercentile(50)).isCloseTo(50_000, within(500L));
+	}
+
+	@Test
+	void valuesOutsideTheTrackableRangeAreClamped() {
+		WindowedHistogram histogram = new WindowedHistogram(1);
+		histogram.record(0);
+		histogram.record(-5);
+		histogram.record(10 * WindowedHistogram.HIGHEST_TRACKABLE_MICROS);
+
+		Histogram window = histogram.snapshot();
+
+		assertThat(window.getTotalCount()).isEqualTo(3);
+		assertThat(window.getMinValue()).isEqualTo(1);
+		assertThat(window.getMaxValue()).isCloseTo(WindowedHistogram.HIGHEST_TRACKABLE_MICROS,
+				within(WindowedHistogram.HIGHEST_TRACKABLE_MICROS / 100));
+	}
+}
@@ -0,0 +1,100 @@
+package employeemanagement.employee_management.security;
+
+import employeemanagement.employee_management.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Hashing runs on the bounded pool and sheds with PasswordHashingUnavailableException once the queue is full
+ */
+class BoundedPasswordEncoderTest {
+
+	private static final int COST = 4;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ThreadPoolTaskExecutor executor = executor(1, 1);
+	private final BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(COST, executor, meterRegistry);
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		executor.shutdown();
+	}
+
+	@Test
+	void hashesOnThePool() {
+		String hash = encoder.encode("secret");
+
+		assertThat(encoder.matches("secret", hash)).isTrue();
+		assertThat(encoder.matches("other", hash)).isFalse();
+		assertThat(meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count()).isEqualTo(2);
+	}
+
+	@Test
+	void saturatedPoolShedsInsteadOfQueueingUnbounded() throws Exception {
+		CountDownLatch running = new CountDownLatch(1);
+		executor.execute(() -> {
+			running.countDown();
+			await(release);
+		});
+		assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+		// Fills the single queue slot
+		executor.execute(() -> await(release));
+
+		assertThatThrownBy(() -> encoder.encode("secret"))
+				.isInstanceOf(PasswordHashingUnavailableException.class);
+		assertThat(meterRegistry.get("auth.password.hash.rejected").counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("auth.password.hash.queue").gauge().value()).isEqualTo(1);
+
+		release.countDown();
+		awaitDrained(executor);
+		assertThat(encoder.matches("secret", encoder.encode("secret"))).isTrue();
+	}
+
+	@Test
+	void hashesWithAnotherCostNeedUpgrade() {
+		String current = encoder.encode("secret");
+		String weaker = new BoundedPasswordEncoder(COST + 1, executor, new SimpleMeterRegistry()).encode("secret");
+
+		assertThat(encoder.upgradeEncoding(current)).isFalse();
+		assertThat(encoder.upgradeEncoding(weaker)).isTrue();
+		assertThat(encoder.upgradeEncoding("plain-text")).isFalse();
+		assertThat(BoundedPasswordEncoder.costOf("$2a$12$abcdefghijklmnopqrstuv")).isEqualTo(12);
+		assertThat(BoundedPasswordEncoder.costOf("$2a$x1$abcdefghijklmnopqrstuv")).isEqualTo(-1);
+	}
+
+	private static ThreadPoolTaskExecutor executor(int threads, int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.initialize();
+		return executor;
+	}
+
+	private static void awaitDrained(ThreadPoolTaskExecutor executor) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (executor.getQueueSize() > 0 && System.nanoTime() < deadline) {
+			Thread.sleep(5);
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
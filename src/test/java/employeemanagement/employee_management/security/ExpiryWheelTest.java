@@ -0,0 +1,77 @@
+package employeemanagement.employee_management.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Entries leave the map once their tick has fully elapsed, and only if the map still holds
+ * the value they were scheduled with
+ */
+class ExpiryWheelTest {
+
+	private static final long TICK = 1_000;
+	private static final long HORIZON = 10_000;
+	private static final long START = 1_000_000;
+
+	private final Map<String, Long> map = new ConcurrentHashMap<>();
+	private final ExpiryWheel<String, Long> wheel = new ExpiryWheel<>(map, TICK, HORIZON, START);
+
+	@Test
+	void entryIsRemovedOnceItsTickHasElapsed() {
+		put("a", START + 2_500);
+
+		wheel.advance(START + 2_999);
+		assertThat(map).containsKey("a");
+
+		wheel.advance(START + 3_000);
+		assertThat(map).doesNotContainKey("a");
+	}
+
+	@Test
+	void entriesBeyondOneRevolutionSurviveEarlierPasses() {
+		// Lands in the same slot as START + 500 but one revolution later
+		long slots = HORIZON / TICK + 1;
+		put("later", START + 500 + slots * TICK);
+		put("now", START + 500);
+
+		wheel.advance(START + 1_000);
+		assertThat(map).containsOnlyKeys("later");
+
+		wheel.advance(START + (slots + 1) * TICK);
+		assertThat(map).isEmpty();
+	}
+
+	@Test
+	void replacedValueIsNotRemovedByStaleSchedule() {
+		put("a", START + 500);
+		map.put("a", START + 5_500);
+		wheel.schedule("a", START + 5_500, START + 5_500);
+
+		wheel.advance(START + 1_000);
+		assertThat(map).containsEntry("a", START + 5_500);
+
+		wheel.advance(START + 6_000);
+		assertThat(map).isEmpty();
+	}
+
+	@Test
+	void longPauseExpiresEverythingDue() {
+		for (int i = 0; i < 100; i++) {
+			put("k" + i, START + i * 100L);
+		}
+		put("future", START + 100 * HORIZON);
+
+		wheel.advance(START + 50 * HORIZON);
+
+		assertThat(map).containsOnlyKeys("future");
+	}
+
+	private void put(String key, long expiresAt) {
+		map.put(key, expiresAt);
+		wheel.schedule(key, expiresAt, expiresAt);
+	}
+}
@@ -0,0 +1,151 @@
+package employeemanagement.employee_management.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import employeemanagement.employee_management.model.User;
+import employeemanagement.employee_management.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tokens are checked against the current account: disabled users and tokens issued before
+ * the last account change are rejected once the cached user is refreshed
+ */
+@SpringBootTest(properties = "rate-limit.enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class JwtAuthenticationFilterTest {
+
+	private static final String PASSWORD = "secret123";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@Autowired
+	private UserDetailsCache userDetailsCache;
+
+	private String username;
+
+	@BeforeEach
+	void setUp() {
+		username = "jwt-" + UUID.randomUUID().toString().substring(0, 8);
+		User user = new User(username, passwordEncoder.encode(PASSWORD));
+		user.addRole("USER");
+		userRepository.save(user);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		userRepository.findByUsername(username).ifPresent(userRepository::delete);
+		userDetailsCache.evict(username);
+	}
+
+	@Test
+	void currentTokenAuthenticates() throws Exception {
+		String token = login();
+
+		mockMvc.perform(get("/api/employees").header(HttpHeaders.AUTHORIZATION, token))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void disabledUserIsRejected() throws Exception {
+		String token = login();
+		User user = userRepository.findByUsername(username).orElseThrow();
+		user.setEnabled(false);
+		userRepository.save(user);
+		// As after the cache TTL
+		userDetailsCache.evict(username);
+
+		mockMvc.perform(get("/api/employees").header(HttpHeaders.AUTHORIZATION, token))
+				.andExpect(status().isForbidden());
+	}
+
+	@Test
+	void tokenOlderThanAccountChangeIsRejected() throws Exception {
+		String token = login();
+		Thread.sleep(5);
+		User user = userRepository.findByUsername(username).orElseThrow();
+		user.addRole("ADMIN");
+		userRepository.save(user);
+		userDetailsCache.evict(username);
+
+		mockMvc.perform(get("/api/employees").header(HttpHeaders.AUTHORIZATION, token))
+				.andExpect(status().isForbidden());
+		mockMvc.perform(get("/api/employees").header(HttpHeaders.AUTHORIZATION, login()))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void userRevocationRefreshesCachedAccount() throws Exception {
+		String token = login();
+		User user = userRepository.findByUsername(username).orElseThrow();
+		user.setEnabled(false);
+		userRepository.save(user);
+
+		// Still the cached account until it expires or is evicted
+		mockMvc.perform(get("/api/employees").header(HttpHeaders.AUTHORIZATION, token))
+				.andExpect(status().isOk());
+
+		mockMvc.perform(post("/api/auth/users/{username}/revoke-tokens", username)
+						.header(HttpHeaders.AUTHORIZATION, adminToken()))
+				.andExpect(status().isOk());
+		mockMvc.perform(get("/api/employees").header(HttpHeaders.AUTHORIZATION, token))
+				.andExpect(status().isForbidden());
+	}
+
+	@Test
+	void loggedOutTokenIsRejected() throws Exception {
+		String token = login();
+		String other = login();
+
+		mockMvc.perform(post("/api/auth/logout").header(HttpHeaders.AUTHORIZATION, token))
+				.andExpect(status().isOk());
+
+		mockMvc.perform(get("/api/employees").header(HttpHeaders.AUTHORIZATION, token))
+				.andExpect(status().isForbidden());
+		mockMvc.perform(get("/api/employees").header(HttpHeaders.AUTHORIZATION, other))
+				.andExpect(status().isOk());
+	}
+
+	private String login() throws Exception {
+		return login(username, PASSWORD);
+	}
+
+	private String adminToken() throws Exception {
+		return login("admin", "admin123");
+	}
+
+	private String login(String username, String password) throws Exception {
+		String body = mockMvc.perform(post("/api/auth/login")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(Map.of("username", username, "password", password))))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		return "Bearer " + objectMapper.readTree(body).get("token").asText();
+	}
+}
@@ -0,0 +1,114 @@
+package employeemanagement.employee_management.security;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tokens are verified once and then served from the cache; anything that is not exactly
+ * the token that was verified must go through full verification again
+ */
+class JwtTokenProviderTest {
+
+	private static final String SECRET = "testSecretKeyForJwtTokenProviderTests-0123456789";
+	private static final long HOUR = 3_600_000;
+
+	private final JwtTokenProvider provider = new JwtTokenProvider(SECRET, HOUR, 100);
+
+	@Test
+	void repeatedParseIsServedFromCache() {
+		String token = provider.generateToken("alice");
+
+		Claims first = provider.parseToken(token).orElseThrow();
+		Claims second = provider.parseToken(token).orElseThrow();
+
+		assertThat(second).isSameAs(first);
+		assertThat(provider.getVerifiedTokenCacheSize()).isEqualTo(1);
+		assertThat(provider.getUsernameFromToken(token)).isEqualTo("alice");
+	}
+
+	@Test
+	void claimsTokenCarriesRolesAndStamp() {
+		String token = provider.generateToken("alice", List.of("ROLE_ADMIN", "ROLE_USER"), 42L);
+
+		Claims claims = provider.parseToken(token).orElseThrow();
+
+		assertThat(claims.getSubject()).isEqualTo("alice");
+		assertThat(claims.getId()).isNotBlank();
+		assertThat(claims.get(JwtTokenProvider.ROLES_CLAIM, List.class)).containsExactly("ROLE_ADMIN", "ROLE_USER");
+		assertThat(claims.get(JwtTokenProvider.STAMP_CLAIM, Long.class)).isEqualTo(42L);
+	}
+
+	@Test
+	void tamperedPayloadDoesNotHitCachedEntry() {
+		String token = provider.generateToken("alice", List.of("ROLE_USER"), 1L);
+		assertThat(provider.parseToken(token)).isPresent();
+
+		String[] parts = token.split("\\.");
+		String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+				.replace("ROLE_USER", "ROLE_ADMIN");
+		String forged = parts[0] + "." + Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + "." + parts[2];
+
+		assertThat(provider.parseToken(forged)).isEmpty();
+		assertThat(provider.getVerifiedTokenCacheSize()).isEqualTo(1);
+	}
+
+	@Test
+	void tokenSignedWithAnotherKeyIsRejected() {
+		JwtTokenProvider other = new JwtTokenProvider(SECRET.replace('t', 'x'), HOUR, 100);
+
+		assertThat(provider.parseToken(other.generateToken("alice"))).isEmpty();
+		assertThat(provider.validateToken("not-a-jwt")).isFalse();
+		assertThat(provider.getVerifiedTokenCacheSize()).isZero();
+	}
+
+	@Test
+	void expiredTokenIsRejectedAndNotCached() {
+		JwtTokenProvider expiring = new JwtTokenProvider(SECRET, -1_000, 100);
+
+		assertThat(expiring.parseToken(expiring.generateToken("alice"))).isEmpty();
+		assertThat(expiring.getVerifiedTokenCacheSize()).isZero();
+	}
+
+	@Test
+	void cacheIsBounded() {
+		JwtTokenProvider small = new JwtTokenProvider(SECRET, HOUR, 10);
+
+		for (int i = 0; i < 50; i++) {
+			assertThat(small.parseToken(small.generateToken("user-" + i))).isPresent();
+		}
+
+		assertThat(small.getVerifiedTokenCacheSize()).isLessThanOrEqualTo(10);
+	}
+
+	@Test
+	void cachingCanBeDisabled() {
+		JwtTokenProvider uncached = new JwtTokenProvider(SECRET, HOUR, 0);
+		String token = uncached.generateToken("alice");
+
+		assertThat(uncached.parseToken(token)).isPresent();
+		assertThat(uncached.parseToken(token)).isPresent();
+		assertThat(uncached.getVerifiedTokenCacheSize()).isZero();
+	}
+
+	@Test
+	void cachedEntryExpiresWithTheToken() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(10);
+		String token = provider.generateToken("alice");
+		Claims claims = provider.parseToken(token).orElseThrow();
+		long expiresAt = claims.getExpiration().getTime();
+		String hash = VerifiedTokenCache.hash(token);
+
+		cache.put(hash, claims, expiresAt - HOUR);
+
+		assertThat(cache.get(hash, expiresAt - 1)).isSameAs(claims);
+		assertThat(cache.get(hash, expiresAt)).isNull();
+		assertThat(cache.size()).isZero();
+	}
+}
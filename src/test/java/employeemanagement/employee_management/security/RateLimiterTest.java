@@ -0,0 +1,86 @@
+package employeemanagement.employee_management.security;
+
+import employeemanagement.employee_management.config.RateLimitProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Route matching, the stricter of the per-user and per-IP buckets, and bounded bucket tracking
+ */
+class RateLimiterTest {
+
+	private static RateLimiter limiter(int maxBuckets) {
+		RateLimitProperties properties = new RateLimitProperties();
+		properties.setMaxBuckets(maxBuckets);
+		// Refill slow enough that no token comes back during the test
+		properties.setGroups(List.of(
+				new RateLimitProperties.Group("auth", List.of("/api/auth/**"), null, new RateLimitProperties.Limit(2, 0.001)),
+				new RateLimitProperties.Group("api", List.of("/api/**"),
+						new RateLimitProperties.Limit(3, 0.001), new RateLimitProperties.Limit(5, 0.001))));
+		return new RateLimiter(properties);
+	}
+
+	@Test
+	void unmatchedPathsAreNotLimited() {
+		assertThat(limiter(100).acquire("/actuator/health", null, "10.0.0.1")).isNull();
+	}
+
+	@Test
+	void exhaustedBucketIsDeniedWithRetryAfter() {
+		RateLimiter limiter = limiter(100);
+
+		assertThat(limiter.acquire("/api/auth/login", null, "10.0.0.1").allowed()).isTrue();
+		assertThat(limiter.acquire("/api/auth/login", null, "10.0.0.1").remaining()).isZero();
+		RateLimiter.Decision denied = limiter.acquire("/api/auth/login", null, "10.0.0.1");
+
+		assertThat(denied.allowed()).isFalse();
+		assertThat(denied.limit()).isEqualTo(2);
+		assertThat(denied.retryAfterSeconds()).isPositive();
+		// Other clients keep their own budget
+		assertThat(limiter.acquire("/api/auth/login", null, "10.0.0.2").allowed()).isTrue();
+	}
+
+	@Test
+	void userLimitAppliesBeforeIpLimit() {
+		RateLimiter limiter = limiter(100);
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(limiter.acquire("/api/employees", "alice", "10.0.0.1").allowed()).isTrue();
+		}
+		assertThat(limiter.acquire("/api/employees", "alice", "10.0.0.1").allowed()).isFalse();
+		// Same IP, another user: the IP bucket still has tokens
+		assertThat(limiter.acquire("/api/employees", "bob", "10.0.0.1").allowed()).isTrue();
+	}
+
+	@Test
+	void newKeysBeyondMaxBucketsGetTheirOwnBucket() {
+		RateLimiter limiter = limiter(10);
+		for (int ip = 0; ip < 10; ip++) {
+			limiter.acquire("/api/auth/login", null, "10.0.0." + ip);
+		}
+
+		// Past the limit every new client still gets its full burst instead of sharing one bucket
+		for (int ip = 10; ip < 30; ip++) {
+			String clientIp = "10.0.0." + ip;
+			assertThat(limiter.acquire("/api/auth/login", null, clientIp).allowed()).as(clientIp).isTrue();
+			assertThat(limiter.acquire("/api/auth/login", null, clientIp).allowed()).as(clientIp).isTrue();
+			assertThat(limiter.acquire("/api/auth/login", null, clientIp).allowed()).as(clientIp).isFalse();
+		}
+	}
+
+	@Test
+	void activeClientsSurviveEviction() {
+		RateLimiter limiter = limiter(10);
+		limiter.acquire("/api/auth/login", null, "10.0.0.1");
+		limiter.acquire("/api/auth/login", null, "10.0.0.1");
+		for (int ip = 100; ip < 120; ip++) {
+			limiter.acquire("/api/auth/login", null, "10.0.1." + ip);
+		}
+
+		// The busiest bucket is the last to go, so this client is still throttled
+		assertThat(limiter.acquire("/api/auth/login", null, "10.0.0.1").allowed()).isFalse();
+	}
+}
@@ -0,0 +1,68 @@
+package employeemanagement.employee_management.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GCRA arithmetic on a synthetic clock: burst of 'capacity', then one token per interval
+ */
+class TokenBucketTest {
+
+	private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+	private static final int CAPACITY = 5;
+	private static final long TOLERANCE = (CAPACITY - 1) * INTERVAL;
+	private static final long START = 1_000_000_000L;
+
+	@Test
+	void fullBucketAdmitsBurstThenReportsWait() {
+		TokenBucket bucket = new TokenBucket(START);
+
+		for (int expectedRemaining = CAPACITY - 1; expectedRemaining >= 0; expectedRemaining--) {
+			assertThat(bucket.tryAcquire(START, INTERVAL, TOLERANCE)).isEqualTo(expectedRemaining);
+		}
+		// Empty: the next token arrives one interval from now
+		assertThat(bucket.tryAcquire(START, INTERVAL, TOLERANCE)).isEqualTo(-INTERVAL);
+		assertThat(bucket.tryAcquire(START + INTERVAL / 4, INTERVAL, TOLERANCE)).isEqualTo(-(INTERVAL - INTERVAL / 4));
+	}
+
+	@Test
+	void tokensRefillOnePerInterval() {
+		TokenBucket bucket = new TokenBucket(START);
+		for (int i = 0; i < CAPACITY; i++) {
+			bucket.tryAcquire(START, INTERVAL, TOLERANCE);
+		}
+
+		assertThat(bucket.tryAcquire(START + INTERVAL, INTERVAL, TOLERANCE)).isZero();
+		assertThat(bucket.tryAcquire(START + INTERVAL, INTERVAL, TOLERANCE)).isNegative();
+		// Three intervals later: three tokens back, one spent now
+		assertThat(bucket.tryAcquire(START + 4 * INTERVAL, INTERVAL, TOLERANCE)).isEqualTo(2);
+	}
+
+	@Test
+	void sustainedRateIsOneTokenPerInterval() {
+		TokenBucket bucket = new TokenBucket(START);
+		int admitted = 0;
+		// Offer a request every INTERVAL / 10 for 10 seconds
+		for (long now = START; now < START + TimeUnit.SECONDS.toNanos(10); now += INTERVAL / 10) {
+			if (bucket.tryAcquire(now, INTERVAL, TOLERANCE) >= 0) {
+				admitted++;
+			}
+		}
+
+		// burst + 10 s / 100 ms
+		assertThat(admitted).isBetween(CAPACITY + 99, CAPACITY + 100);
+	}
+
+	@Test
+	void bucketIsFullAgainAfterIdlePeriod() {
+		TokenBucket bucket = new TokenBucket(START);
+		bucket.tryAcquire(START, INTERVAL, TOLERANCE);
+		bucket.tryAcquire(START, INTERVAL, TOLERANCE);
+
+		assertThat(bucket.isFull(START + INTERVAL)).isFalse();
+		assertThat(bucket.isFull(START + 2 * INTERVAL)).isTrue();
+	}
+}
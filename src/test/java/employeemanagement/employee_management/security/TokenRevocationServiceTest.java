@@ -0,0 +1,95 @@
+package employeemanagement.employee_management.security;
+
+import employeemanagement.employee_management.model.TokenRevocation;
+import employeemanagement.employee_management.repository.TokenRevocationRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Revocation by token id and per user, including revocations picked up from other nodes
+ */
+class TokenRevocationServiceTest {
+
+	private static final long HOUR = 3_600_000;
+
+	private final TokenRevocationRepository repository = mock(TokenRevocationRepository.class);
+	private final UserDetailsCache userDetailsCache = mock(UserDetailsCache.class);
+	private final TokenRevocationService service = new TokenRevocationService(repository, userDetailsCache, HOUR, 60_000);
+
+	@BeforeEach
+	void setUp() {
+		when(repository.save(any(TokenRevocation.class))).then(returnsFirstArg());
+	}
+
+	@Test
+	void revokedTokenIdIsRejectedOthersAreNot() {
+		Claims revoked = token("alice", Instant.now());
+		Claims other = token("alice", Instant.now());
+
+		service.revokeToken(revoked);
+
+		assertThat(service.isRevoked(revoked)).isTrue();
+		assertThat(service.isRevoked(other)).isFalse();
+	}
+
+	@Test
+	void userRevocationCoversTokensIssuedUpToThatMoment() {
+		Claims before = token("alice", Instant.now().minusSeconds(60));
+		Claims otherUser = token("bob", Instant.now().minusSeconds(60));
+
+		service.revokeUser("alice");
+
+		assertThat(service.isRevoked(before)).isTrue();
+		assertThat(service.isRevoked(otherUser)).isFalse();
+		assertThat(service.isRevoked(token("alice", Instant.now().plusSeconds(2)))).isFalse();
+		verify(userDetailsCache).evict("alice");
+	}
+
+	@Test
+	void syncAppliesRevocationsMadeOnOtherNodes() {
+		Claims claims = token("alice", Instant.now());
+		Instant now = Instant.now();
+		when(repository.findByRevokedAtGreaterThanEqual(any())).thenReturn(List.of(
+				new TokenRevocation(TokenRevocation.Type.TOKEN, claims.getId(), now, now.plusMillis(HOUR))));
+
+		assertThat(service.isRevoked(claims)).isFalse();
+		service.sync();
+
+		assertThat(service.isRevoked(claims)).isTrue();
+	}
+
+	@Test
+	void expiredRevocationsAreIgnored() {
+		Claims claims = token("alice", Instant.now().minusSeconds(2 * HOUR / 1000));
+		Instant revokedAt = Instant.now().minusSeconds(HOUR / 1000 + 60);
+		when(repository.findByExpiresAtAfter(any())).thenReturn(List.of(
+				new TokenRevocation(TokenRevocation.Type.USER, "alice", revokedAt, revokedAt.plusMillis(HOUR))));
+
+		service.loadRevocations();
+
+		assertThat(service.isRevoked(claims)).isFalse();
+	}
+
+	private static Claims token(String username, Instant issuedAt) {
+		return Jwts.claims()
+				.id(UUID.randomUUID().toString())
+				.subject(username)
+				.issuedAt(Date.from(issuedAt))
+				.expiration(Date.from(issuedAt.plusMillis(HOUR)))
+				.build();
+	}
+}
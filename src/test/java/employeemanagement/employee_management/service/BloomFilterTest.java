@@ -0,0 +1,57 @@
+package employeemanagement.employee_management.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * No false negatives, and a measured false-positive rate close to the configured target
+ */
+class BloomFilterTest {
+
+	private static final int KEYS = 100_000;
+	private static final int PROBES = 200_000;
+
+	@Test
+	void insertedKeysAreAlwaysFound() {
+		BloomFilter filter = BloomFilter.create(KEYS, 0.01);
+		for (int i = 0; i < KEYS; i++) {
+			filter.put("email:user" + i + "@example.com");
+		}
+
+		for (int i = 0; i < KEYS; i++) {
+			assertThat(filter.mightContain("email:user" + i + "@example.com")).isTrue();
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(doubles = {0.05, 0.01, 0.001})
+	void falsePositiveRateMatchesTarget(double target) {
+		BloomFilter filter = BloomFilter.create(KEYS, target);
+		for (int i = 0; i < KEYS; i++) {
+			filter.put("id:EMP-20251113-" + String.format("%08d", i));
+		}
+
+		int falsePositives = 0;
+		for (int i = KEYS; i < KEYS + PROBES; i++) {
+			if (filter.mightContain("id:EMP-20251113-" + String.format("%08d", i))) {
+				falsePositives++;
+			}
+		}
+
+		double rate = (double) falsePositives / PROBES;
+		// Loaded to its expected size the filter must stay within 1.5x of the target
+		assertThat(rate).as("false-positive rate at target %s", target).isLessThanOrEqualTo(target * 1.5);
+	}
+
+	@Test
+	void sizingFollowsTheStandardFormulas() {
+		BloomFilter filter = BloomFilter.create(1_000_000, 0.01);
+
+		// m = -n ln(p) / (ln 2)^2 ~ 9.59 bits per key, k = m/n ln 2 ~ 7
+		assertThat(filter.bitSize()).isBetween(9_585_000L, 9_586_000L);
+		assertThat(filter.hashCount()).isEqualTo(7);
+	}
+}
@@ -0,0 +1,110 @@
+package employeemanagement.employee_management.service;
+
+import employeemanagement.employee_management.repository.IdSequenceRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * hi/lo allocation: codes are unique across blocks and threads, and blocks are reserved
+ * on the refill thread rather than by the (transactional) caller
+ */
+class EmployeeCodeGeneratorTest {
+
+	private static final int BLOCK_SIZE = 10;
+
+	private final Set<Thread> allocatingThreads = ConcurrentHashMap.newKeySet();
+	private final AtomicLong blocks = new AtomicLong();
+
+	private final IdBlockAllocator allocator = new IdBlockAllocator(null) {
+		private final AtomicLong next = new AtomicLong(1);
+
+		@Override
+		public long allocateBlock(String sequenceName, int blockSize) {
+			allocatingThreads.add(Thread.currentThread());
+			blocks.incrementAndGet();
+			return next.getAndAdd(blockSize);
+		}
+	};
+
+	@Test
+	void sequenceValuesAreUniqueAndContiguousAcrossBlocks() {
+		EmployeeCodeGenerator generator = new EmployeeCodeGenerator(allocator, BLOCK_SIZE);
+
+		for (long expected = 1; expected <= 5 * BLOCK_SIZE; expected++) {
+			assertThat(generator.nextSequence()).isEqualTo(expected);
+		}
+		// At most one block reserved ahead of need
+		assertThat(blocks.get()).isBetween(5L, 6L);
+	}
+
+	@Test
+	void concurrentCallersNeverShareAValue() throws Exception {
+		EmployeeCodeGenerator generator = new EmployeeCodeGenerator(allocator, BLOCK_SIZE);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<List<Long>>> results = new ArrayList<>();
+			for (int thread = 0; thread < 8; thread++) {
+				results.add(executor.submit(() -> {
+					List<Long> values = new ArrayList<>();
+					for (int i = 0; i < 500; i++) {
+						values.add(generator.nextSequence());
+					}
+					return values;
+				}));
+			}
+			Set<Long> seen = new HashSet<>();
+			for (Future<List<Long>> result : results) {
+				for (long value : result.get(30, TimeUnit.SECONDS)) {
+					assertThat(seen.add(value)).as("duplicate value %d", value).isTrue();
+				}
+			}
+			assertThat(seen).hasSize(8 * 500);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void blocksAreReservedOffTheCallerThread() {
+		EmployeeCodeGenerator generator = new EmployeeCodeGenerator(allocator, BLOCK_SIZE);
+
+		for (int i = 0; i < 3 * BLOCK_SIZE; i++) {
+			generator.nextCode();
+		}
+
+		assertThat(allocatingThreads).isNotEmpty().doesNotContain(Thread.currentThread());
+	}
+
+	@Test
+	void codesHaveFixedWidthSuffix() {
+		String code = new EmployeeCodeGenerator(allocator, BLOCK_SIZE).nextCode();
+
+		assertThat(code).matches("EMP-\\d{8}-00000001");
+	}
+
+	@Test
+	void missingSequenceRowIsAnError() {
+		IdSequenceRepository repository = mock(IdSequenceRepository.class);
+		when(repository.findByNameForUpdate("employee_code")).thenReturn(Optional.empty());
+
+		assertThatThrownBy(() -> new IdBlockAllocator(repository).allocateBlock("employee_code", BLOCK_SIZE))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("not initialized");
+	}
+}
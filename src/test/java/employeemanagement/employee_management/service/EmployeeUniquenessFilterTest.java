@@ -0,0 +1,56 @@
+package employeemanagement.employee_management.service;
+
+import employeemanagement.employee_management.repository.EmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Employees recorded while the filter is being rebuilt must be in the filter that replaces it
+ */
+class EmployeeUniquenessFilterTest {
+
+	private final EmployeeRepository repository = mock(EmployeeRepository.class);
+	private final EmployeeUniquenessFilter filter = new EmployeeUniquenessFilter(
+			repository, mock(PlatformTransactionManager.class), true, 1_000, 0.01);
+
+	@Test
+	void loadedEmployeesAreFound() {
+		when(repository.count()).thenReturn(1L);
+		when(repository.streamAllIds()).thenAnswer(invocation -> Stream.of("EMP-1"));
+		when(repository.streamAllEmails()).thenAnswer(invocation -> Stream.of("One@Example.com"));
+
+		filter.rebuild();
+
+		assertThat(filter.mightContainId("emp-1")).isTrue();
+		assertThat(filter.mightContainEmail("one@example.com")).isTrue();
+		assertThat(filter.mightContainId("EMP-2")).isFalse();
+	}
+
+	@Test
+	void employeesRecordedDuringRebuildSurviveTheSwap() {
+		when(repository.count()).thenReturn(1L);
+		// A write commits while the rebuild is scanning, after its row was missed by the scan
+		when(repository.streamAllIds()).thenAnswer(invocation -> {
+			filter.recordAfterCommit("EMP-NEW", "new@example.com");
+			return Stream.of("EMP-1");
+		});
+		when(repository.streamAllEmails()).thenAnswer(invocation -> Stream.of("one@example.com"));
+
+		filter.rebuild();
+
+		assertThat(filter.mightContainId("EMP-NEW")).isTrue();
+		assertThat(filter.mightContainEmail("new@example.com")).isTrue();
+	}
+
+	@Test
+	void unloadedFilterDefersToTheDatabase() {
+		assertThat(filter.mightContainId("EMP-ANY")).isTrue();
+		assertThat(filter.mightContainEmail("any@example.com")).isTrue();
+	}
+}
@@ -0,0 +1,104 @@
+package employeemanagement.employee_management.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import employeemanagement.employee_management.exception.IdempotencyKeyReusedException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Replay, body mismatch, failure and eviction rules of the idempotency store
+ */
+class IdempotencyServiceTest {
+
+	private final AtomicInteger executions = new AtomicInteger();
+
+	private IdempotencyService service(int maxEntries) {
+		return new IdempotencyService(new ObjectMapper(), 60_000, maxEntries, 5_000);
+	}
+
+	private ResponseEntity<String> created() {
+		return ResponseEntity.status(201).body("created-" + executions.incrementAndGet());
+	}
+
+	@Test
+	void retryWithSameBodyReplaysOriginalResponse() {
+		IdempotencyService service = service(100);
+
+		ResponseEntity<String> first = service.execute("k1", "POST /x", Map.of("a", 1, "b", 2), this::created);
+		// Same body with a different key order is still the same request
+		ResponseEntity<String> retry = service.execute("k1", "POST /x", Map.of("b", 2, "a", 1), this::created);
+
+		assertThat(executions).hasValue(1);
+		assertThat(retry.getStatusCode().value()).isEqualTo(201);
+		assertThat(retry.getBody()).isEqualTo(first.getBody());
+		assertThat(retry.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+	}
+
+	@Test
+	void reuseWithDifferentBodyIsRejected() {
+		IdempotencyService service = service(100);
+		service.execute("k1", "POST /x", Map.of("name", "A"), this::created);
+
+		assertThatThrownBy(() -> service.execute("k1", "POST /x", Map.of("name", "B"), this::created))
+				.isInstanceOf(IdempotencyKeyReusedException.class);
+		assertThat(executions).hasValue(1);
+	}
+
+	@Test
+	void failedExecutionIsNotStored() {
+		IdempotencyService service = service(100);
+
+		assertThatThrownBy(() -> service.execute("k1", "POST /x", null, () -> {
+			throw new IllegalArgumentException("boom");
+		})).isInstanceOf(IllegalArgumentException.class);
+
+		assertThat(service.size()).isZero();
+		assertThat(service.execute("k1", "POST /x", null, this::created).getBody()).isEqualTo("created-1");
+	}
+
+	@Test
+	void inFlightEntrySurvivesSizeCapEviction() throws Exception {
+		IdempotencyService service = service(1);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		CompletableFuture<ResponseEntity<String>> slow = CompletableFuture.supplyAsync(() ->
+				service.execute("slow", "POST /x", null, () -> {
+					started.countDown();
+					await(release);
+					return created();
+				}));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// Completing more keys than the cap must not evict the running one
+		service.execute("k1", "POST /x", null, this::created);
+		service.execute("k2", "POST /x", null, this::created);
+
+		CompletableFuture<ResponseEntity<String>> duplicate = CompletableFuture.supplyAsync(() ->
+				service.execute("slow", "POST /x", null, this::created));
+		release.countDown();
+
+		ResponseEntity<String> original = slow.get(5, TimeUnit.SECONDS);
+		ResponseEntity<String> replayed = duplicate.get(5, TimeUnit.SECONDS);
+		assertThat(replayed.getBody()).isEqualTo(original.getBody());
+		assertThat(executions).hasValue(3);
+		assertThat(service.size()).isEqualTo(1);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,158 @@
+package employeemanagement.employee_management.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The hand-written UtilityService routines must behave exactly like the regex based ones
+ * they replaced: each property compares both on randomly generated input (fixed seed)
+ */
+class UtilityServiceTest {
+
+	private static final int SAMPLES = 20_000;
+
+	private static final String[] NAME_PIECES = {
+			"a", "Z", "john", "DOE", "nguyễn", "VĂN", "Đức", "đ", "ư", "Ơ", "ỹ", "Ỵ",
+			"ễ", "Á", "ß", "ǆ", "Ǉ", "İ", "I", "ı", "Σ", "σ", "ς", "Ω",
+			"𐐀", "𐐨", "\uD800", "\uDC00", "-", "'", ".", "1",
+			" ", "  ", "\t", "\n", "\r", "\f", "\u000B", "\u0001", "\u001F", " ", " ", "　"};
+
+	private static final String[] PHONE_PIECES = {
+			"0", "1", "5", "9", "098", "765", "4321", "-", " ", "(", ")", "+84", ".", "x",
+			"٣", "０", "𝟎", "ext"};
+
+	private static final String[] EMAIL_PIECES = {
+			"a", "Z", "john", "doe", "9", "+", "_", ".", "-", "@", "@", "example", "com", "vn",
+			"c", ".com", ".c", ".co1", ".", "..", "é", " ", "\n", "😀", "A-Z"};
+
+	private final UtilityService utilityService = new UtilityService(null);
+	private final Random random = new Random(20251113L);
+	private final Locale defaultLocale = Locale.getDefault();
+
+	@AfterEach
+	void restoreLocale() {
+		Locale.setDefault(defaultLocale);
+	}
+
+	@Test
+	void formatEmployeeNameMatchesRegexImplementation() {
+		for (int i = 0; i < SAMPLES; i++) {
+			String name = generate(NAME_PIECES, 8);
+			assertThat(utilityService.formatEmployeeName(name)).as("name %s", escape(name))
+					.isEqualTo(referenceFormatEmployeeName(name));
+		}
+	}
+
+	@Test
+	void formatEmployeeNameMatchesRegexImplementationInLocaleSensitiveLocales() {
+		for (String language : new String[]{"tr", "az", "lt", "vi", "el"}) {
+			Locale.setDefault(Locale.forLanguageTag(language));
+			for (int i = 0; i < SAMPLES / 10; i++) {
+				String name = generate(NAME_PIECES, 8);
+				assertThat(utilityService.formatEmployeeName(name)).as("%s name %s", language, escape(name))
+						.isEqualTo(referenceFormatEmployeeName(name));
+			}
+		}
+	}
+
+	@Test
+	void formatEmployeeNameExamples() {
+		assertThat(utilityService.formatEmployeeName(null)).isEmpty();
+		assertThat(utilityService.formatEmployeeName(" \t ")).isEmpty();
+		assertThat(utilityService.formatEmployeeName("john doe")).isEqualTo("John Doe");
+		assertThat(utilityService.formatEmployeeName("  NGUYỄN   văn\tđức ")).isEqualTo("Nguyễn Văn Đức");
+	}
+
+	@Test
+	void formatPhoneNumberMatchesRegexImplementation() {
+		for (int i = 0; i < SAMPLES; i++) {
+			String phone = generate(PHONE_PIECES, 10);
+			assertThat(utilityService.formatPhoneNumber(phone)).as("phone %s", escape(phone))
+					.isEqualTo(referenceFormatPhoneNumber(phone));
+		}
+		assertThat(utilityService.formatPhoneNumber(null)).isEmpty();
+		assertThat(utilityService.formatPhoneNumber("098-765-4321")).isEqualTo("(098) 765-4321");
+	}
+
+	@Test
+	void isValidEmailMatchesRegexImplementation() {
+		int valid = 0;
+		for (int i = 0; i < SAMPLES; i++) {
+			// local@domain.tld shape with random pieces, so both outcomes are common
+			String email = generate(EMAIL_PIECES, 3) + "@" + generate(EMAIL_PIECES, 3) + "." + generate(EMAIL_PIECES, 2);
+			boolean expected = referenceIsValidEmail(email);
+			assertThat(utilityService.isValidEmail(email)).as("email %s", escape(email)).isEqualTo(expected);
+			valid += expected ? 1 : 0;
+		}
+		// The generator must exercise both outcomes
+		assertThat(valid).isBetween(SAMPLES / 100, SAMPLES - SAMPLES / 100);
+		assertThat(utilityService.isValidEmail(null)).isFalse();
+	}
+
+	private String generate(String[] pieces, int maxPieces) {
+		StringBuilder value = new StringBuilder();
+		int count = random.nextInt(maxPieces + 1);
+		for (int i = 0; i < count; i++) {
+			value.append(pieces[random.nextInt(pieces.length)]);
+		}
+		return value.toString();
+	}
+
+	private static String escape(String value) {
+		StringBuilder escaped = new StringBuilder("\"");
+		value.chars().forEach(c -> escaped.append(c >= ' ' && c < 0x7F ? String.valueOf((char) c) : String.format("\\u%04X", c)));
+		return escaped.append('"').toString();
+	}
+
+	// Previous implementations, kept as the oracle
+
+	private static String referenceFormatEmployeeName(String name) {
+		if (name == null || name.trim().isEmpty()) {
+			return "";
+		}
+
+		String[] words = name.trim().toLowerCase().split("\\s+");
+		StringBuilder formatted = new StringBuilder();
+
+		for (String word : words) {
+			if (!word.isEmpty()) {
+				formatted.append(Character.toUpperCase(word.charAt(0)))
+						.append(word.substring(1))
+						.append(" ");
+			}
+		}
+
+		return formatted.toString().trim();
+	}
+
+	private static String referenceFormatPhoneNumber(String phone) {
+		if (phone == null || phone.isEmpty()) {
+			return "";
+		}
+
+		String cleaned = phone.replaceAll("[^0-9]", "");
+
+		if (cleaned.length() == 10) {
+			return String.format("(%s) %s-%s",
+					cleaned.substring(0, 3),
+					cleaned.substring(3, 6),
+					cleaned.substring(6));
+		}
+
+		return phone;
+	}
+
+	private static boolean referenceIsValidEmail(String email) {
+		if (email == null || email.isEmpty()) {
+			return false;
+		}
+
+		String emailRegex = "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$";
+		return email.matches(emailRegex);
+	}
+}
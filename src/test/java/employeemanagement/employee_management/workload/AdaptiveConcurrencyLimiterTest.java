@@ -0,0 +1,186 @@
+package employeemanagement.employee_management.workload;
+
+import employeemanagement.employee_management.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Requests over the limit queue without a thread until a slot is handed to them or their timeout
+ * passes, and concurrent releases never block each other
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private AdaptiveConcurrencyLimiter limiter(int initialLimit, int minLimit) {
+		return limiter(initialLimit, minLimit, 0, 0);
+	}
+
+	private AdaptiveConcurrencyLimiter limiter(int initialLimit, int minLimit, int maxQueue, long queueTimeoutMs) {
+		ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+		properties.setQueueTimeoutMs(queueTimeoutMs);
+		properties.setGroups(List.of(new ConcurrencyLimitProperties.Group(
+				"api", List.of("/api/**"), initialLimit, minLimit, 100, maxQueue)));
+		return new AdaptiveConcurrencyLimiter(properties, meterRegistry);
+	}
+
+	@Test
+	void requestOverTheLimitIsRejectedWhenItCannotQueue() {
+		AdaptiveConcurrencyLimiter limiter = limiter(2, 1);
+		AdaptiveConcurrencyLimiter.Permit first = limiter.acquire("/api/employees");
+		AdaptiveConcurrencyLimiter.Permit second = limiter.acquire("/api/employees");
+		AdaptiveConcurrencyLimiter.Permit third = limiter.acquire("/api/employees");
+
+		assertThat(first.isGranted()).isTrue();
+		assertThat(second.isGranted()).isTrue();
+		assertThat(third.isGranted()).isFalse();
+		assertThat(limiter.enqueue(third, permit -> {
+			throw new AssertionError("not queued");
+		})).isFalse();
+		assertThat(rejected()).isEqualTo(1);
+
+		first.release(false);
+		assertThat(limiter.acquire("/api/employees").isGranted()).isTrue();
+		limiter.destroy();
+	}
+
+	@Test
+	void releasedSlotIsHandedToTheOldestWaiter() {
+		AdaptiveConcurrencyLimiter limiter = limiter(1, 1, 2, 10_000);
+		AdaptiveConcurrencyLimiter.Permit running = limiter.acquire("/api/employees");
+		List<String> admitted = new CopyOnWriteArrayList<>();
+		AtomicReference<AdaptiveConcurrencyLimiter.Permit> firstWaiter = new AtomicReference<>();
+
+		assertThat(limiter.enqueue(limiter.acquire("/api/employees"), permit -> {
+			firstWaiter.set(permit);
+			admitted.add("first");
+		})).isTrue();
+		assertThat(limiter.enqueue(limiter.acquire("/api/employees"), permit -> admitted.add("second"))).isTrue();
+		assertThat(limiter.enqueue(limiter.acquire("/api/employees"), permit -> admitted.add("third"))).isFalse();
+		assertThat(queued()).isEqualTo(2);
+		assertThat(admitted).isEmpty();
+
+		running.release(false);
+		assertThat(admitted).containsExactly("first");
+		assertThat(firstWaiter.get().isGranted()).isTrue();
+		// A newcomer does not overtake the request still queued
+		assertThat(limiter.acquire("/api/employees").isGranted()).isFalse();
+
+		firstWaiter.get().release(false);
+		assertThat(admitted).containsExactly("first", "second");
+		assertThat(queued()).isZero();
+		assertThat(rejected()).isEqualTo(1);
+		limiter.destroy();
+	}
+
+	@Test
+	void waiterIsRejectedWhenItsTimeoutPasses() throws InterruptedException {
+		AdaptiveConcurrencyLimiter limiter = limiter(1, 1, 10, 20);
+		AdaptiveConcurrencyLimiter.Permit running = limiter.acquire("/api/employees");
+		AtomicReference<AdaptiveConcurrencyLimiter.Permit> outcome = new AtomicReference<>();
+		CountDownLatch done = new CountDownLatch(1);
+
+		assertThat(limiter.enqueue(limiter.acquire("/api/employees"), permit -> {
+			outcome.set(permit);
+			done.countDown();
+		})).isTrue();
+
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(outcome.get().isGranted()).isFalse();
+		assertThat(queued()).isZero();
+		assertThat(rejected()).isEqualTo(1);
+
+		// The slot freed after the timeout is not handed to the expired waiter
+		running.release(false);
+		assertThat(meterRegistry.get("concurrency.inflight").tag("group", "api").gauge().value()).isZero();
+		limiter.destroy();
+	}
+
+	@Test
+	void cancelledPermitHandsItsSlotToAWaiter() {
+		AdaptiveConcurrencyLimiter limiter = limiter(1, 1, 1, 10_000);
+		AdaptiveConcurrencyLimiter.Permit running = limiter.acquire("/api/employees");
+		AtomicReference<AdaptiveConcurrencyLimiter.Permit> waiter = new AtomicReference<>();
+		limiter.enqueue(limiter.acquire("/api/employees"), waiter::set);
+
+		running.cancel();
+
+		assertThat(waiter.get().isGranted()).isTrue();
+		limiter.destroy();
+	}
+
+	@Test
+	void releaseIsIdempotent() {
+		AdaptiveConcurrencyLimiter limiter = limiter(1, 1);
+		AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire("/api/employees");
+
+		permit.release(false);
+		permit.release(false);
+
+		assertThat(meterRegistry.get("concurrency.inflight").tag("group", "api").gauge().value()).isZero();
+	}
+
+	@Test
+	void dropShrinksTheLimit() {
+		AdaptiveConcurrencyLimiter limiter = limiter(20, 5);
+		AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire("/api/employees");
+
+		permit.release(true);
+
+		assertThat(permit.getLimit()).isEqualTo(18);
+	}
+
+	@Test
+	void unmatchedOrDisabledRequestsAreNotLimited() {
+		assertThat(limiter(1, 1).acquire("/actuator/health")).isNull();
+
+		ConcurrencyLimitProperties disabled = new ConcurrencyLimitProperties();
+		disabled.setEnabled(false);
+		assertThat(new AdaptiveConcurrencyLimiter(disabled, meterRegistry).acquire("/api/employees")).isNull();
+	}
+
+	@Test
+	void concurrentAcquireAndReleaseKeepsInFlightConsistent() throws Exception {
+		AdaptiveConcurrencyLimiter limiter = limiter(50, 10);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> workers = new ArrayList<>();
+			for (int thread = 0; thread < 8; thread++) {
+				workers.add(executor.submit(() -> {
+					for (int i = 0; i < 5_000; i++) {
+						AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire("/api/employees");
+						permit.release(i % 1_000 == 0);
+					}
+				}));
+			}
+			for (Future<?> worker : workers) {
+				worker.get(30, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(meterRegistry.get("concurrency.inflight").tag("group", "api").gauge().value()).isZero();
+		assertThat(meterRegistry.get("concurrency.limit").tag("group", "api").gauge().value()).isBetween(10.0, 100.0);
+	}
+
+	private double rejected() {
+		return meterRegistry.get("concurrency.rejected").tag("group", "api").counter().count();
+	}
+
+	private double queued() {
+		return meterRegistry.get("concurrency.queued").tag("group", "api").gauge().value();
+	}
+}
@@ -0,0 +1,137 @@
+package employeemanagement.employee_management.workload;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import employeemanagement.employee_management.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A request over the limit is parked in async mode instead of holding its thread, and resumes
+ * on the async dispatch with the slot, user and priority it queued with, or is rejected with 503
+ */
+class ConcurrencyLimitFilterTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private AdaptiveConcurrencyLimiter limiter;
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+		limiter.destroy();
+	}
+
+	private ConcurrencyLimitFilter filter(long queueTimeoutMs) {
+		ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+		properties.setQueueTimeoutMs(queueTimeoutMs);
+		properties.setGroups(List.of(new ConcurrencyLimitProperties.Group(
+				"api", List.of("/api/**"), 1, 1, 1, 10)));
+		limiter = new AdaptiveConcurrencyLimiter(properties, meterRegistry);
+		return new ConcurrencyLimitFilter(limiter, new ObjectMapper().findAndRegisterModules());
+	}
+
+	@Test
+	void queuedRequestResumesWithItsUserAndPriorityOnceASlotFrees() throws Exception {
+		ConcurrencyLimitFilter filter = filter(10_000);
+		AdaptiveConcurrencyLimiter.Permit running = limiter.acquire("/api/employees/EMP-1");
+		Authentication user = new TestingAuthenticationToken("alice", null, "ROLE_USER");
+		SecurityContextHolder.getContext().setAuthentication(user);
+		MockHttpServletRequest request = request();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		RequestPriority previous = WorkloadContext.enterPriority(RequestPriority.LOW);
+		MockFilterChain initialChain = new MockFilterChain();
+		try {
+			filter.doFilter(request, response, initialChain);
+		} finally {
+			WorkloadContext.restorePriority(previous);
+		}
+		SecurityContextHolder.clearContext();
+
+		assertThat(initialChain.getRequest()).isNull();
+		assertThat(request.isAsyncStarted()).isTrue();
+		assertThat(dispatched(request)).isFalse();
+
+		running.release(false);
+		assertThat(dispatched(request)).isTrue();
+
+		AtomicReference<Authentication> resumedAs = new AtomicReference<>();
+		AtomicReference<RequestPriority> resumedWith = new AtomicReference<>();
+		filter.doFilter(asyncDispatch(request), response, (req, res) -> {
+			resumedAs.set(SecurityContextHolder.getContext().getAuthentication());
+			resumedWith.set(WorkloadContext.priority());
+		});
+
+		assertThat(resumedAs.get()).isSameAs(user);
+		assertThat(resumedWith.get()).isEqualTo(RequestPriority.LOW);
+		assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(limiter.acquire("/api/employees/EMP-1").isGranted()).isTrue();
+	}
+
+	@Test
+	void queuedRequestIsRejectedWhenItsTimeoutPasses() throws Exception {
+		ConcurrencyLimitFilter filter = filter(20);
+		limiter.acquire("/api/employees/EMP-1");
+		MockHttpServletRequest request = request();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		CountDownLatch dispatched = new CountDownLatch(1);
+
+		filter.doFilter(request, response, new MockFilterChain());
+		((MockAsyncContext) request.getAsyncContext()).addDispatchHandler(dispatched::countDown);
+		assertThat(dispatched.await(5, TimeUnit.SECONDS)).isTrue();
+
+		MockFilterChain resumedChain = new MockFilterChain();
+		filter.doFilter(asyncDispatch(request), response, resumedChain);
+
+		assertThat(resumedChain.getRequest()).isNull();
+		assertThat(response.getStatus()).isEqualTo(503);
+		assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+		assertThat(meterRegistry.get("concurrency.rejected").tag("group", "api").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void callableResultDispatchPassesThrough() throws Exception {
+		ConcurrencyLimitFilter filter = filter(10_000);
+		limiter.acquire("/api/employees/EMP-1");
+		MockHttpServletRequest request = request();
+		request.setDispatcherType(DispatcherType.ASYNC);
+		MockFilterChain chain = new MockFilterChain();
+
+		filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+		assertThat(chain.getRequest()).isSameAs(request);
+	}
+
+	private static MockHttpServletRequest request() {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employees/EMP-1");
+		request.setAsyncSupported(true);
+		return request;
+	}
+
+	private static boolean dispatched(MockHttpServletRequest request) {
+		return ((MockAsyncContext) request.getAsyncContext()).getDispatchedPath() != null;
+	}
+
+	private static MockHttpServletRequest asyncDispatch(MockHttpServletRequest request) {
+		request.setDispatcherType(DispatcherType.ASYNC);
+		request.setAsyncStarted(false);
+		return request;
+	}
+}
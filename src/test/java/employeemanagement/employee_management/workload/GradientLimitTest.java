@@ -0,0 +1,88 @@
+package employeemanagement.employee_management.workload;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The limit grows while latency stays near the baseline, shrinks when it climbs and backs off on drops,
+ * always within [min, max]
+ */
+class GradientLimitTest {
+
+	private static final long BASELINE = 10_000_000;
+
+	@Test
+	void firstSampleOnlySetsTheBaseline() {
+		GradientLimit limit = new GradientLimit(20, 5, 100, 1.5);
+
+		assertThat(limit.onSample(BASELINE, 20)).isEqualTo(20);
+	}
+
+	@Test
+	void steadyLatencyUnderLoadGrowsUpToMax() {
+		GradientLimit limit = new GradientLimit(20, 5, 100, 1.5);
+
+		int previous = limit.onSample(BASELINE, 20);
+		for (int i = 0; i < 20; i++) {
+			int next = limit.onSample(BASELINE, previous);
+			assertThat(next).isGreaterThanOrEqualTo(previous);
+			previous = next;
+		}
+		assertThat(previous).isGreaterThan(20);
+
+		for (int i = 0; i < 1_000; i++) {
+			previous = limit.onSample(BASELINE, previous);
+		}
+		assertThat(previous).isEqualTo(100);
+	}
+
+	@Test
+	void latencySpikeShrinksDownToMin() {
+		GradientLimit limit = new GradientLimit(50, 5, 100, 1.5);
+		limit.onSample(BASELINE, 50);
+
+		int current = limit.onSample(10 * BASELINE, 50);
+		assertThat(current).isLessThan(50);
+		for (int i = 0; i < 100; i++) {
+			int next = limit.onSample(10 * BASELINE, current);
+			assertThat(next).isLessThanOrEqualTo(current);
+			current = next;
+		}
+		assertThat(current).isEqualTo(5);
+	}
+
+	@Test
+	void sustainedLatencyBecomesTheNewBaseline() {
+		GradientLimit limit = new GradientLimit(50, 5, 100, 1.5);
+		limit.onSample(BASELINE, 50);
+
+		int current = 50;
+		for (int i = 0; i < 3_000; i++) {
+			current = limit.onSample(4 * BASELINE, current);
+		}
+
+		assertThat(current).isEqualTo(100);
+	}
+
+	@Test
+	void fewRequestsInFlightLeaveTheLimitAlone() {
+		GradientLimit limit = new GradientLimit(40, 5, 100, 1.5);
+		limit.onSample(BASELINE, 40);
+
+		for (int i = 0; i < 50; i++) {
+			assertThat(limit.onSample(4 * BASELINE, 3)).isEqualTo(40);
+		}
+	}
+
+	@Test
+	void dropBacksOffMultiplicatively() {
+		GradientLimit limit = new GradientLimit(50, 10, 100, 1.5);
+
+		assertThat(limit.onDrop()).isEqualTo(45);
+		for (int i = 0; i < 100; i++) {
+			limit.onDrop();
+		}
+		assertThat(limit.current()).isEqualTo(10);
+	}
+}
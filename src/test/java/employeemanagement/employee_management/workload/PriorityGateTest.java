@@ -0,0 +1,108 @@
+package employeemanagement.employee_management.workload;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A freed connection slot goes to the highest waiting priority, unless a lower one has waited
+ * past the starvation timeout; waiters that time out leave the queue
+ */
+class PriorityGateTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final List<String> served = new CopyOnWriteArrayList<>();
+	private final List<Thread> threads = new ArrayList<>();
+
+	@AfterEach
+	void stopWaiters() throws InterruptedException {
+		for (Thread thread : threads) {
+			thread.interrupt();
+			thread.join(5_000);
+		}
+	}
+
+	@Test
+	void releasedPermitGoesToTheHighestPriorityWaiter() throws Exception {
+		PriorityGate gate = new PriorityGate("test", 1, 60_000, meterRegistry);
+		gate.acquire(RequestPriority.NORMAL, 1_000);
+
+		waitFor(gate, "low", RequestPriority.LOW);
+		waitFor(gate, "normal", RequestPriority.NORMAL);
+		waitFor(gate, "high", RequestPriority.HIGH);
+		gate.release();
+
+		awaitServed(3);
+		assertThat(served).containsExactly("high", "normal", "low");
+		assertThat(meterRegistry.get("jdbc.connection.wait").tag("pool", "test").tag("priority", "low")
+				.timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	void starvedWaiterIsServedBeforeHigherPriorities() throws Exception {
+		PriorityGate gate = new PriorityGate("test", 1, 50, meterRegistry);
+		gate.acquire(RequestPriority.NORMAL, 1_000);
+
+		waitFor(gate, "low", RequestPriority.LOW);
+		Thread.sleep(100);
+		waitFor(gate, "high", RequestPriority.HIGH);
+		gate.release();
+
+		awaitServed(2);
+		assertThat(served).containsExactly("low", "high");
+	}
+
+	@Test
+	void waiterTimesOutAndLeavesTheQueue() throws Exception {
+		PriorityGate gate = new PriorityGate("test", 1, 60_000, meterRegistry);
+		gate.acquire(RequestPriority.HIGH, 1_000);
+
+		assertThatThrownBy(() -> gate.acquire(RequestPriority.HIGH, 20))
+				.isInstanceOf(SQLTransientConnectionException.class)
+				.hasMessageContaining("timed out after 20ms");
+
+		// The released permit is not handed to the waiter that gave up
+		gate.release();
+		long start = System.nanoTime();
+		gate.acquire(RequestPriority.LOW, 0);
+		assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(1));
+	}
+
+	/**
+	 * Start a thread that queues on the gate, records when it gets through and passes the permit on
+	 */
+	private void waitFor(PriorityGate gate, String name, RequestPriority priority) throws InterruptedException {
+		Thread thread = new Thread(() -> {
+			try {
+				gate.acquire(priority, 10_000);
+				served.add(name);
+				gate.release();
+			} catch (Exception e) {
+				served.add(name + " failed: " + e);
+			}
+		}, "gate-" + name);
+		threads.add(thread);
+		thread.start();
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (thread.getState() != Thread.State.TIMED_WAITING && System.nanoTime() < deadline) {
+			Thread.sleep(1);
+		}
+		assertThat(thread.getState()).isEqualTo(Thread.State.TIMED_WAITING);
+	}
+
+	private void awaitServed(int count) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (served.size() < count && System.nanoTime() < deadline) {
+			Thread.sleep(1);
+		}
+	}
+}
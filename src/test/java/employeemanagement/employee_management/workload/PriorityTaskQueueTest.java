@@ -0,0 +1,116 @@
+package employeemanagement.employee_management.workload;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pool threads take the highest priority task first, plain tasks count as NORMAL and the queue
+ * stays within its capacity
+ */
+class PriorityTaskQueueTest {
+
+	@Test
+	void tasksAreHandedOutByPriority() {
+		PriorityTaskQueue queue = new PriorityTaskQueue(10, 60_000);
+		Runnable plain = () -> { };
+		queue.offer(task("low", RequestPriority.LOW, null));
+		queue.offer(plain);
+		queue.offer(task("high", RequestPriority.HIGH, null));
+
+		assertThat(queue.poll()).hasToString("high");
+		assertThat(queue.poll()).isSameAs(plain);
+		assertThat(queue.poll()).hasToString("low");
+		assertThat(queue.poll()).isNull();
+	}
+
+	@Test
+	void starvedTaskIsTakenFirst() throws InterruptedException {
+		PriorityTaskQueue queue = new PriorityTaskQueue(10, 20);
+		queue.offer(task("low", RequestPriority.LOW, null));
+		Thread.sleep(50);
+		queue.offer(task("high", RequestPriority.HIGH, null));
+
+		assertThat(queue.poll()).hasToString("low");
+		assertThat(queue.poll()).hasToString("high");
+	}
+
+	@Test
+	void capacityIsBounded() throws InterruptedException {
+		PriorityTaskQueue queue = new PriorityTaskQueue(2, 60_000);
+
+		assertThat(queue.offer(task("a", RequestPriority.NORMAL, null))).isTrue();
+		assertThat(queue.offer(task("b", RequestPriority.NORMAL, null))).isTrue();
+		assertThat(queue.offer(task("c", RequestPriority.HIGH, null))).isFalse();
+		assertThat(queue.offer(task("c", RequestPriority.HIGH, null), 10, TimeUnit.MILLISECONDS)).isFalse();
+		assertThat(queue.remainingCapacity()).isZero();
+
+		List<Runnable> drained = new ArrayList<>();
+		assertThat(queue.drainTo(drained)).isEqualTo(2);
+		assertThat(drained).extracting(Object::toString).containsExactly("a", "b");
+		assertThat(queue.remainingCapacity()).isEqualTo(2);
+	}
+
+	@Test
+	void threadPoolRunsQueuedTasksByPriority() throws InterruptedException {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+				new PriorityTaskQueue(10, 60_000));
+		List<String> ran = new CopyOnWriteArrayList<>();
+		CountDownLatch release = new CountDownLatch(1);
+		try {
+			executor.execute(() -> await(release));
+			executor.execute(task("low", RequestPriority.LOW, ran));
+			executor.execute(task("normal", RequestPriority.NORMAL, ran));
+			executor.execute(task("high", RequestPriority.HIGH, ran));
+			Runnable removed = task("removed", RequestPriority.HIGH, ran);
+			executor.execute(removed);
+			assertThat(executor.remove(removed)).isTrue();
+
+			release.countDown();
+			executor.shutdown();
+			assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(ran).containsExactly("high", "normal", "low");
+	}
+
+	private static Runnable task(String name, RequestPriority priority, List<String> ran) {
+		return new PrioritizedTask(name, priority, ran);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private record PrioritizedTask(String name, RequestPriority priority, List<String> ran)
+			implements Runnable, PriorityTaskQueue.Prioritized {
+
+		@Override
+		public RequestPriority getPriority() {
+			return priority;
+		}
+
+		@Override
+		public void run() {
+			ran.add(name);
+		}
+
+		@Override
+		public String toString() {
+			return name;
+		}
+	}
+}
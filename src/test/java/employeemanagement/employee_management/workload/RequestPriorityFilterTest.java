@@ -0,0 +1,87 @@
+package employeemanagement.employee_management.workload;
+
+import employeemanagement.employee_management.config.PriorityProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The route sets the priority; the X-Request-Priority header can lower it for anyone but only
+ * raise it for administrators
+ */
+class RequestPriorityFilterTest {
+
+	private final RequestPriorityFilter filter = new RequestPriorityFilter(new PriorityProperties());
+
+	@AfterEach
+	void clearUser() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void routeDecidesThePriority() throws Exception {
+		assertThat(priorityOf("/api/employees", null)).isEqualTo(RequestPriority.LOW);
+		assertThat(priorityOf("/api/employees/statistics", null)).isEqualTo(RequestPriority.LOW);
+		assertThat(priorityOf("/api/employees/EMP-1", null)).isEqualTo(RequestPriority.HIGH);
+		assertThat(priorityOf("/api/departments", null)).isEqualTo(RequestPriority.NORMAL);
+	}
+
+	@Test
+	void anyCallerMayLowerItsPriority() throws Exception {
+		signIn("ROLE_USER");
+
+		assertThat(priorityOf("/api/employees/EMP-1", "low")).isEqualTo(RequestPriority.LOW);
+		assertThat(priorityOf("/api/departments", "LOW")).isEqualTo(RequestPriority.LOW);
+	}
+
+	@Test
+	void onlyAdministratorsMayRaiseTheirPriority() throws Exception {
+		assertThat(priorityOf("/api/employees", "high")).isEqualTo(RequestPriority.LOW);
+
+		signIn("ROLE_USER");
+		assertThat(priorityOf("/api/employees", "high")).isEqualTo(RequestPriority.LOW);
+		assertThat(priorityOf("/api/departments", "high")).isEqualTo(RequestPriority.NORMAL);
+
+		signIn("ROLE_ADMIN");
+		assertThat(priorityOf("/api/employees", "high")).isEqualTo(RequestPriority.HIGH);
+		assertThat(priorityOf("/api/employees", "normal")).isEqualTo(RequestPriority.NORMAL);
+	}
+
+	@Test
+	void unknownHeaderValueIsIgnored() throws Exception {
+		signIn("ROLE_ADMIN");
+
+		assertThat(priorityOf("/api/employees", "urgent")).isEqualTo(RequestPriority.LOW);
+		assertThat(priorityOf("/api/employees", " ")).isEqualTo(RequestPriority.LOW);
+	}
+
+	@Test
+	void priorityIsOnlyCurrentDuringTheRequest() throws Exception {
+		RequestPriority before = WorkloadContext.priority();
+
+		priorityOf("/api/employees", null);
+
+		assertThat(WorkloadContext.priority()).isEqualTo(before);
+	}
+
+	private RequestPriority priorityOf(String path, String header) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+		if (header != null) {
+			request.addHeader(RequestPriorityFilter.HEADER, header);
+		}
+		AtomicReference<RequestPriority> priority = new AtomicReference<>();
+		filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> priority.set(WorkloadContext.priority()));
+		return priority.get();
+	}
+
+	private static void signIn(String role) {
+		SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("alice", null, role));
+	}
+}
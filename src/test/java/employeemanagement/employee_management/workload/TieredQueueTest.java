@@ -0,0 +1,59 @@
+package employeemanagement.employee_management.workload;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Highest tier first and FIFO within a tier, unless a lower-tier entry has waited past the starvation timeout
+ */
+class TieredQueueTest {
+
+	private static final long STARVATION = 1_000;
+
+	private final TieredQueue<String> queue = new TieredQueue<>(STARVATION);
+
+	@Test
+	void servesHighestTierFirstAndFifoWithinATier() {
+		queue.add("low", RequestPriority.LOW, 0);
+		queue.add("normal-1", RequestPriority.NORMAL, 1);
+		queue.add("high", RequestPriority.HIGH, 2);
+		queue.add("normal-2", RequestPriority.NORMAL, 3);
+
+		assertThat(queue.items()).containsExactly("high", "normal-1", "normal-2", "low");
+		assertThat(queue.peek(10)).isEqualTo("high");
+		assertThat(queue.poll(10)).isEqualTo("high");
+		assertThat(queue.poll(10)).isEqualTo("normal-1");
+		assertThat(queue.poll(10)).isEqualTo("normal-2");
+		assertThat(queue.poll(10)).isEqualTo("low");
+		assertThat(queue.poll(10)).isNull();
+		assertThat(queue.isEmpty()).isTrue();
+	}
+
+	@Test
+	void starvedLowerTierIsServedFirstOldestFirst() {
+		queue.add("low", RequestPriority.LOW, 0);
+		queue.add("normal", RequestPriority.NORMAL, 100);
+		queue.add("high", RequestPriority.HIGH, 900);
+
+		assertThat(queue.poll(STARVATION - 1)).isEqualTo("high");
+
+		queue.add("high-2", RequestPriority.HIGH, STARVATION);
+		assertThat(queue.poll(STARVATION + 100)).isEqualTo("low");
+		assertThat(queue.poll(STARVATION + 100)).isEqualTo("normal");
+		assertThat(queue.poll(STARVATION + 100)).isEqualTo("high-2");
+	}
+
+	@Test
+	void removeMatchesByIdentity() {
+		String first = new String("task");
+		String second = new String("task");
+		queue.add(first, RequestPriority.NORMAL, 0);
+		queue.add(second, RequestPriority.NORMAL, 1);
+
+		assertThat(queue.remove(second)).isTrue();
+		assertThat(queue.remove(second)).isFalse();
+		assertThat(queue.size()).isEqualTo(1);
+		assertThat(queue.poll(2)).isSameAs(first);
+	}
+}
@@ -0,0 +1,52 @@
+package employeemanagement.employee_management.workload;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @Workload makes its class current around service methods; controllers are left to the executor
+ */
+class WorkloadAspectTest {
+
+	@Test
+	void serviceMethodRunsUnderItsDeclaredClass() {
+		ReportService service = proxy(new ReportService());
+
+		assertThat(service.report()).isEqualTo(WorkloadClass.REPORTING);
+		assertThat(WorkloadContext.current()).isEqualTo(WorkloadClass.INTERACTIVE);
+	}
+
+	@Test
+	void controllerMethodIsNotAdvised() {
+		ReportController controller = proxy(new ReportController());
+
+		assertThat(controller.report()).isEqualTo(WorkloadClass.INTERACTIVE);
+	}
+
+	private static <T> T proxy(T target) {
+		AspectJProxyFactory factory = new AspectJProxyFactory(target);
+		factory.setProxyTargetClass(true);
+		factory.addAspect(new WorkloadAspect());
+		return factory.getProxy();
+	}
+
+	static class ReportService {
+
+		@Workload(WorkloadClass.REPORTING)
+		public WorkloadClass report() {
+			return WorkloadContext.current();
+		}
+	}
+
+	@RestController
+	static class ReportController {
+
+		@Workload(WorkloadClass.REPORTING)
+		public WorkloadClass report() {
+			return WorkloadContext.current();
+		}
+	}
+}
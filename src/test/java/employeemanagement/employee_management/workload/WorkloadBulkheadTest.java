@@ -0,0 +1,188 @@
+package employeemanagement.employee_management.workload;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import employeemanagement.employee_management.exception.ApiError;
+import employeemanagement.employee_management.exception.GlobalExceptionHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A saturated REPORTING bulkhead, whether its connections or its execution slots, leaves
+ * interactive lookups unaffected and is shed with 503 on its own
+ */
+@SpringBootTest(properties = "rate-limit.enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class WorkloadBulkheadTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	@Qualifier("jdbcExecutor")
+	private AsyncTaskExecutor jdbcExecutor;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private GlobalExceptionHandler exceptionHandler;
+
+	private final CountDownLatch release = new CountDownLatch(1);
+	private final List<Connection> held = new ArrayList<>();
+	private String adminToken;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		adminToken = login("admin", "admin123");
+	}
+
+	@AfterEach
+	void releaseReporting() throws Exception {
+		release.countDown();
+		for (Connection connection : held) {
+			connection.close();
+		}
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while ((gauge("workload.executor.queued") > 0 || gauge("workload.executor.active") > 0)
+				&& System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+	}
+
+	@Test
+	void interactiveLookupGetsAConnectionWhileReportingPoolIsExhausted() throws Exception {
+		long reportingAcquiredBefore = connectionsAcquired("workload-reporting");
+		WorkloadClass previous = WorkloadContext.enter(WorkloadClass.REPORTING);
+		try {
+			double max = meterRegistry.get("hikaricp.connections.max").tag("pool", "workload-reporting").gauge().value();
+			for (int i = 0; i < max; i++) {
+				held.add(dataSource.getConnection());
+			}
+		} finally {
+			WorkloadContext.restore(previous);
+		}
+		assertThat(connectionsAcquired("workload-reporting")).isEqualTo(reportingAcquiredBefore + held.size());
+		long interactiveBefore = connectionsUsed("workload-interactive");
+
+		perform(get("/api/employees/EMP-BULKHEAD-NONE"))
+				.andExpect(status().isNotFound());
+
+		assertThat(connectionsUsed("workload-interactive")).isGreaterThan(interactiveBefore);
+		assertThat(connectionsAcquired("workload-reporting")).isEqualTo(reportingAcquiredBefore + held.size());
+	}
+
+	@Test
+	void saturatedReportingExecutorShedsOnlyReportingRequests() throws Exception {
+		double rejectedBefore = rejected("reporting");
+		// Outside a request the executor routes by the current workload class
+		RequestAttributes testRequest = RequestContextHolder.getRequestAttributes();
+		RequestContextHolder.resetRequestAttributes();
+		WorkloadClass previous = WorkloadContext.enter(WorkloadClass.REPORTING);
+		try {
+			// Fill every reporting slot and its queue until the lane rejects
+			while (rejected("reporting") == rejectedBefore) {
+				try {
+					jdbcExecutor.submit(() -> {
+						release.await(10, TimeUnit.SECONDS);
+						return null;
+					});
+				} catch (RuntimeException e) {
+					break;
+				}
+			}
+		} finally {
+			WorkloadContext.restore(previous);
+			RequestContextHolder.setRequestAttributes(testRequest);
+		}
+		double interactiveRejected = rejected("interactive");
+
+		// A Callable turned away by the executor never reaches MockMvc's result capture, so check
+		// the rejection the async dispatch resolves and how it is mapped
+		MvcResult shed = mockMvc.perform(get("/api/employees").header(HttpHeaders.AUTHORIZATION, adminToken))
+				.andReturn();
+		assertThat(WebAsyncUtils.getAsyncManager(shed.getRequest()).getConcurrentResult())
+				.isInstanceOfSatisfying(TaskRejectedException.class, rejection -> {
+					ResponseEntity<ApiError> response = exceptionHandler.handleTaskRejected(rejection);
+					assertThat(response.getStatusCode().value()).isEqualTo(503);
+					assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+				});
+		perform(get("/api/employees/EMP-BULKHEAD-NONE"))
+				.andExpect(status().isNotFound());
+
+		assertThat(rejected("reporting")).isEqualTo(rejectedBefore + 2);
+		assertThat(rejected("interactive")).isEqualTo(interactiveRejected);
+		assertThat(meterRegistry.get("workload.executor.utilization").tag("class", "reporting").gauge().value())
+				.isEqualTo(1.0);
+	}
+
+	private double gauge(String name) {
+		return meterRegistry.get(name).tag("class", "reporting").gauge().value();
+	}
+
+	private double rejected(String workloadClass) {
+		return meterRegistry.get("workload.rejected").tag("class", workloadClass).counter().count();
+	}
+
+	private long connectionsAcquired(String pool) {
+		return meterRegistry.get("hikaricp.connections.acquire").tag("pool", pool).timer().count();
+	}
+
+	private long connectionsUsed(String pool) {
+		return meterRegistry.get("hikaricp.connections.usage").tag("pool", pool).timer().count();
+	}
+
+	private ResultActions perform(MockHttpServletRequestBuilder request) throws Exception {
+		ResultActions actions = mockMvc.perform(request.header(HttpHeaders.AUTHORIZATION, adminToken));
+		MvcResult result = actions.andReturn();
+		return result.getRequest().isAsyncStarted() ? mockMvc.perform(asyncDispatch(result)) : actions;
+	}
+
+	private String login(String username, String password) throws Exception {
+		String body = mockMvc.perform(post("/api/auth/login")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(Map.of("username", username, "password", password))))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		return "Bearer " + objectMapper.readTree(body).get("token").asText();
+	}
+}
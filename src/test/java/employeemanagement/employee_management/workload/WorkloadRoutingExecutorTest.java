@@ -0,0 +1,147 @@
+package employeemanagement.employee_management.workload;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Callables run in the executor of their workload class: declared with @Workload on the handler,
+ * else derived from the HTTP method; a saturated class is rejected without affecting the others
+ */
+class WorkloadRoutingExecutorTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final CountDownLatch release = new CountDownLatch(1);
+	private WorkloadRoutingExecutor executor;
+
+	@AfterEach
+	void tearDown() throws Exception {
+		release.countDown();
+		RequestContextHolder.resetRequestAttributes();
+		if (executor != null) {
+			executor.destroy();
+		}
+	}
+
+	@Test
+	void annotationWinsOverTheHttpMethod() throws Exception {
+		Method reporting = Handlers.class.getMethod("report");
+		Method plain = Handlers.class.getMethod("lookup");
+
+		assertThat(WorkloadRoutingExecutor.classify(reporting, "GET")).isEqualTo(WorkloadClass.REPORTING);
+		assertThat(WorkloadRoutingExecutor.classify(reporting, "POST")).isEqualTo(WorkloadClass.REPORTING);
+		assertThat(WorkloadRoutingExecutor.classify(plain, "GET")).isEqualTo(WorkloadClass.INTERACTIVE);
+		assertThat(WorkloadRoutingExecutor.classify(plain, "HEAD")).isEqualTo(WorkloadClass.INTERACTIVE);
+		for (String method : new String[]{"POST", "PUT", "PATCH", "DELETE"}) {
+			assertThat(WorkloadRoutingExecutor.classify(plain, method)).isEqualTo(WorkloadClass.WRITE);
+		}
+		assertThat(WorkloadRoutingExecutor.classify(null, "GET")).isEqualTo(WorkloadClass.INTERACTIVE);
+	}
+
+	@Test
+	void callableRunsUnderTheClassOfItsHandler() throws Exception {
+		executor = executor(1, 1);
+
+		assertThat(runFor("report", "GET")).isEqualTo(WorkloadClass.REPORTING);
+		assertThat(runFor("lookup", "GET")).isEqualTo(WorkloadClass.INTERACTIVE);
+		assertThat(runFor("lookup", "DELETE")).isEqualTo(WorkloadClass.WRITE);
+	}
+
+	@Test
+	void saturatedClassIsRejectedAloneAndCountedPerClass() throws Exception {
+		executor = executor(1, 1);
+		WorkloadClass previous = WorkloadContext.enter(WorkloadClass.REPORTING);
+		try {
+			CountDownLatch running = new CountDownLatch(1);
+			executor.submit(() -> {
+				running.countDown();
+				release.await(5, TimeUnit.SECONDS);
+				return null;
+			});
+			assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+			executor.submit(() -> null);
+
+			assertThatThrownBy(() -> executor.submit(() -> null)).isInstanceOf(TaskRejectedException.class);
+		} finally {
+			WorkloadContext.restore(previous);
+		}
+
+		assertThat(gauge("workload.executor.active", "reporting")).isEqualTo(1);
+		assertThat(gauge("workload.executor.queued", "reporting")).isEqualTo(1);
+		assertThat(gauge("workload.executor.utilization", "reporting")).isEqualTo(1.0);
+		assertThat(meterRegistry.get("workload.rejected").tag("class", "reporting").counter().count()).isEqualTo(1);
+
+		// Interactive work still has its own slot
+		previous = WorkloadContext.enter(WorkloadClass.INTERACTIVE);
+		try {
+			assertThat(executor.submit(WorkloadContext::current).get(5, TimeUnit.SECONDS))
+					.isEqualTo(WorkloadClass.INTERACTIVE);
+		} finally {
+			WorkloadContext.restore(previous);
+		}
+		assertThat(meterRegistry.get("workload.rejected").tag("class", "interactive").counter().count()).isZero();
+		assertThat(meterRegistry.get("workload.executor.wait").tag("class", "interactive").timers())
+				.anySatisfy(timer -> assertThat(timer.count()).isEqualTo(1));
+	}
+
+	private WorkloadClass runFor(String handler, String httpMethod) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest(httpMethod, "/test");
+		request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+				new HandlerMethod(new Handlers(), Handlers.class.getMethod(handler)));
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+		try {
+			Future<WorkloadClass> result = executor.submit(WorkloadContext::current);
+			return result.get(5, TimeUnit.SECONDS);
+		} finally {
+			RequestContextHolder.resetRequestAttributes();
+		}
+	}
+
+	private double gauge(String name, String workloadClass) {
+		return meterRegistry.get(name).tag("class", workloadClass).gauge().value();
+	}
+
+	private WorkloadRoutingExecutor executor(int threads, int queueCapacity) {
+		Map<WorkloadClass, AsyncTaskExecutor> executors = new EnumMap<>(WorkloadClass.class);
+		Map<WorkloadClass, Integer> slots = new EnumMap<>(WorkloadClass.class);
+		for (WorkloadClass workloadClass : WorkloadClass.values()) {
+			ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+			pool.setCorePoolSize(threads);
+			pool.setMaxPoolSize(threads);
+			pool.setQueueCapacity(queueCapacity);
+			pool.setThreadNamePrefix("test-" + workloadClass.name().toLowerCase() + "-");
+			pool.initialize();
+			executors.put(workloadClass, pool);
+			slots.put(workloadClass, threads);
+		}
+		return new WorkloadRoutingExecutor(executors, slots, meterRegistry);
+	}
+
+	static class Handlers {
+
+		@Workload(WorkloadClass.REPORTING)
+		public void report() {
+		}
+
+		public void lookup() {
+		}
+	}
+}